@@ -0,0 +1,113 @@
+package com.example.yahtzee.Model;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands and scorecards shared by the benchmarks.
+ * <p>
+ * The representative hands cover the patterns every category looks for; the adversarial ones are the hands
+ * the heuristics branch the most on (two pairs, gapped and unsorted straights, near-Yahtzees). Each hand is
+ * played against scorecards at different stages of a game, since the heuristics only consider open categories.
+ * Logging is turned off so that the benchmarks measure the decisions and not the log.
+ * </p>
+ */
+@State(Scope.Thread)
+public class BenchmarkState {
+
+    // *******************************
+    // Parameters
+    // *******************************
+
+    /**
+     * The five dice of the hand, one digit per die.
+     */
+    @Param({
+            // Representative hands.
+            "66666", "22333", "12345", "34566", "44412", "13466",
+            // Adversarial hands.
+            "25256", "12456", "11116", "65432"
+    })
+    public String hand;
+
+    /**
+     * The stage of the game: {@code empty}, {@code upper} (upper section filled), {@code lower}
+     * (lower section filled) or {@code last} (only Yahtzee open).
+     */
+    @Param({ "empty", "upper", "lower", "last" })
+    public String card;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The dice of the hand.
+    public List<Integer> diceValues;
+
+    // The dice kept after the first roll in the second-roll benchmarks: the first two dice of the hand.
+    public List<Integer> keptDice;
+
+    // The dice rolled by the second roll in the second-roll benchmarks: the last three dice of the hand.
+    public List<Integer> rolledDice;
+
+    // The packed face-count histogram of the hand.
+    public int packedDice;
+
+    // The scorecard at the chosen stage.
+    public ScoreCard scoreCard;
+
+    // *******************************
+    // Setup
+    // *******************************
+
+    /**
+     * Builds the hand and the scorecard of the parameters.
+     */
+    @Setup
+    public void setUp() {
+        Logger.setEnabled(false);
+        diceValues = new ArrayList<>();
+        for (char die : hand.toCharArray()) {
+            diceValues.add(die - '0');
+        }
+        keptDice = new ArrayList<>(diceValues.subList(0, 2));
+        rolledDice = new ArrayList<>(diceValues.subList(2, diceValues.size()));
+        packedDice = ScoreTable.pack(diceValues);
+
+        scoreCard = new ScoreCard();
+        int round = 1;
+        for (Category category : Category.values()) {
+            if (isFilled(category)) {
+                scoreCard.chooseCategory(category, diceValues, round % 2 == 0 ? "Human" : "Computer", round);
+                round++;
+            }
+        }
+    }
+
+    /**
+     * Decides whether a category is filled at the chosen stage of the game.
+     *
+     * @param category The category.
+     * @return True if the category is filled before the benchmark starts.
+     */
+    private boolean isFilled(Category category) {
+        boolean upper = category.getFace() > 0;
+        switch (card) {
+            case "empty":
+                return false;
+            case "upper":
+                return upper;
+            case "lower":
+                return !upper;
+            case "last":
+                return category != Category.YAHTZEE;
+            default:
+                throw new IllegalArgumentException("Unknown scorecard: " + card);
+        }
+    }
+}
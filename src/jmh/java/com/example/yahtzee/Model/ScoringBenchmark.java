@@ -0,0 +1,82 @@
+package com.example.yahtzee.Model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the scorecard's scoring methods.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+    /**
+     * The category scored by {@link #calculatePoints(BenchmarkState, CategoryState)}; every category by default.
+     */
+    @State(Scope.Thread)
+    public static class CategoryState {
+        @Param
+        public Category category;
+    }
+
+    /**
+     * Scores the hand in one category from its list of dice.
+     *
+     * @param state    The hand.
+     * @param category The category.
+     * @return The points.
+     */
+    @Benchmark
+    public int calculatePoints(BenchmarkState state, CategoryState category) {
+        return ScoreCard.calculatePoints(category.category, state.diceValues);
+    }
+
+    /**
+     * Scores the hand in one category from its packed histogram.
+     *
+     * @param state    The hand.
+     * @param category The category.
+     * @return The points.
+     */
+    @Benchmark
+    public int calculatePointsPacked(BenchmarkState state, CategoryState category) {
+        return ScoreCard.calculatePoints(category.category, state.packedDice);
+    }
+
+    /**
+     * Finds the best open category for the hand.
+     *
+     * @param state The hand and scorecard.
+     * @return The best category and its points.
+     */
+    @Benchmark
+    public Pair<String, Integer> getBestHands(BenchmarkState state) {
+        return state.scoreCard.getBestHands(state.diceValues);
+    }
+
+    /**
+     * Lists the categories worth pursuing with the hand. The hand is copied as the round does before asking.
+     *
+     * @param state The hand and scorecard.
+     * @return The category names.
+     */
+    @Benchmark
+    public List<String> getCategoriesToPursue(BenchmarkState state) {
+        return state.scoreCard.getCategoriesToPursue(new ArrayList<>(state.diceValues));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.yahtzee.Model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the computer's built-in heuristics and of the hints given to the human.
+ * <p>
+ * The heuristics may reorder or trim the lists they are given, so every call gets fresh copies of the dice,
+ * the same way the game hands them over.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StrategyBenchmark {
+
+    // The computer player, using the built-in heuristics.
+    private final Computer computer = new Computer();
+
+    // The human player, asking for hints.
+    private final Human human = new Human();
+
+    /**
+     * Decides which dice the computer keeps after the first roll.
+     *
+     * @param state The hand and scorecard.
+     * @return The dice to keep and to re-roll.
+     */
+    @Benchmark
+    public Pair<List<Integer>, List<Integer>> computerFirstRollMove(BenchmarkState state) {
+        return computer.firstRollMove(state.scoreCard, new ArrayList<>(state.diceValues));
+    }
+
+    /**
+     * Decides which dice the computer keeps after the second roll, with the first two dice kept earlier.
+     *
+     * @param state The hand and scorecard.
+     * @return The dice to keep and to re-roll.
+     */
+    @Benchmark
+    public Pair<List<Integer>, List<Integer>> computerSecondRollMove(BenchmarkState state) {
+        return computer.secondRollMove(state.scoreCard, new ArrayList<>(state.rolledDice), new ArrayList<>(state.keptDice));
+    }
+
+    /**
+     * Builds the hint for the human after the first roll.
+     *
+     * @param state The hand and scorecard.
+     * @return The hint.
+     */
+    @Benchmark
+    public String humanFirstRollHelp(BenchmarkState state) {
+        return human.firstRollHelp(state.scoreCard, new ArrayList<>(state.diceValues));
+    }
+
+    /**
+     * Builds the hint for the human after the second roll, with the first two dice kept earlier.
+     *
+     * @param state The hand and scorecard.
+     * @return The hint.
+     */
+    @Benchmark
+    public String humanSecondRollHelp(BenchmarkState state) {
+        return human.secondRollHelp(state.scoreCard, new ArrayList<>(state.rolledDice), new ArrayList<>(state.keptDice));
+    }
+}
@@ -0,0 +1,485 @@
+package com.example.yahtzee.Model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Background autosave of the game being played, made of a snapshot and a journal.
+ * <p>
+ * The snapshot ({@value #SNAPSHOT_FILE_NAME}) is a full save in the {@link Serialization} format. After it, every
+ * category scored (or turn passed) appends a small fixed-size record to the journal ({@value #JOURNAL_FILE_NAME}).
+ * At every round boundary the journal is compacted: a new snapshot replaces the old one and the journal is
+ * emptied. {@link #recover(File)} rebuilds the game from the snapshot and the journal, so a game survives the
+ * process being killed, losing at most the turn in progress.
+ * </p>
+ * <p>
+ * The engine thread only encodes the record or snapshot and queues it. A single background thread writes the
+ * queue, so the engine thread never waits for storage. All records queued while that thread is busy are written
+ * together and synced once, so a burst of moves costs one fsync. Records carry the generation of their
+ * snapshot and a checksum. After a crash, records of an older snapshot and a torn last record are ignored.
+ * </p>
+ */
+public final class AutosaveJournal implements Closeable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Name of the snapshot file.
+     */
+    public static final String SNAPSHOT_FILE_NAME = "autosave.snap";
+
+    /**
+     * Name of the journal file.
+     */
+    public static final String JOURNAL_FILE_NAME = "autosave.jnl";
+
+    /**
+     * Size of a journal record: category, seat, points, round, draw count, generation and checksum.
+     */
+    static final int RECORD_SIZE = 25;
+
+    /**
+     * Category byte of a turn passed without a score.
+     */
+    private static final int NO_CATEGORY = 0xFF;
+
+    // *******************************
+    // Class Variables
+    // *******************************
+
+    // The journal of the app's own games.
+    private static AutosaveJournal instance;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The directory holding the snapshot and the journal.
+    private final File directory;
+
+    // The thread writing the queued records and snapshots.
+    private final ExecutorService writer;
+
+    // Records and snapshots waiting to be written, in order; guarded by this.
+    private final List<Object> pending = new ArrayList<>();
+
+    // Whether a write of the pending queue is already scheduled; guarded by this.
+    private boolean writeScheduled;
+
+    // The generation of the latest snapshot, and the dice seed of the game it saved; guarded by this.
+    private long generation;
+    private long snapshotSeed;
+    private boolean hasSnapshot;
+
+    // Whether the autosave was discarded and no game has been snapshotted since; guarded by this.
+    private boolean discarded;
+
+    // The engines a sink is attached to, so that an engine is journaled once however often it is attached;
+    // weak so that the engine of a finished game can be collected. Guarded by this.
+    private final Set<GameEngine> attached = Collections.newSetFromMap(new WeakHashMap<>());
+
+    // The journal file, opened on the writer thread when first needed.
+    private FileChannel journal;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates a journal writing in a directory.
+     *
+     * @param directory The directory holding the snapshot and the journal.
+     */
+    public AutosaveJournal(File directory) {
+        this.directory = directory;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retrieves the journal shared by the app's screens, creating it on first use.
+     *
+     * @param directory The directory holding the snapshot and the journal, the app's files directory.
+     * @return The shared journal.
+     */
+    public static synchronized AutosaveJournal getInstance(File directory) {
+        if (instance == null) {
+            instance = new AutosaveJournal(directory);
+        }
+        return instance;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Starts autosaving a game. A game other than the one of the latest snapshot, told apart by its dice seed,
+     * first gets a new snapshot; attaching another copy of the same game, e.g. one passed between screens, does not.
+     * Attaching an engine that is already attached, e.g. when a screen is recreated, does nothing.
+     *
+     * @param engine The engine of the game.
+     */
+    public synchronized void attach(GameEngine engine) {
+        if (!attached.add(engine)) {
+            return;
+        }
+        if (!hasSnapshot || snapshotSeed != engine.getDice().getSeed()) {
+            snapshot(engine);
+        }
+        engine.addSink(new Sink(engine));
+    }
+
+    /**
+     * Queues a new snapshot of a game, which replaces the previous snapshot and empties the journal.
+     *
+     * @param engine The engine of the game.
+     */
+    public synchronized void snapshot(GameEngine engine) {
+        generation = Math.max(generation + 1, System.currentTimeMillis());
+        snapshotSeed = engine.getDice().getSeed();
+        hasSnapshot = true;
+        discarded = false;
+        byte[] save = Serialization.encode(engine);
+        ByteBuffer snapshot = ByteBuffer.allocate(Long.BYTES + save.length);
+        snapshot.putLong(generation).put(save);
+        enqueue(new Snapshot(snapshot.array()));
+    }
+
+    /**
+     * Queues the removal of the autosave, e.g. once the game is over or saved on purpose.
+     */
+    public synchronized void discard() {
+        hasSnapshot = false;
+        discarded = true;
+        enqueue(new Snapshot(null));
+    }
+
+    /**
+     * Waits until everything queued so far is written and synced.
+     *
+     * @throws InterruptedException If the wait is interrupted.
+     */
+    public void flush() throws InterruptedException {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Autosave failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Writes everything queued and stops the writer thread.
+     *
+     * @throws IOException If the journal cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.shutdown();
+        synchronized (AutosaveJournal.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Checks whether a directory holds an autosave, counting a discard still queued by the shared journal.
+     *
+     * @param directory The directory holding the snapshot and the journal.
+     * @return True if there is a game to recover.
+     */
+    public static boolean exists(File directory) {
+        AutosaveJournal journal;
+        synchronized (AutosaveJournal.class) {
+            journal = instance;
+        }
+        if (journal != null && journal.directory.equals(directory)) {
+            synchronized (journal) {
+                if (journal.discarded) {
+                    return false;
+                }
+            }
+        }
+        return new File(directory, SNAPSHOT_FILE_NAME).isFile();
+    }
+
+    /**
+     * Rebuilds the autosaved game from the snapshot and the journal records written after it.
+     *
+     * @param directory The directory holding the snapshot and the journal.
+     * @return An engine at the start of the turn following the last record, or in the snapshot's state without records.
+     * @throws IOException              If the files cannot be read.
+     * @throws IllegalArgumentException If the snapshot is not valid.
+     */
+    public static GameEngine recover(File directory) throws IOException {
+        ByteBuffer snapshot = ByteBuffer.wrap(readFile(new File(directory, SNAPSHOT_FILE_NAME)));
+        if (snapshot.remaining() < Long.BYTES) {
+            throw new IllegalArgumentException("Autosave snapshot is truncated.");
+        }
+        long snapshotGeneration = snapshot.getLong();
+        GameEngine engine = Serialization.decode(snapshot);
+
+        File journalFile = new File(directory, JOURNAL_FILE_NAME);
+        ByteBuffer records = ByteBuffer.wrap(journalFile.isFile() ? readFile(journalFile) : new byte[0]);
+        ScoreCard scoreCard = engine.getScoreCard();
+        ScoreCardState state = scoreCard.getState();
+        CRC32 crc = new CRC32();
+        int round = engine.getRoundNumber();
+        int firstSeat = scoreCard.seatOf(engine.getFirstPlayer().getName());
+        boolean isRoundOver = engine.getPhase() == GameEngine.Phase.ROUND_OVER;
+        long drawCount = engine.getDice().getDrawCount();
+        int applied = 0;
+        while (records.remaining() >= RECORD_SIZE) {
+            crc.reset();
+            crc.update(records.array(), records.position(), RECORD_SIZE - Integer.BYTES);
+            int category = records.get() & 0xFF;
+            int seat = records.get() & 1;
+            int points = records.get();
+            int recordRound = records.getShort() & 0xFFFF;
+            long recordDrawCount = records.getLong();
+            long recordGeneration = records.getLong();
+            if (records.getInt() != (int) crc.getValue()) {
+                // A torn write at the end of the journal.
+                break;
+            }
+            if (recordGeneration != snapshotGeneration) {
+                continue;
+            }
+            if (category != NO_CATEGORY) {
+                state.fill(category, seat, points, recordRound);
+            }
+            if (isRoundOver) {
+                // The first turn of a round decides its turn order.
+                firstSeat = seat;
+            }
+            isRoundOver = seat != firstSeat;
+            round = recordRound;
+            drawCount = recordDrawCount;
+            applied++;
+        }
+        if (applied == 0) {
+            return engine;
+        }
+
+        scoreCard.setState(state);
+        GameState game = engine.getGame();
+        game.setRoundNumber(round);
+        Player[] seats = new Player[2];
+        seats[scoreCard.seatOf(engine.getFirstPlayer().getName())] = engine.getFirstPlayer();
+        seats[scoreCard.seatOf(engine.getSecondPlayer().getName())] = engine.getSecondPlayer();
+        Player first = seats[firstSeat];
+        Player second = seats[1 - firstSeat];
+        GameEngine.Phase phase = game.isGameOver() ? GameEngine.Phase.GAME_OVER
+                : isRoundOver ? GameEngine.Phase.ROUND_OVER : GameEngine.Phase.ROLL;
+        return new GameEngine(game, first, second, second, phase, 0, new int[GameEngine.DICE_COUNT], 0, 0,
+                new Dice(engine.getDice().getSeed(), drawCount));
+    }
+
+    /**
+     * Queues a journal record for a turn just ended.
+     *
+     * @param engine The engine of the game.
+     * @param event  The score, or pass, ending the turn.
+     */
+    private synchronized void record(GameEngine engine, ScoreEvent event) {
+        if (!hasSnapshot) {
+            return;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.put((byte) (event.isPassed() ? NO_CATEGORY : event.getCategory().ordinal()));
+        record.put((byte) engine.getScoreCard().seatOf(event.getPlayer()));
+        record.put((byte) event.getPoints());
+        record.putShort((short) event.getRound());
+        record.putLong(engine.getDice().getDrawCount());
+        record.putLong(generation);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, RECORD_SIZE - Integer.BYTES);
+        record.putInt((int) crc.getValue());
+        enqueue(record.array());
+    }
+
+    /**
+     * Adds a record or snapshot to the queue and schedules a write unless one is already scheduled.
+     *
+     * @param operation A record as a byte array, or a {@link Snapshot}.
+     */
+    private synchronized void enqueue(Object operation) {
+        pending.add(operation);
+        if (!writeScheduled) {
+            writeScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the queue on the writer thread: the latest snapshot only, then the records queued after it, synced once.
+     */
+    private void writePending() {
+        List<Object> operations;
+        synchronized (this) {
+            operations = new ArrayList<>(pending);
+            pending.clear();
+            writeScheduled = false;
+        }
+        int latestSnapshot = -1;
+        for (int i = 0; i < operations.size(); i++) {
+            if (operations.get(i) instanceof Snapshot) {
+                latestSnapshot = i;
+            }
+        }
+        try {
+            if (latestSnapshot >= 0) {
+                writeSnapshot(((Snapshot) operations.get(latestSnapshot)).data);
+            }
+            int count = operations.size() - latestSnapshot - 1;
+            if (count > 0) {
+                ByteBuffer records = ByteBuffer.allocate(count * RECORD_SIZE);
+                for (int i = latestSnapshot + 1; i < operations.size(); i++) {
+                    records.put((byte[]) operations.get(i));
+                }
+                records.flip();
+                FileChannel channel = openJournal();
+                while (records.hasRemaining()) {
+                    channel.write(records);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            Logger.log("Autosave failed: %s", String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * Replaces the snapshot and empties the journal, or removes both.
+     *
+     * @param data The new snapshot, or null to remove the autosave.
+     * @throws IOException If the files cannot be written.
+     */
+    private void writeSnapshot(byte[] data) throws IOException {
+        File file = new File(directory, SNAPSHOT_FILE_NAME);
+        if (data == null) {
+            if (journal != null) {
+                journal.close();
+                journal = null;
+            }
+            new File(directory, JOURNAL_FILE_NAME).delete();
+            file.delete();
+            return;
+        }
+        File temporary = new File(directory, SNAPSHOT_FILE_NAME + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(temporary)) {
+            fos.write(data);
+            fos.getFD().sync();
+        }
+        if (!temporary.renameTo(file)) {
+            throw new IOException("Cannot replace " + file + ".");
+        }
+        // Records of the previous snapshot are ignored by their generation even if this truncation is lost.
+        openJournal().truncate(0);
+    }
+
+    /**
+     * Opens the journal for appending, if not already open.
+     *
+     * @return The journal channel.
+     * @throws IOException If the journal cannot be opened.
+     */
+    private FileChannel openJournal() throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(new File(directory, JOURNAL_FILE_NAME).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return journal;
+    }
+
+    /**
+     * Reads a whole file.
+     *
+     * @param file The file.
+     * @return The content of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private static byte[] readFile(File file) throws IOException {
+        try (FileInputStream fis = new FileInputStream(file)) {
+            FileChannel channel = fis.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read the whole file into the buffer.
+            }
+            return buffer.array();
+        }
+    }
+
+    // *******************************
+    // Nested Types
+    // *******************************
+
+    /**
+     * A queued snapshot, or the removal of the autosave.
+     */
+    private static final class Snapshot {
+
+        // The generation followed by the save, or null to remove the autosave.
+        private final byte[] data;
+
+        private Snapshot(byte[] data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * Sink bound to one engine, journaling its turns and compacting the journal at its round boundaries.
+     */
+    private final class Sink implements GameEventSink {
+
+        // The engine whose events the sink receives.
+        private final GameEngine engine;
+
+        private Sink(GameEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public void onScore(ScoreEvent event) {
+            record(engine, event);
+        }
+
+        @Override
+        public void onRoundEnd(RoundEndEvent event) {
+            if (event.isGameOver()) {
+                discard();
+            } else {
+                snapshot(engine);
+            }
+        }
+    }
+}
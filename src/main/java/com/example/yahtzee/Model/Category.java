@@ -0,0 +1,241 @@
+package com.example.yahtzee.Model;
+
+import java.util.List;
+
+/**
+ * The twelve scoring categories of the scorecard, in scorecard order.
+ * <p>
+ * Each category knows its display name, which is also the name used by the save format and the UI,
+ * and how to score a packed face-count histogram (see {@link ScoreTable#pack(List)}).
+ * The ordinal of a category is its row in the scorecard and its column in the {@link ScoreTable}.
+ * </p>
+ */
+public enum Category {
+
+    ACES("Aces") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return upperSection(packedDice, 1);
+        }
+    },
+    TWOS("Twos") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return upperSection(packedDice, 2);
+        }
+    },
+    THREES("Threes") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return upperSection(packedDice, 3);
+        }
+    },
+    FOURS("Fours") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return upperSection(packedDice, 4);
+        }
+    },
+    FIVES("Fives") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return upperSection(packedDice, 5);
+        }
+    },
+    SIXES("Sixes") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return upperSection(packedDice, 6);
+        }
+    },
+    THREE_OF_A_KIND("Three of a Kind") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return maxCount(packedDice) >= 3 ? sum(packedDice) : 0;
+        }
+    },
+    FOUR_OF_A_KIND("Four of a Kind") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return maxCount(packedDice) >= 4 ? sum(packedDice) : 0;
+        }
+    },
+    FULL_HOUSE("Full House") {
+        @Override
+        public int scoreOf(int packedDice) {
+            boolean hasTwo = false;
+            boolean hasThree = false;
+            for (int face = 1; face <= 6; face++) {
+                int count = ScoreTable.count(packedDice, face);
+                hasTwo |= count == 2;
+                hasThree |= count == 3;
+            }
+            return hasThree && hasTwo ? 25 : 0;
+        }
+    },
+    FOUR_STRAIGHT("Four Straight") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return longestRun(packedDice) >= 4 ? 30 : 0;
+        }
+    },
+    FIVE_STRAIGHT("Five Straight") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return maxCount(packedDice) == 1 && longestRun(packedDice) == 5 && distinctFaces(packedDice) == 5 ? 40 : 0;
+        }
+    },
+    YAHTZEE("Yahtzee") {
+        @Override
+        public int scoreOf(int packedDice) {
+            return maxCount(packedDice) >= 5 ? 50 : 0;
+        }
+    };
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Cached copy of {@link #values()}, so that lookups by ordinal do not clone the array.
+     */
+    private static final Category[] VALUES = values();
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    /**
+     * The name shown on the scorecard and written to save files.
+     */
+    private final String displayName;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    Category(String displayName) {
+        this.displayName = displayName;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the name shown on the scorecard.
+     *
+     * @return The display name of the category.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retrieves the face counted by an upper-section category.
+     *
+     * @return The face value from 1 to 6, or 0 for lower-section categories.
+     */
+    public int getFace() {
+        return ordinal() <= SIXES.ordinal() ? ordinal() + 1 : 0;
+    }
+
+    /**
+     * Retrieves the category stored at a scorecard row.
+     *
+     * @param ordinal The row of the category, from 0 to 11.
+     * @return The category at the row.
+     */
+    public static Category fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Finds the category with the given display name.
+     *
+     * @param name The display name, e.g. "Four Straight".
+     * @return The matching category, or null if the name is not a category.
+     */
+    public static Category fromName(String name) {
+        for (Category category : VALUES) {
+            if (category.displayName.equals(name)) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the display name so that categories read naturally in log and hint messages.
+     *
+     * @return The display name of the category.
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Computes the score of a packed face-count histogram in this category.
+     *
+     * @param packedDice The packed face-count histogram of the dice.
+     * @return The points the dice would score. Returns 0 if the criteria for the category are not met.
+     */
+    public abstract int scoreOf(int packedDice);
+
+    /**
+     * Looks up the score of a list of dice in this category through the precomputed {@link ScoreTable}.
+     *
+     * @param diceValues A list of integers representing the dice values.
+     * @return The points the dice would score.
+     */
+    public int points(List<Integer> diceValues) {
+        int packedDice = ScoreTable.pack(diceValues);
+        int hand = ScoreTable.indexOf(packedDice);
+        return hand >= 0 ? ScoreTable.score(ordinal(), hand) : scoreOf(packedDice);
+    }
+
+    private static int upperSection(int packedDice, int face) {
+        return ScoreTable.count(packedDice, face) * face;
+    }
+
+    private static int sum(int packedDice) {
+        int sum = 0;
+        for (int face = 1; face <= 6; face++) {
+            sum += ScoreTable.count(packedDice, face) * face;
+        }
+        return sum;
+    }
+
+    private static int maxCount(int packedDice) {
+        int maxCount = 0;
+        for (int face = 1; face <= 6; face++) {
+            maxCount = Math.max(maxCount, ScoreTable.count(packedDice, face));
+        }
+        return maxCount;
+    }
+
+    private static int distinctFaces(int packedDice) {
+        int distinct = 0;
+        for (int face = 1; face <= 6; face++) {
+            if (ScoreTable.count(packedDice, face) > 0) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private static int longestRun(int packedDice) {
+        int run = 0;
+        int longestRun = 0;
+        for (int face = 1; face <= 6; face++) {
+            run = ScoreTable.count(packedDice, face) > 0 ? run + 1 : 0;
+            longestRun = Math.max(longestRun, run);
+        }
+        return longestRun;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.yahtzee.Model;
+
+/**
+ * The chances of each open category of a scorecard for the dice kept and the rolls left, as returned by
+ * {@link ScoreCard#getCompletionOdds(int, int)}.
+ * <p>
+ * The odds are read from the {@link CompletionTable} when asked for, so creating them costs nothing more than
+ * the object itself.
+ * </p>
+ */
+public final class CompletionOdds {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Bitmask of the open categories when the odds were taken.
+    private final int openMask;
+
+    // The keep index of the dice kept.
+    private final int keep;
+
+    // The number of rolls left in the turn.
+    private final int rollsLeft;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates the odds of a position.
+     *
+     * @param openMask  Bitmask of open categories.
+     * @param keep      The keep index of the dice kept.
+     * @param rollsLeft The number of rolls left in the turn, from 0 to 3.
+     */
+    CompletionOdds(int openMask, int keep, int rollsLeft) {
+        this.openMask = openMask;
+        this.keep = keep;
+        this.rollsLeft = rollsLeft;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Checks whether a category was open.
+     *
+     * @param category The category.
+     * @return True if nobody had filled the category.
+     */
+    public boolean isOpen(Category category) {
+        return (openMask & (1 << category.ordinal())) != 0;
+    }
+
+    /**
+     * Retrieves the probability of scoring in a category by the end of the turn.
+     *
+     * @param category The category.
+     * @return The probability, from 0 to 1, under the play most likely to score the category; 0 if it is filled.
+     */
+    public double getProbability(Category category) {
+        return isOpen(category) ? CompletionTable.probability(category.ordinal(), keep, rollsLeft) : 0;
+    }
+
+    /**
+     * Retrieves the points expected in a category by the end of the turn.
+     *
+     * @param category The category.
+     * @return The expected points under the play that maximizes them; 0 if the category is filled.
+     */
+    public double getExpectedPoints(Category category) {
+        return isOpen(category) ? CompletionTable.expectedPoints(category.ordinal(), keep, rollsLeft) : 0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Exact chances of each category for every keep and number of rolls left.
+ * <p>
+ * For a category, the dice kept and the rolls left, the table holds the probability of ending the turn on a
+ * hand that scores in the category and the points expected in it, each under the play that is best for that
+ * figure, with kept dice staying kept for the rest of the turn. The values are computed once per process from
+ * the {@link TransitionTable} and read in constant time.
+ * </p>
+ */
+public final class CompletionTable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    // Probability of scoring each category from each keep, at [rollsLeft - 1][category * KEEP_COUNT + keep].
+    private static final double[][] PROBABILITIES = new double[2][ScoreTable.CATEGORY_COUNT * TransitionTable.KEEP_COUNT];
+
+    // Expected points of each category from each keep, laid out as the probabilities.
+    private static final double[][] POINTS = new double[2][ScoreTable.CATEGORY_COUNT * TransitionTable.KEEP_COUNT];
+
+    // Probability of scoring, and expected points of, each category over a whole turn.
+    private static final double[] TURN_PROBABILITIES = new double[ScoreTable.CATEGORY_COUNT];
+    private static final double[] TURN_POINTS = new double[ScoreTable.CATEGORY_COUNT];
+
+    static {
+        ExpectedValueSolver solver = new ExpectedValueSolver();
+        double[] values = new double[ScoreTable.HAND_COUNT];
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+                values[hand] = ScoreTable.score(category, hand) > 0 ? 1 : 0;
+            }
+            solver.prepare(values);
+            store(solver, category, PROBABILITIES, TURN_PROBABILITIES);
+
+            for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+                values[hand] = ScoreTable.score(category, hand);
+            }
+            solver.prepare(values);
+            store(solver, category, POINTS, TURN_POINTS);
+        }
+    }
+
+    private CompletionTable() {
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Retrieves the probability of scoring in a category.
+     *
+     * @param category  The category ordinal.
+     * @param keep      The keep index of the dice kept; with no rolls left, all five dice.
+     * @param rollsLeft The number of rolls left in the turn, from 0 to 3; with 3 nothing can be kept yet.
+     * @return The probability of ending the turn on a hand that scores in the category.
+     */
+    public static double probability(int category, int keep, int rollsLeft) {
+        if (rollsLeft <= 0) {
+            return finalScore(category, keep) > 0 ? 1 : 0;
+        }
+        if (rollsLeft >= GameEngine.MAX_ROLLS) {
+            return TURN_PROBABILITIES[category];
+        }
+        return PROBABILITIES[rollsLeft - 1][category * TransitionTable.KEEP_COUNT + keep];
+    }
+
+    /**
+     * Retrieves the points expected in a category.
+     *
+     * @param category  The category ordinal.
+     * @param keep      The keep index of the dice kept; with no rolls left, all five dice.
+     * @param rollsLeft The number of rolls left in the turn, from 0 to 3; with 3 nothing can be kept yet.
+     * @return The expected points of the category at the end of the turn.
+     */
+    public static double expectedPoints(int category, int keep, int rollsLeft) {
+        if (rollsLeft <= 0) {
+            return finalScore(category, keep);
+        }
+        if (rollsLeft >= GameEngine.MAX_ROLLS) {
+            return TURN_POINTS[category];
+        }
+        return POINTS[rollsLeft - 1][category * TransitionTable.KEEP_COUNT + keep];
+    }
+
+    /**
+     * Scores a keep of five dice, i.e. a final hand.
+     *
+     * @param category The category ordinal.
+     * @param keep     The keep index of the hand.
+     * @return The points of the hand in the category.
+     * @throws IllegalArgumentException If the keep does not hold five dice.
+     */
+    private static int finalScore(int category, int keep) {
+        int hand = ScoreTable.indexOf(TransitionTable.keepAt(keep));
+        if (hand < 0) {
+            throw new IllegalArgumentException("No rolls are left, so all five dice must be kept.");
+        }
+        return ScoreTable.score(category, hand);
+    }
+
+    /**
+     * Copies the values of a prepared solver for one category into the tables.
+     *
+     * @param solver   The solver prepared with the value of each hand in the category.
+     * @param category The category ordinal.
+     * @param keeps    The tables of keep values, by rolls left.
+     * @param turns    The table of turn values.
+     */
+    private static void store(ExpectedValueSolver solver, int category, double[][] keeps, double[] turns) {
+        for (int keep = 0; keep < TransitionTable.KEEP_COUNT; keep++) {
+            keeps[0][category * TransitionTable.KEEP_COUNT + keep] = solver.getKeepValue(keep, 1);
+            keeps[1][category * TransitionTable.KEEP_COUNT + keep] = solver.getKeepValue(keep, 2);
+        }
+        turns[category] = solver.getTurnValue();
+    }
+}
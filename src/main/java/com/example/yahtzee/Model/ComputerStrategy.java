@@ -0,0 +1,103 @@
+package com.example.yahtzee.Model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A way for the {@link Computer} to play its turn: which dice to keep after each roll and which category to score.
+ * A computer without a strategy plays with its built-in heuristics.
+ */
+public interface ComputerStrategy extends Serializable {
+
+    /**
+     * Decides which dice to keep and which to re-roll after the first roll.
+     *
+     * @param scoreCard         The scorecard of the game being played.
+     * @param currentDiceValues List of integers representing the dice values rolled in the first roll.
+     * @return A Pair containing:
+     *         - List of integers for dice to keep.
+     *         - List of integers for dice to re-roll.
+     */
+    Pair<List<Integer>, List<Integer>> firstRollMove(ScoreCard scoreCard, List<Integer> currentDiceValues);
+
+    /**
+     * Decides which dice to keep and which to re-roll after the second roll.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param rolledDice List of integers representing the dice values from the second roll.
+     * @param keptDice   List of integers representing the dice values kept after the first roll.
+     * @return A Pair containing:
+     *         - List of integers for dice to keep, including the dice kept after the first roll.
+     *         - List of integers for dice to re-roll.
+     */
+    Pair<List<Integer>, List<Integer>> secondRollMove(ScoreCard scoreCard, List<Integer> rolledDice, List<Integer> keptDice);
+
+    /**
+     * Decides which category to score the final dice in.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param diceValues List of integers representing the final dice values.
+     * @return The category to score, or null if no available category scores any points.
+     */
+    Category chooseCategory(ScoreCard scoreCard, List<Integer> diceValues);
+
+    /**
+     * Decides which dice to keep after a roll, on packed face-count histograms.
+     * The default adapts the packed dice to {@link #firstRollMove} or {@link #secondRollMove}; strategies that
+     * work on histograms override it to decide without allocating.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param packedKept The packed histogram of the dice kept earlier in the turn.
+     * @param packedDice The packed histogram of all five dice on the table, including the kept dice.
+     * @param rollsLeft  The number of rolls left in the turn, 2 after the first roll and 1 after the second.
+     * @return The packed histogram of the dice to keep, including the dice kept earlier.
+     */
+    default int chooseKeep(ScoreCard scoreCard, int packedKept, int packedDice, int rollsLeft) {
+        Pair<List<Integer>, List<Integer>> move = rollsLeft == 2
+                ? firstRollMove(scoreCard, ScoreTable.toList(packedDice))
+                : secondRollMove(scoreCard, ScoreTable.toList(packedDice - packedKept), ScoreTable.toList(packedKept));
+        return ScoreTable.pack(move.getKey());
+    }
+
+    /**
+     * Decides which category to score the final dice in, on a packed face-count histogram.
+     * The default adapts the packed dice to {@link #chooseCategory(ScoreCard, List)}.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param packedDice The packed histogram of the final dice.
+     * @return The category to score, or null if no available category scores any points.
+     */
+    default Category chooseCategory(ScoreCard scoreCard, int packedDice) {
+        return chooseCategory(scoreCard, ScoreTable.toList(packedDice));
+    }
+
+    /**
+     * Decides which dice to keep after a roll, knowing whose turn it is. Strategies that look beyond the current
+     * turn need the player and the order of the round; the default ignores them.
+     *
+     * @param scoreCard    The scorecard of the game being played.
+     * @param player       The name of the player whose turn it is.
+     * @param firstInRound True if the opponent still plays in this round after this turn.
+     * @param packedKept   The packed histogram of the dice kept earlier in the turn.
+     * @param packedDice   The packed histogram of all five dice on the table, including the kept dice.
+     * @param rollsLeft    The number of rolls left in the turn, 2 after the first roll and 1 after the second.
+     * @return The packed histogram of the dice to keep, including the dice kept earlier.
+     */
+    default int chooseKeep(ScoreCard scoreCard, String player, boolean firstInRound, int packedKept, int packedDice, int rollsLeft) {
+        return chooseKeep(scoreCard, packedKept, packedDice, rollsLeft);
+    }
+
+    /**
+     * Decides which category to score the final dice in, knowing whose turn it is. The default ignores the player
+     * and the order of the round.
+     *
+     * @param scoreCard    The scorecard of the game being played.
+     * @param player       The name of the player whose turn it is.
+     * @param firstInRound True if the opponent still plays in this round after this turn.
+     * @param packedDice   The packed histogram of the final dice.
+     * @return The category to score, or null if no available category scores any points.
+     */
+    default Category chooseCategory(ScoreCard scoreCard, String player, boolean firstInRound, int packedDice) {
+        return chooseCategory(scoreCard, packedDice);
+    }
+}
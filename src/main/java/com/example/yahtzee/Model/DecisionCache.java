@@ -0,0 +1,169 @@
+package com.example.yahtzee.Model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of the {@link Move}s of the {@link DecisionEngine}, keyed by a packed position.
+ * <p>
+ * A decision depends only on the open categories, the dice on the table, the dice kept earlier in the turn and
+ * the rolls left, which {@link #keyOf(int, int, int, int)} packs into a single int. The cache is direct-mapped:
+ * each key has one slot, and a new move replaces the one in its slot, so the cache never grows past its
+ * capacity. A slot holds an immutable entry that is replaced whole, so lookups and insertions need no lock;
+ * two threads missing the same position at once merely compute the same move twice.
+ * </p>
+ */
+public final class DecisionCache {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of slots of the cache shared by the players, about 1.5 MB of entries when full.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 15;
+
+    // Bit offsets of the fields of a key: hand index, then keep index, then open categories, then rolls left.
+    private static final int KEPT_SHIFT = 8;
+    private static final int OPEN_SHIFT = 17;
+    private static final int ROLLS_SHIFT = 29;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The cached entries, indexed by the hashed key; null for an empty slot.
+    private final Entry[] slots;
+
+    // Number of lookups that found their move, and that did not.
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity The number of slots, rounded up to a power of two.
+     */
+    public DecisionCache(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        slots = new Entry[size < capacity ? size << 1 : size];
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the number of slots.
+     *
+     * @return The capacity of the cache.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Retrieves the number of lookups that found their move.
+     *
+     * @return The number of hits since the cache was created or cleared.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of lookups that did not find their move.
+     *
+     * @return The number of misses since the cache was created or cleared.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Packs a position into a cache key.
+     *
+     * @param openMask   Bitmask of open categories.
+     * @param packedKept The packed histogram of the dice kept earlier in the turn, ignored with two rolls left.
+     * @param packedDice The packed histogram of all five dice on the table.
+     * @param rollsLeft  The number of rolls left in the turn, 1 or 2.
+     * @return The key, a non-negative int.
+     */
+    public static int keyOf(int openMask, int packedKept, int packedDice, int rollsLeft) {
+        // Nothing is kept before the first decision, so its keep is always the empty one.
+        int kept = ExpectedValueSolver.keepIndexOf(rollsLeft >= 2 ? 0 : packedKept);
+        return (rollsLeft << ROLLS_SHIFT) | (openMask << OPEN_SHIFT) | (kept << KEPT_SHIFT) | ScoreTable.indexOf(packedDice);
+    }
+
+    /**
+     * Looks up the move of a position.
+     *
+     * @param key The key of the position.
+     * @return The cached move, or null if it is not cached.
+     */
+    public Move get(int key) {
+        Entry entry = slots[slotOf(key)];
+        if (entry != null && entry.key == key) {
+            hits.increment();
+            return entry.move;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the move of a position, evicting the move that shared its slot.
+     *
+     * @param key  The key of the position.
+     * @param move The move.
+     */
+    public void put(int key, Move move) {
+        slots[slotOf(key)] = new Entry(key, move);
+    }
+
+    /**
+     * Empties the cache and resets its counters.
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Finds the slot of a key, spreading neighbouring keys over the table.
+     *
+     * @param key The key.
+     * @return The slot index.
+     */
+    private int slotOf(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    /**
+     * A cached move with the key of its position.
+     */
+    private static final class Entry {
+
+        private final int key;
+        private final Move move;
+
+        private Entry(int key, Move move) {
+            this.key = key;
+            this.move = move;
+        }
+    }
+}
@@ -0,0 +1,2197 @@
+package com.example.yahtzee.Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The keep/reroll decisions of the built-in heuristics, shared by the {@link Computer}, which plays them, and the
+ * {@link Human}, who is shown them as hints.
+ * <p>
+ * A decision depends only on the open categories of the scorecard and on the dice, and comes back as a compact
+ * {@link Move}. The heuristics pick the dice to keep and record the {@link Move.Reason} of the branch that picked
+ * them, which the hints and the computer's log put into words; the target category and its expected points are
+ * then read from the {@link CompletionTable}, which holds for every category and keep the points expected when
+ * that category alone is pursued for the rest of the turn.
+ * </p>
+ * <p>
+ * Moves are kept in a shared {@link DecisionCache}, so a position met again, by either player or in another
+ * game, costs a lookup.
+ * </p>
+ */
+public final class DecisionEngine {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Moves already decided, shared by every player; a decision depends only on the position it is keyed by.
+     */
+    private static final DecisionCache CACHE = new DecisionCache(DecisionCache.DEFAULT_CAPACITY);
+
+    private DecisionEngine() {
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Decides which dice to keep after a roll.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param packedKept The packed histogram of the dice kept earlier in the turn, 0 after the first roll.
+     * @param packedDice The packed histogram of all five dice on the table, including the kept dice.
+     * @param rollsLeft  The number of rolls left in the turn, 2 after the first roll and 1 after the second.
+     * @return The move to play.
+     */
+    public static Move decide(ScoreCard scoreCard, int packedKept, int packedDice, int rollsLeft) {
+        int openMask = scoreCard.getOpenMask();
+        int key = DecisionCache.keyOf(openMask, packedKept, packedDice, rollsLeft);
+        Move cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Rationale rationale = new Rationale();
+        Pair<List<Integer>, List<Integer>> move = rollsLeft == 2
+                ? firstRollMove(scoreCard, ScoreTable.toList(packedDice), rationale)
+                : secondRollMove(scoreCard, ScoreTable.toList(packedDice - packedKept), ScoreTable.toList(packedKept), rationale);
+        Move decided = toMove(openMask, ScoreTable.pack(move.getKey()), rollsLeft, rationale.reason, rationale.detail);
+        CACHE.put(key, decided);
+        return decided;
+    }
+
+    /**
+     * Retrieves the cache of decisions shared by all players, e.g. to read its hit and miss counters.
+     *
+     * @return The decision cache.
+     */
+    public static DecisionCache getCache() {
+        return CACHE;
+    }
+
+    /**
+     * Completes a keep with the open category it is best played for. Ties go to the later category, as in
+     * {@link ScoreCard#getBestCategory(int)}.
+     *
+     * @param openMask  Bitmask of open categories.
+     * @param keep      The packed histogram of the dice to keep.
+     * @param rollsLeft The number of rolls left in the turn.
+     * @return The move keeping the dice, without a reason.
+     */
+    public static Move toMove(int openMask, int keep, int rollsLeft) {
+        return toMove(openMask, keep, rollsLeft, null, 0);
+    }
+
+    /**
+     * Completes a keep with the open category it is best played for and the reason it was chosen.
+     *
+     * @param openMask  Bitmask of open categories.
+     * @param keep      The packed histogram of the dice to keep.
+     * @param rollsLeft The number of rolls left in the turn.
+     * @param reason    The reason for the keep, or null.
+     * @param detail    The detail of the reason, see {@link Move#getDetail()}.
+     * @return The move keeping the dice.
+     */
+    private static Move toMove(int openMask, int keep, int rollsLeft, Move.Reason reason, int detail) {
+        int keepIndex = TransitionTable.keepIndexOf(keep);
+        Category target = null;
+        double expectedValue = 0;
+        for (int mask = openMask; mask != 0; mask &= mask - 1) {
+            int category = Integer.numberOfTrailingZeros(mask);
+            double value = CompletionTable.expectedPoints(category, keepIndex, rollsLeft);
+            if (value > 0 && value >= expectedValue) {
+                target = Category.fromOrdinal(category);
+                expectedValue = value;
+            }
+        }
+        return new Move(keep, target, expectedValue, reason, detail);
+    }
+
+    /**
+     * Evaluates the dice after the first roll to decide which dice to keep and which to re-roll, based on the
+     * highest-scoring category available.
+     *
+     * @param scoreCard         The scorecard of the game being played.
+     * @param currentDiceValues List of integers representing the dice values rolled in the first roll.
+     * @param rationale         Receives the reason for the keep.
+     * @return A Pair containing:
+     *         - List of integers for dice to keep.
+     *         - List of integers for dice to re-roll.
+     */
+    private static Pair<List<Integer>, List<Integer>> firstRollMove(ScoreCard scoreCard, List<Integer> currentDiceValues, Rationale rationale) {
+        List<Integer> diceToRollAgain = new ArrayList<>();
+        List<Integer> diceToKeep = new ArrayList<>();
+
+        Pair<Category, Integer> bestHands = scoreCard.getBestHand(currentDiceValues);
+        if (bestHands == null) {
+            throw new IllegalStateException("ScoreCard.getBestHand() returned null.");
+        }
+        Category bestCategory = bestHands.getKey();
+        int currentMaximumPoints = bestHands.getValue();
+
+        Map<Integer, Integer> diceCount = new HashMap<>();
+        for (int value : currentDiceValues) {
+            diceCount.put(value, diceCount.getOrDefault(value, 0) + 1);
+        }
+
+        if (bestCategory == Category.YAHTZEE) {
+            rationale.set(Move.Reason.STAND_YAHTZEE);
+            diceToKeep = new ArrayList<>(currentDiceValues);
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FIVE_STRAIGHT) {
+            rationale.set(Move.Reason.STAND_FIVE_STRAIGHT);
+            diceToKeep = new ArrayList<>(currentDiceValues);
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FOUR_STRAIGHT) {
+            Set<Integer> temp = new HashSet<>();
+
+            if (!scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT)) {
+                rationale.set(Move.Reason.STAND_FOUR_STRAIGHT);
+                diceToKeep = new ArrayList<>(currentDiceValues);
+            } else {
+                rationale.set(Move.Reason.WANT_FIVE_STRAIGHT);
+
+                for (int value : currentDiceValues) {
+                    temp.add(value);
+                }
+
+                if (temp.size() == 4) {
+                    for (int dice : temp) {
+                        if (Collections.frequency(currentDiceValues, dice) == 2) {
+                            diceToRollAgain.add(dice);
+                        }
+                        diceToKeep.add(dice);
+                    }
+                } else {
+                    List<Integer> sortedDice = new ArrayList<>(currentDiceValues);
+                    Collections.sort(sortedDice);
+
+                    if (sortedDice.get(0) == 1 && sortedDice.get(1) == 2) {
+                        diceToRollAgain.add(sortedDice.get(4));
+                        diceToKeep.addAll(sortedDice.subList(0, 4));
+                    } else {
+                        diceToRollAgain.add(sortedDice.get(0));
+                        diceToKeep.addAll(sortedDice.subList(1, 5));
+                    }
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FULL_HOUSE) {
+            rationale.set(Move.Reason.STAND_FULL_HOUSE);
+            diceToKeep = new ArrayList<>(currentDiceValues);
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FOUR_OF_A_KIND) {
+            int nonFourKindValue = -1;
+            int fourKindValue = -1;
+            for (Map.Entry<Integer, Integer> entry : diceCount.entrySet()) {
+                if (entry.getValue() == 1) {
+                    nonFourKindValue = entry.getKey();
+                } else {
+                    fourKindValue = entry.getKey();
+                }
+            }
+
+            if (nonFourKindValue != -1) {
+                if (scoreCard.isCategoryAvailable(Category.YAHTZEE)) {
+                    rationale.set(Move.Reason.ATTEMPT_YAHTZEE_WITH_FOUR);
+                    for (int die : currentDiceValues) {
+                        if (die == fourKindValue) {
+                            diceToKeep.add(die);
+                        } else {
+                            diceToRollAgain.add(die);
+                        }
+                    }
+                } else if (nonFourKindValue != 6) {
+                    rationale.set(Move.Reason.REROLL_ODD_DIE, nonFourKindValue);
+                    diceToRollAgain.add(nonFourKindValue);
+                    for (int die : currentDiceValues) {
+                        if (die == fourKindValue) {
+                            diceToKeep.add(die);
+                        }
+                    }
+                } else {
+                    rationale.set(Move.Reason.STAND_ODD_SIX);
+                    diceToKeep = new ArrayList<>(currentDiceValues);
+                }
+            } else {
+                if (currentDiceValues.get(0) < 4) {
+                    rationale.set(Move.Reason.REROLL_FOR_SUM);
+                    diceToKeep.addAll(currentDiceValues.subList(0, 4));
+                    diceToRollAgain.add(currentDiceValues.get(4));
+                } else {
+                    rationale.set(Move.Reason.CHOOSE_FOUR_OF_A_KIND);
+                    diceToKeep = new ArrayList<>(currentDiceValues);
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.THREE_OF_A_KIND) {
+            int threeKindValue = -1;
+            for (Map.Entry<Integer, Integer> entry : diceCount.entrySet()) {
+                if (entry.getValue() >= 3) {
+                    threeKindValue = entry.getKey();
+                }
+            }
+
+            int fullHousePoints = ScoreCard.calculatePoints(Category.FULL_HOUSE, currentDiceValues);
+
+            if (currentMaximumPoints > fullHousePoints && fullHousePoints == 25) {
+                rationale.set(Move.Reason.CHOOSE_THREE_OVER_FULL_HOUSE);
+                diceToKeep = new ArrayList<>(currentDiceValues);
+                return new Pair<>(diceToKeep, diceToRollAgain);
+            }
+
+            if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                if (scoreCard.isCategoryAvailable(Category.YAHTZEE) && scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                    if (diceCount.get(threeKindValue) == 3) {
+                        rationale.set(Move.Reason.ATTEMPT_YAHTZEE_OR_FULL_HOUSE);
+                    } else {
+                        rationale.set(Move.Reason.ATTEMPT_YAHTZEE);
+                    }
+
+                    for (int die : currentDiceValues) {
+                        if (die == threeKindValue) {
+                            diceToKeep.add(die);
+                        } else {
+                            diceToRollAgain.add(die);
+                        }
+                    }
+                } else if (scoreCard.isCategoryAvailable(Category.YAHTZEE)) {
+                    rationale.set(Move.Reason.ATTEMPT_YAHTZEE);
+                    for (int die : currentDiceValues) {
+                        if (die == threeKindValue) {
+                            diceToKeep.add(die);
+                        } else {
+                            diceToRollAgain.add(die);
+                        }
+                    }
+                } else {
+                    rationale.set(Move.Reason.WANT_FULL_HOUSE);
+                    int max = Collections.max(currentDiceValues);
+
+                    if (max == threeKindValue) {
+                        for (int die : currentDiceValues) {
+                            if (die == threeKindValue) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    } else {
+                        int count = 0;
+                        for (int die : currentDiceValues) {
+                            if (die == threeKindValue && count < 3) {
+                                diceToKeep.add(die);
+                                count++;
+                            } else if (die == max) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                }
+            } else {
+                for (int value : currentDiceValues) {
+                    if (diceCount.get(value) <= 2) {
+                        if (value < 6) {
+                            diceToRollAgain.add(value);
+                        } else {
+                            diceToKeep.add(value);
+                        }
+                    } else {
+                        diceToKeep.add(value);
+                    }
+                }
+
+                if (diceToRollAgain.size() > 0) {
+                    rationale.set(Move.Reason.ROLL_FOR_HIGHER_DICE);
+                } else {
+                    rationale.set(Move.Reason.CHOOSE_THREE_OF_A_KIND);
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.ACES || bestCategory == Category.TWOS || bestCategory == Category.THREES || bestCategory == Category.FOURS || bestCategory == Category.FIVES || bestCategory == Category.SIXES) {
+            int targetValue = -1;
+
+            switch (bestCategory) {
+                case ACES:
+                    targetValue = 1;
+                    break;
+                case TWOS:
+                    targetValue = 2;
+                    break;
+                case THREES:
+                    targetValue = 3;
+                    break;
+                case FOURS:
+                    targetValue = 4;
+                    break;
+                case FIVES:
+                    targetValue = 5;
+                    break;
+                case SIXES:
+                    targetValue = 6;
+                    break;
+            }
+
+            List<Integer> pairs = new ArrayList<>();
+            List<Integer> nonPairs = new ArrayList<>();
+            boolean isStraightPossible = false;
+
+            for (Map.Entry<Integer, Integer> pair : diceCount.entrySet()) {
+                if (pair.getValue() >= 2) {
+                    pairs.add(pair.getKey());
+                } else if (pair.getValue() == 1) {
+                    nonPairs.add(pair.getKey());
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+
+                List<Integer> straight = Arrays.asList(1, 2, 3, 4, 5);
+                List<Integer> straight2 = Arrays.asList(2, 3, 4, 5, 6);
+
+                int count = 0;
+                for (int die : temp) {
+                    if (straight.contains(die)) {
+                        count++;
+                    }
+                }
+
+                if (count == 4) {
+                    isStraightPossible = true;
+                } else {
+                    count = 0;
+
+                    for (int die : temp) {
+                        if (straight2.contains(die)) {
+                            count++;
+                        }
+                    }
+
+                    if (count == 4) {
+                        isStraightPossible = true;
+                    }
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+                List<Integer> uniqueDice = new ArrayList<>(temp);
+                Collections.sort(uniqueDice);
+                if (scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) && isStraightPossible) {
+                    rationale.set(Move.Reason.PURSUE_FIVE_STRAIGHT);
+                    int count = 0;
+                    for (int die : currentDiceValues) {
+                        if (die == pairs.get(0) && count < 1) {
+                            diceToRollAgain.add(die);
+                            count++;
+                        } else {
+                            diceToKeep.add(die);
+                        }
+                    }
+                }
+                else if (scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) && ScoreCard.getSequentialDice(uniqueDice).size() == 3) {
+                    diceToKeep = ScoreCard.getSequentialDice(uniqueDice);
+                    diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    rationale.set(Move.Reason.PURSUE_FOUR_STRAIGHT);
+                }
+                else {
+                    if (nonPairs.size() == 3) {
+                        if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                            rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else {
+                            rationale.set(Move.Reason.REROLL_NON_TARGET);
+                            for (int die : currentDiceValues) {
+                                if (die == targetValue) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    }
+                    else if (nonPairs.size() == 2) {
+                        if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                            rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.FULL_HOUSE);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else {
+                            rationale.set(Move.Reason.REROLL_NON_TARGET);
+                            for (int die : currentDiceValues) {
+                                if (die == targetValue) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    }
+                    else if (nonPairs.size() == 1) {
+                        if (scoreCard.isCategoryAvailable(Category.YAHTZEE)) {
+                            rationale.pursueOpen(scoreCard, Category.YAHTZEE);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else if (scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                            rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                            int count = 0;
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0) && count < 3) {
+                                    diceToKeep.add(die);
+                                    count++;
+                                } else if (die == nonPairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else {
+                            rationale.set(Move.Reason.REROLL_NON_TARGET);
+                            for (int die : currentDiceValues) {
+                                if (die == targetValue) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    }
+                    else {
+                        rationale.set(Move.Reason.KEEP_ALL_SAME);
+                        diceToKeep = new ArrayList<>(currentDiceValues);
+                    }
+                }
+            }
+            else if (pairs.size() == 2){
+                if(nonPairs.size() == 1){
+                    if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE_WITH_PAIRS);
+                        for (int die : currentDiceValues) {
+                            if (die == pairs.get(0) || die == pairs.get(1)) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT)) &&
+                            ScoreCard.getSequentialDice(currentDiceValues).size() == 3){
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                        diceToKeep = ScoreCard.getSequentialDice(currentDiceValues);
+                        diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND))){
+                        rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND);
+
+                        if(pairs.get(0) == targetValue){
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(pairs.get(1) == targetValue){
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(1)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            int maxPair = Math.max(pairs.get(0), pairs.get(1));
+                            for(int die : currentDiceValues){
+                                if(die == maxPair){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    } else {
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+                        for(int die : currentDiceValues){
+                            if(die == targetValue){
+                                diceToKeep.add(die)   ;
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                }
+                else{
+                    if(scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND)){
+                        if(Collections.frequency(currentDiceValues, pairs.get(0)) == 3){
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(1)) == 3) {
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                            for(int die : currentDiceValues) {
+                                if (die == targetValue) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    }
+                    else {
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                        for(int die : currentDiceValues) {
+                            if (die == targetValue) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                }
+            }
+            else {
+                if(scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT)){
+                    rationale.set(Move.Reason.PURSUE_STRAIGHT);
+
+                    diceToRollAgain.add(1);
+                    diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                } else {
+                    rationale.set(Move.Reason.REROLL_NON_TARGET);
+                    for(int die : currentDiceValues) {
+                        if (die == targetValue) {
+                            diceToKeep.add(die);
+                        } else {
+                            diceToRollAgain.add(die);
+                        }
+                    }
+                }
+            }
+
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        }
+        else{
+            List<Integer> pairs = new ArrayList<>();
+            List<Integer> nonPairs = new ArrayList<>();
+            boolean isStraightPossible = false;
+
+            for (Map.Entry<Integer, Integer> pair : diceCount.entrySet()) {
+                if (pair.getValue() >= 2) {
+                    pairs.add(pair.getKey());
+                } else if (pair.getValue() == 1) {
+                    nonPairs.add(pair.getKey());
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+
+                List<Integer> straight = Arrays.asList(1, 2, 3, 4, 5);
+                List<Integer> straight2 = Arrays.asList(2, 3, 4, 5, 6);
+
+                int count = 0;
+                for (int die : temp) {
+                    if (straight.contains(die)) {
+                        count++;
+                    }
+                }
+
+                if (count == 4) {
+                    isStraightPossible = true;
+                } else {
+                    count = 0;
+
+                    for (int die : temp) {
+                        if (straight2.contains(die)) {
+                            count++;
+                        }
+                    }
+
+                    if (count == 4) {
+                        isStraightPossible = true;
+                    }
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+                List<Integer> uniqueDice = new ArrayList<>(temp);
+                Collections.sort(uniqueDice);
+                if (scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) && isStraightPossible) {
+                    rationale.set(Move.Reason.PURSUE_FIVE_STRAIGHT);
+                    int count = 0;
+                    for (int die : currentDiceValues) {
+                        if (die == pairs.get(0) && count < 1) {
+                            diceToRollAgain.add(die);
+                            count++;
+                        } else {
+                            diceToKeep.add(die);
+                        }
+                    }
+                }
+                else if (scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) && ScoreCard.getSequentialDice(uniqueDice).size() == 3) {
+                    diceToKeep = ScoreCard.getSequentialDice(uniqueDice);
+                    diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    rationale.set(Move.Reason.PURSUE_FOUR_STRAIGHT);
+                }
+                else {
+                    if (nonPairs.size() == 3) {
+                        if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                            rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else {
+                            rationale.set(Move.Reason.REROLL_ALL);
+                            diceToRollAgain = currentDiceValues;
+                        }
+                    }
+                    else if (nonPairs.size() == 2) {
+                        if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                            rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.FULL_HOUSE);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else {
+                            rationale.set(Move.Reason.REROLL_ALL);
+                            diceToRollAgain = currentDiceValues;
+                        }
+                    }
+                    else if (nonPairs.size() == 1) {
+                        if (scoreCard.isCategoryAvailable(Category.YAHTZEE)) {
+                            rationale.pursueOpen(scoreCard, Category.YAHTZEE);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else if (scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                            rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                            int count = 0;
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0) && count < 3) {
+                                    diceToKeep.add(die);
+                                    count++;
+                                } else if (die == nonPairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        } else {
+                            rationale.set(Move.Reason.REROLL_ALL);
+                            diceToRollAgain = currentDiceValues;
+                        }
+                    }
+                    else {
+                        rationale.set(Move.Reason.KEEP_ALL_SAME);
+                        diceToKeep = new ArrayList<>(currentDiceValues);
+                    }
+                }
+            }
+            else if (pairs.size() == 2){
+                if(nonPairs.size() == 1){
+                    if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE_WITH_PAIRS);
+                        for (int die : currentDiceValues) {
+                            if (die == pairs.get(0) || die == pairs.get(1)) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT)) &&
+                            ScoreCard.getSequentialDice(currentDiceValues).size() == 3){
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                        diceToKeep = ScoreCard.getSequentialDice(currentDiceValues);
+                        diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND))){
+                        rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND);
+
+
+                        int maxPair = Math.max(pairs.get(0), pairs.get(1));
+                        for(int die : currentDiceValues){
+                            if(die == maxPair){
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    } else {
+                        rationale.set(Move.Reason.REROLL_ALL);
+                        diceToRollAgain = currentDiceValues;
+                    }
+                }
+                else{
+                    if(scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND)){
+                        if(Collections.frequency(currentDiceValues, pairs.get(0)) == 3){
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(1)) == 3) {
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            rationale.set(Move.Reason.REROLL_ALL);
+                            diceToRollAgain = currentDiceValues;
+                        }
+                    }
+                    else {
+                        rationale.set(Move.Reason.REROLL_ALL);
+                        diceToRollAgain = currentDiceValues;
+                    }
+                }
+            }
+            else {
+                if(scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT)){
+                    rationale.set(Move.Reason.PURSUE_STRAIGHT);
+
+                    diceToRollAgain.add(1);
+                    diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                } else {
+                    rationale.set(Move.Reason.REROLL_ALL);
+                    diceToRollAgain = currentDiceValues;
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        }
+    }
+
+    /**
+     * Combines the dice kept after the first roll with the newly rolled dice to decide which dice to keep and
+     * which to re-roll.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param rolledDice List of integers representing the dice values from the second roll.
+     * @param keptDice   List of integers representing the dice values kept after the first roll.
+     * @param rationale  Receives the reason for the keep.
+     * @return A Pair containing:
+     *         - List of integers for dice to keep.
+     *         - List of integers for dice to re-roll.
+     */
+    private static Pair<List<Integer>, List<Integer>> secondRollMove(ScoreCard scoreCard, List<Integer> rolledDice, List<Integer> keptDice, Rationale rationale) {
+        List<Integer> currentDiceValues = new ArrayList<>(keptDice);
+        currentDiceValues.addAll(rolledDice);
+
+        List<Integer> diceToRollAgain = new ArrayList<>();
+        List<Integer> diceToKeep = new ArrayList<>();
+
+        Pair<Category, Integer> bestHands = scoreCard.getBestHand(currentDiceValues);
+        if (bestHands == null) {
+            throw new IllegalStateException("ScoreCard.getBestHand() returned null.");
+        }
+        Category bestCategory = bestHands.getKey();
+        int currentMaximumPoints = bestHands.getValue();
+
+        Map<Integer, Integer> diceCount = new HashMap<>();
+        for (int die : currentDiceValues) {
+            diceCount.put(die, diceCount.getOrDefault(die, 0) + 1);
+        }
+
+        if (bestCategory == Category.YAHTZEE) {
+            rationale.set(Move.Reason.STAND_YAHTZEE);
+            diceToKeep = new ArrayList<>(currentDiceValues);
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FIVE_STRAIGHT) {
+            rationale.set(Move.Reason.STAND_FIVE_STRAIGHT);
+            diceToKeep = new ArrayList<>(currentDiceValues);
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FOUR_STRAIGHT) {
+            Set<Integer> temp = new HashSet<>();
+
+            if (!scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT)) {
+                rationale.set(Move.Reason.STAND_FOUR_STRAIGHT);
+                diceToKeep = new ArrayList<>(currentDiceValues);
+            } else {
+                rationale.set(Move.Reason.WANT_FIVE_STRAIGHT);
+
+                for (int value : currentDiceValues) {
+                    temp.add(value);
+                }
+
+                if (temp.size() == 4) {
+                    int nonStraightValue = -1;
+                    for (int dice : currentDiceValues) {
+                        if (Collections.frequency(currentDiceValues, dice) == 2) {
+                            nonStraightValue = dice;
+                        }
+                    }
+
+                    if (nonStraightValue != -1 && rolledDice.contains(nonStraightValue)) {
+                        rationale.set(Move.Reason.REROLL_STRAIGHT_DIE, nonStraightValue);
+                        diceToRollAgain.add(nonStraightValue);
+                        for (int dice : temp) {
+                            diceToKeep.add(dice);
+                        }
+                    } else {
+                        rationale.set(Move.Reason.STAND_FOUR_STRAIGHT_LOCKED, nonStraightValue);
+                        for (int dice : currentDiceValues) {
+                            diceToKeep.add(dice);
+                        }
+                    }
+                } else {
+                    List<Integer> sortedDice = new ArrayList<>(currentDiceValues);
+                    Collections.sort(sortedDice);
+
+                    if (sortedDice.get(0) == 1 && sortedDice.get(1) == 2) {
+                        diceToRollAgain.add(sortedDice.get(4));
+                        for (int i = 0; i < 4; i++) {
+                            diceToKeep.add(sortedDice.get(i));
+                        }
+                    } else {
+                        diceToRollAgain.add(sortedDice.get(0));
+                        for (int i = 1; i < 5; i++) {
+                            diceToKeep.add(sortedDice.get(i));
+                        }
+                    }
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FULL_HOUSE) {
+            rationale.set(Move.Reason.STAND_FULL_HOUSE);
+            diceToKeep = new ArrayList<>(currentDiceValues);
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.FOUR_OF_A_KIND) {
+            int nonFourKindValue = -1;
+            int fourKindValue = -1;
+            for (Map.Entry<Integer, Integer> entry : diceCount.entrySet()) {
+                if (entry.getValue() == 1) {
+                    nonFourKindValue = entry.getKey();
+                } else {
+                    fourKindValue = entry.getKey();
+                }
+            }
+
+            if(nonFourKindValue != -1 && rolledDice.contains(nonFourKindValue)){
+                if(scoreCard.isCategoryAvailable(Category.YAHTZEE)){
+                    rationale.set(Move.Reason.PURSUE_YAHTZEE);
+                    diceToRollAgain.add(nonFourKindValue);
+                    diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                }
+                else {
+                    if(nonFourKindValue < 4){
+                        diceToRollAgain.add(nonFourKindValue);
+                    }
+                    diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                    if(!diceToRollAgain.isEmpty()){
+                        rationale.set(Move.Reason.REROLL_FOUR_OF_A_KIND);
+                    } else {
+                        rationale.set(Move.Reason.STAND_FOUR_OF_A_KIND);
+                    }
+                }
+            }
+            else if(nonFourKindValue == -1){
+                if(fourKindValue < 4){
+                    diceToRollAgain.add(fourKindValue);
+                }
+                diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                if(!diceToRollAgain.isEmpty()){
+                    rationale.set(Move.Reason.REROLL_FOUR_OF_A_KIND);
+                } else {
+                    rationale.set(Move.Reason.STAND_FOUR_OF_A_KIND);
+                }
+            }
+            else {
+                diceToKeep = new ArrayList<>(currentDiceValues);
+                rationale.set(Move.Reason.STAND_FOUR_OF_A_KIND);
+            }
+
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        } else if (bestCategory == Category.THREE_OF_A_KIND) {
+            int threeKindValue = -1;
+            for (Map.Entry<Integer, Integer> entry : diceCount.entrySet()) {
+                if (entry.getValue() >= 3) {
+                    threeKindValue = entry.getKey();
+                }
+            }
+            
+            List<Integer> nonMatching = new ArrayList<>();
+            for (Map.Entry<Integer, Integer> entry : diceCount.entrySet()) {
+                if (entry.getValue() == 1) {
+                    nonMatching.add(entry.getKey());
+                }
+            }
+
+            int fullHousePoints = ScoreCard.calculatePoints(Category.FULL_HOUSE, currentDiceValues);
+
+            if (currentMaximumPoints > fullHousePoints && fullHousePoints == 25) {
+                rationale.set(Move.Reason.STAND_THREE_OVER_FULL_HOUSE);
+                diceToKeep = new ArrayList<>(currentDiceValues);
+                return new Pair<>(diceToKeep, diceToRollAgain);
+            }
+
+            if(nonMatching.size() == 2){
+                if(rolledDice.contains(nonMatching.get(0)) && rolledDice.contains(nonMatching.get(1))){
+                    if(scoreCard.isCategoryAvailable(Category.YAHTZEE)){
+                        rationale.set(Move.Reason.PURSUE_YAHTZEE);
+                        for(int die : currentDiceValues){
+                            if(die == threeKindValue){
+                                diceToKeep.add(die);
+                            }else{
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                    else if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                        int maxNonThreeKindValue = Math.max(nonMatching.get(0), nonMatching.get(1));
+
+                        for (int die : currentDiceValues) {
+                            if(die == threeKindValue){
+                                diceToKeep.add(die);
+                            }else if(die == maxNonThreeKindValue){
+                                diceToKeep.add(die);
+                            }else{
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                    else {
+                        for(int die : nonMatching){
+                            if(die < 4){
+                                diceToRollAgain.add(die);
+                            }else{
+                                diceToKeep.add(die);
+                            }
+                        }
+
+                        for(int die : currentDiceValues){
+                            if(die == threeKindValue){
+                                diceToKeep.add(die);
+                            }
+                        }
+
+                        if(!diceToRollAgain.isEmpty()){
+                            rationale.set(Move.Reason.REROLL_THREE_OF_A_KIND);
+                        } else {
+                            rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                        }
+                    }
+                }
+                else if(rolledDice.contains(nonMatching.get(0)) || rolledDice.contains(nonMatching.get(1))){
+                    if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                        for(int die : nonMatching){
+                            if(rolledDice.contains(die)){
+                                diceToRollAgain.add(die);
+                            }
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                    }
+                    else{
+                        for(int die : nonMatching){
+                            if(rolledDice.contains(die) && die < 4){
+                                diceToRollAgain.add(die);
+                            }
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        if(!diceToRollAgain.isEmpty()){
+                            rationale.set(Move.Reason.REROLL_THREE_OF_A_KIND);
+                        } else {
+                            rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                        }
+                    }
+                }
+                else{
+                    diceToKeep = currentDiceValues;
+                    rationale.set(Move.Reason.STAND_THREE_OF_A_KIND_LOCKED);
+                }
+            }
+            else if(nonMatching.size() == 1){
+                if(rolledDice.contains(nonMatching.get(0))){
+                    if(scoreCard.isCategoryAvailable(Category.YAHTZEE)){
+                        rationale.set(Move.Reason.PURSUE_YAHTZEE);
+                        diceToRollAgain = nonMatching;
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                    }
+                    else if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                        if(rolledDice.contains(threeKindValue)){
+                            rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                            diceToRollAgain.add(threeKindValue);
+                            diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                        }
+                    } else {
+                        if(nonMatching.get(0) < 4){
+                            diceToRollAgain.add(nonMatching.get(0));
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        if(!diceToRollAgain.isEmpty()){
+                            rationale.set(Move.Reason.REROLL_THREE_OF_A_KIND);
+                        }
+                        else {
+                            rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                        }
+                    }
+                }
+                else{
+                    if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                        diceToRollAgain.add(threeKindValue);
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                    } else {
+                        if(threeKindValue < 4){
+                            diceToRollAgain.add(threeKindValue);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        if(!diceToRollAgain.isEmpty()){
+                            rationale.set(Move.Reason.REROLL_THREE_OF_A_KIND);
+                        } else {
+                            rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                        }
+                    }
+                }
+            }
+            else {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+                List<Integer> uniqueDice = new ArrayList<>(temp);
+
+                if(uniqueDice.size() == 1){
+                    if(rolledDice.size() >= 2 && scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                        for(int i = 0; i < 2; i++){
+                            diceToRollAgain.add(threeKindValue);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                    }
+                    else {
+                        rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                        diceToKeep = currentDiceValues;
+                    }
+                }
+                else {
+                    List<Integer> nonThreeKind = new ArrayList<>();
+                    for(int die : currentDiceValues){
+                        if(die != threeKindValue){
+                            nonThreeKind.add(die);
+                        }
+                    }
+
+                    if(Collections.frequency(rolledDice, nonThreeKind.get(0)) == 2){
+                        if(scoreCard.isCategoryAvailable(Category.YAHTZEE)){
+                            rationale.set(Move.Reason.PURSUE_YAHTZEE);
+                            diceToRollAgain = nonThreeKind;
+                            diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+                        }
+                        else {
+                            for(int die : nonThreeKind){
+                                if(die < 4)
+                                    diceToRollAgain.add(die);
+                            }
+                            diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                            if(!diceToRollAgain.isEmpty()){
+                                rationale.set(Move.Reason.REROLL_THREE_OF_A_KIND);
+                            }
+                            else {
+                                rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                            }
+                        }
+                    } else {
+                        diceToKeep = currentDiceValues;
+                        rationale.set(Move.Reason.STAND_THREE_OF_A_KIND);
+                    }
+                }
+            }
+
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        }
+        else if (bestCategory == Category.ACES || bestCategory == Category.TWOS || bestCategory == Category.THREES || bestCategory == Category.FOURS || bestCategory == Category.FIVES || bestCategory == Category.SIXES) {
+            int targetValue = -1;
+
+            switch (bestCategory) {
+                case ACES:
+                    targetValue = 1;
+                    break;
+                case TWOS:
+                    targetValue = 2;
+                    break;
+                case THREES:
+                    targetValue = 3;
+                    break;
+                case FOURS:
+                    targetValue = 4;
+                    break;
+                case FIVES:
+                    targetValue = 5;
+                    break;
+                case SIXES:
+                    targetValue = 6;
+                    break;
+            }
+
+            List<Integer> pairs = new ArrayList<>();
+            List<Integer> nonPairs = new ArrayList<>();
+            boolean isStraightPossible = false;
+
+            for (Map.Entry<Integer, Integer> pair : diceCount.entrySet()) {
+                if (pair.getValue() >= 2) {
+                    pairs.add(pair.getKey());
+                } else if (pair.getValue() == 1) {
+                    nonPairs.add(pair.getKey());
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+
+                List<Integer> straight = Arrays.asList(1, 2, 3, 4, 5);
+                List<Integer> straight2 = Arrays.asList(2, 3, 4, 5, 6);
+
+                int count = 0;
+                for (int die : temp) {
+                    if (straight.contains(die)) {
+                        count++;
+                    }
+                }
+
+                if (count == 4) {
+                    isStraightPossible = true;
+                } else {
+                    count = 0;
+
+                    for (int die : temp) {
+                        if (straight2.contains(die)) {
+                            count++;
+                        }
+                    }
+
+                    if (count == 4) {
+                        isStraightPossible = true;
+                    }
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+                List<Integer> uniqueDice = new ArrayList<>(temp);
+                Collections.sort(uniqueDice);
+                if (scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) && isStraightPossible && rolledDice.contains(pairs.get(0))) {
+                    rationale.set(Move.Reason.REROLL_FOR_FIVE_STRAIGHT);
+                    int count = 0;
+                    for (int die : currentDiceValues) {
+                        if (die == pairs.get(0) && count < 1) {
+                            diceToRollAgain.add(die);
+                            count++;
+                        } else {
+                            diceToKeep.add(die);
+                        }
+                    }
+                }
+                else if(scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) && ScoreCard.getSequentialDice(uniqueDice).size() == 3 && rolledDice.contains(ScoreCard.subtractList(currentDiceValues, ScoreCard.getSequentialDice(uniqueDice)).get(0)) && rolledDice.contains(ScoreCard.subtractList(currentDiceValues, ScoreCard.getSequentialDice(uniqueDice)).get(1))){
+                    diceToKeep = ScoreCard.getSequentialDice(uniqueDice);
+                    diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    rationale.set(Move.Reason.CONTINUE_FOUR_STRAIGHT);
+                } else {
+                    if(nonPairs.size() == 3){
+                        if(ScoreCard.isSubset(nonPairs, rolledDice)){
+                            if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE);
+
+                                for (int die : currentDiceValues) {
+                                    if (die == pairs.get(0)) {
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                for(int die : rolledDice){
+                                    if(die == targetValue){
+                                        diceToKeep.add(die)   ;
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+
+                                diceToKeep.addAll(keptDice);
+                            }
+                        }
+                        else {
+                            int count = 0;
+
+                            for(int die : nonPairs){
+                                if(rolledDice.contains(die))
+                                    count++;
+                            }
+
+                            if(count == 2){
+                                if (scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                    rationale.pursueOpen(scoreCard, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE);
+
+                                    for (int die : currentDiceValues) {
+                                        if (die == pairs.get(0)) {
+                                            diceToKeep.add(die);
+                                        } else if(nonPairs.contains(die) && rolledDice.contains(die)){
+                                            diceToRollAgain.add(die);
+                                        } else {
+                                            diceToKeep.add(die);
+                                        }
+                                    }
+                                } else {
+                                    rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                    for(int die : rolledDice){
+                                        if(die == targetValue){
+                                            diceToKeep.add(die)   ;
+                                        } else {
+                                            diceToRollAgain.add(die);
+                                        }
+                                    }
+
+                                    diceToKeep.addAll(keptDice);
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                for(int die : rolledDice){
+                                    if(die == targetValue){
+                                        diceToKeep.add(die)   ;
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+
+                                diceToKeep.addAll(keptDice);
+                            }
+                        }
+                    }
+                    else if(nonPairs.size() == 2){
+                        if(ScoreCard.isSubset(nonPairs, rolledDice)){
+                            if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.FULL_HOUSE);
+
+                                for (int die : currentDiceValues) {
+                                    if (die == pairs.get(0)) {
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                for(int die : rolledDice){
+                                    if(die == targetValue){
+                                        diceToKeep.add(die)   ;
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+
+                                diceToKeep.addAll(keptDice);
+                            }
+                        }
+                        else {
+                            int count = 0;
+
+                            for(int die : nonPairs){
+                                if(rolledDice.contains(die))
+                                    count++;
+                            }
+
+                            if(count == 1){
+                                if (scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                    rationale.pursueOpen(scoreCard, Category.FOUR_OF_A_KIND, Category.FULL_HOUSE);
+
+                                    for (int die : currentDiceValues) {
+                                        if (die == pairs.get(0)) {
+                                            diceToKeep.add(die);
+                                        } else if(nonPairs.contains(die) && rolledDice.contains(die)){
+                                            diceToRollAgain.add(die);
+                                        } else {
+                                            diceToKeep.add(die);
+                                        }
+                                    }
+                                }
+                                else {
+                                    rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                    for(int die : rolledDice){
+                                        if(die == targetValue){
+                                            diceToKeep.add(die)   ;
+                                        } else {
+                                            diceToRollAgain.add(die);
+                                        }
+                                    }
+
+                                    diceToKeep.addAll(keptDice);
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                for(int die : rolledDice){
+                                    if(die == targetValue){
+                                        diceToKeep.add(die)   ;
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+
+                                diceToKeep.addAll(keptDice);
+                            }
+                        }
+                    }
+                    else if(nonPairs.size() == 1) {
+                        if(rolledDice.contains(nonPairs.get(0))){
+                            if (scoreCard.isCategoryAvailable(Category.YAHTZEE)) {
+                                rationale.pursueOpen(scoreCard, Category.YAHTZEE);
+
+                                for (int die : currentDiceValues) {
+                                    if (die == pairs.get(0)) {
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else if(Collections.frequency(rolledDice, pairs.get(0)) >= 1 && scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                                rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                                int count = 0;
+                                for(int die : currentDiceValues){
+                                    if(die == pairs.get(0) && count < 3){
+                                        diceToKeep.add(die);
+                                        count++;
+                                    } else if(die == nonPairs.get(0)){
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                for(int die : rolledDice){
+                                    if(die == targetValue){
+                                        diceToKeep.add(die)   ;
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+
+                                diceToKeep.addAll(keptDice);
+                            }
+                        } else {
+                            if(Collections.frequency(rolledDice, pairs.get(0)) >= 1 && scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                                rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                                int count = 0;
+                                for(int die : currentDiceValues){
+                                    if(die == pairs.get(0) && count < 3){
+                                        diceToKeep.add(die);
+                                        count++;
+                                    } else if(die == nonPairs.get(0)){
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL_NON_TARGET);
+                                for(int die : rolledDice){
+                                    if(die == targetValue){
+                                        diceToKeep.add(die)   ;
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+
+                                diceToKeep.addAll(keptDice);
+                            }
+                        }
+                    } else {
+                        rationale.set(Move.Reason.KEEP_ALL_SAME);
+                        diceToKeep = new ArrayList<>(currentDiceValues);
+                    }
+                }
+            }
+            else if (pairs.size() == 2){
+                if(nonPairs.size() == 1){
+                    if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE) && rolledDice.contains(nonPairs.get(0))) {
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE_WITH_PAIRS);
+                        for (int die : currentDiceValues) {
+                            if (die == pairs.get(0) || die == pairs.get(1)) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT)) &&
+                            ScoreCard.getSequentialDice(currentDiceValues).size() == 3 &&
+                            ScoreCard.isSubset(ScoreCard.subtractList(currentDiceValues, ScoreCard.getSequentialDice(currentDiceValues)),rolledDice)){
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                        diceToKeep = ScoreCard.getSequentialDice(currentDiceValues);
+                        diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND)) &&
+                              (Collections.frequency(rolledDice, pairs.get(0)) == 2 || Collections.frequency(rolledDice, pairs.get(1)) == 2) &&
+                                rolledDice.contains(nonPairs.get(0))){
+                        rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND);
+
+                        if(pairs.get(0) == targetValue && Collections.frequency(rolledDice, pairs.get(1)) == 2){
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(pairs.get(1) == targetValue && Collections.frequency(rolledDice, pairs.get(0)) == 2){
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(1)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(rolledDice, pairs.get(1)) == 2) {
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    } else {
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+                        for(int die : rolledDice){
+                            if(die == targetValue){
+                                diceToKeep.add(die)   ;
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+
+                        diceToKeep.addAll(keptDice);
+                    }
+                }
+                else{
+                    if(scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND)){
+                        if(Collections.frequency(currentDiceValues, pairs.get(0)) == 3 && Collections.frequency(rolledDice, pairs.get(1)) == 2){
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(1)) == 3 && Collections.frequency(rolledDice, pairs.get(0)) == 2) {
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(0)) == 2 && Collections.frequency(rolledDice, pairs.get(1)) == 3){
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(1)) == 2 && Collections.frequency(rolledDice, pairs.get(0)) == 3) {
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                            for(int die : rolledDice) {
+                                if (die == targetValue) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+
+                            diceToKeep.addAll(keptDice);
+                        }
+                    }
+                    else {
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                        for(int die : rolledDice) {
+                            if (die == targetValue) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+
+                        diceToKeep.addAll(keptDice);
+                    }
+                }
+            }
+            else {
+                if((scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) && scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT)) ||
+                        (!scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) && scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT))){
+                    if(rolledDice.contains(1) || rolledDice.contains(6)){
+                        if(rolledDice.contains(1)){
+                            diceToRollAgain.add(1);
+                        } else {
+                            diceToRollAgain.add(6);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                    } else if(rolledDice.contains(2)){
+                        if(rolledDice.contains(2)){
+                            diceToRollAgain.add(2);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        rationale.set(Move.Reason.CONTINUE_FOUR_STRAIGHT);
+                    } else{
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                        for(int die : rolledDice) {
+                            if (die == targetValue) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+
+                        diceToKeep.addAll(keptDice);
+                    }
+                }
+                else if(scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT)){
+                    if(rolledDice.contains(1) || rolledDice.contains(6)){
+                        if(rolledDice.contains(1)){
+                            diceToRollAgain.add(1);
+                        } else {
+                            diceToRollAgain.add(6);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                    }
+                    else{
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                        for(int die : rolledDice) {
+                            if (die == targetValue) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+
+                        diceToKeep.addAll(keptDice);
+                    }
+                }
+                else{
+                    rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                    for(int die : rolledDice) {
+                        if (die == targetValue) {
+                            diceToKeep.add(die);
+                        } else {
+                            diceToRollAgain.add(die);
+                        }
+                    }
+
+                    diceToKeep.addAll(keptDice);
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        }
+        else {
+            List<Integer> pairs = new ArrayList<>();
+            List<Integer> nonPairs = new ArrayList<>();
+            boolean isStraightPossible = false;
+
+            for (Map.Entry<Integer, Integer> pair : diceCount.entrySet()) {
+                if (pair.getValue() >= 2) {
+                    pairs.add(pair.getKey());
+                } else if (pair.getValue() == 1) {
+                    nonPairs.add(pair.getKey());
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+
+                List<Integer> straight = Arrays.asList(1, 2, 3, 4, 5);
+                List<Integer> straight2 = Arrays.asList(2, 3, 4, 5, 6);
+
+                int count = 0;
+                for (int die : temp) {
+                    if (straight.contains(die)) {
+                        count++;
+                    }
+                }
+
+                if (count == 4) {
+                    isStraightPossible = true;
+                } else {
+                    count = 0;
+
+                    for (int die : temp) {
+                        if (straight2.contains(die)) {
+                            count++;
+                        }
+                    }
+
+                    if (count == 4) {
+                        isStraightPossible = true;
+                    }
+                }
+            }
+
+            if (pairs.size() == 1) {
+                Set<Integer> temp = new HashSet<>(currentDiceValues);
+                List<Integer> uniqueDice = new ArrayList<>(temp);
+                Collections.sort(uniqueDice);
+                if (scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) && isStraightPossible && rolledDice.contains(pairs.get(0))) {
+                    rationale.set(Move.Reason.REROLL_FOR_FIVE_STRAIGHT);
+                    int count = 0;
+                    for (int die : currentDiceValues) {
+                        if (die == pairs.get(0) && count < 1) {
+                            diceToRollAgain.add(die);
+                            count++;
+                        } else {
+                            diceToKeep.add(die);
+                        }
+                    }
+                }
+                else if(scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) && ScoreCard.getSequentialDice(uniqueDice).size() == 3 && rolledDice.contains(ScoreCard.subtractList(currentDiceValues, ScoreCard.getSequentialDice(uniqueDice)).get(0)) && rolledDice.contains(ScoreCard.subtractList(currentDiceValues, ScoreCard.getSequentialDice(uniqueDice)).get(1))){
+                    diceToKeep = ScoreCard.getSequentialDice(uniqueDice);
+                    diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    rationale.set(Move.Reason.CONTINUE_FOUR_STRAIGHT);
+                } else {
+                    if(nonPairs.size() == 3){
+                        if(ScoreCard.isSubset(nonPairs, rolledDice)){
+                            if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE);
+
+                                for (int die : currentDiceValues) {
+                                    if (die == pairs.get(0)) {
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL);
+
+                                diceToKeep.addAll(keptDice);
+                                diceToRollAgain.addAll(rolledDice);
+                            }
+                        }
+                        else {
+                            int count = 0;
+
+                            for(int die : nonPairs){
+                                if(rolledDice.contains(die))
+                                    count++;
+                            }
+
+                            if(count == 2){
+                                if (scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                    rationale.pursueOpen(scoreCard, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE);
+
+                                    for (int die : currentDiceValues) {
+                                        if (die == pairs.get(0)) {
+                                            diceToKeep.add(die);
+                                        } else if(nonPairs.contains(die) && rolledDice.contains(die)){
+                                            diceToRollAgain.add(die);
+                                        } else {
+                                            diceToKeep.add(die);
+                                        }
+                                    }
+                                } else {
+                                    rationale.set(Move.Reason.REROLL);
+
+                                    diceToKeep.addAll(keptDice);
+                                    diceToRollAgain.addAll(rolledDice);
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL);
+
+                                diceToKeep.addAll(keptDice);
+                                diceToRollAgain.addAll(rolledDice);
+                            }
+                        }
+                    }
+                    else if(nonPairs.size() == 2){
+                        if(ScoreCard.isSubset(nonPairs, rolledDice)){
+                            if (scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                rationale.pursueOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.FULL_HOUSE);
+
+                                for (int die : currentDiceValues) {
+                                    if (die == pairs.get(0)) {
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL);
+
+                                diceToKeep.addAll(keptDice);
+                                diceToRollAgain.addAll(rolledDice);
+                            }
+                        }
+                        else {
+                            int count = 0;
+
+                            for(int die : nonPairs){
+                                if(rolledDice.contains(die))
+                                    count++;
+                            }
+
+                            if(count == 1){
+                                if (scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.FULL_HOUSE)) {
+                                    rationale.pursueOpen(scoreCard, Category.FOUR_OF_A_KIND, Category.FULL_HOUSE);
+
+                                    for (int die : currentDiceValues) {
+                                        if (die == pairs.get(0)) {
+                                            diceToKeep.add(die);
+                                        } else if(nonPairs.contains(die) && rolledDice.contains(die)){
+                                            diceToRollAgain.add(die);
+                                        } else {
+                                            diceToKeep.add(die);
+                                        }
+                                    }
+                                }
+                                else {
+                                    rationale.set(Move.Reason.REROLL);
+
+                                    diceToKeep.addAll(keptDice);
+                                    diceToRollAgain.addAll(rolledDice);
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL);
+
+                                diceToKeep.addAll(keptDice);
+                                diceToRollAgain.addAll(rolledDice);
+                            }
+                        }
+                    }
+                    else if(nonPairs.size() == 1) {
+                        if(rolledDice.contains(nonPairs.get(0))){
+                            if (scoreCard.isCategoryAvailable(Category.YAHTZEE)) {
+                                rationale.pursueOpen(scoreCard, Category.YAHTZEE);
+
+                                for (int die : currentDiceValues) {
+                                    if (die == pairs.get(0)) {
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else if(Collections.frequency(rolledDice, pairs.get(0)) >= 1 && scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                                rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                                int count = 0;
+                                for(int die : currentDiceValues){
+                                    if(die == pairs.get(0) && count < 3){
+                                        diceToKeep.add(die);
+                                        count++;
+                                    } else if(die == nonPairs.get(0)){
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL);
+
+                                diceToKeep.addAll(keptDice);
+                                diceToRollAgain.addAll(rolledDice);
+                            }
+                        } else {
+                            if(Collections.frequency(rolledDice, pairs.get(0)) >= 1 && scoreCard.isCategoryAvailable(Category.FULL_HOUSE)){
+                                rationale.set(Move.Reason.PURSUE_FULL_HOUSE);
+                                int count = 0;
+                                for(int die : currentDiceValues){
+                                    if(die == pairs.get(0) && count < 3){
+                                        diceToKeep.add(die);
+                                        count++;
+                                    } else if(die == nonPairs.get(0)){
+                                        diceToKeep.add(die);
+                                    } else {
+                                        diceToRollAgain.add(die);
+                                    }
+                                }
+                            }
+                            else {
+                                rationale.set(Move.Reason.REROLL);
+
+                                diceToKeep.addAll(keptDice);
+                                diceToRollAgain.addAll(rolledDice);
+                            }
+                        }
+                    } else {
+                        rationale.set(Move.Reason.KEEP_ALL_SAME);
+                        diceToKeep = new ArrayList<>(currentDiceValues);
+                    }
+                }
+            }
+            else if (pairs.size() == 2){
+                if(nonPairs.size() == 1){
+                    if(scoreCard.isCategoryAvailable(Category.FULL_HOUSE) && rolledDice.contains(nonPairs.get(0))) {
+                        rationale.set(Move.Reason.PURSUE_FULL_HOUSE_WITH_PAIRS);
+                        for (int die : currentDiceValues) {
+                            if (die == pairs.get(0) || die == pairs.get(1)) {
+                                diceToKeep.add(die);
+                            } else {
+                                diceToRollAgain.add(die);
+                            }
+                        }
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT)) &&
+                            ScoreCard.getSequentialDice(currentDiceValues).size() == 3 &&
+                            ScoreCard.isSubset(ScoreCard.subtractList(currentDiceValues, ScoreCard.getSequentialDice(currentDiceValues)),rolledDice)){
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                        diceToKeep = ScoreCard.getSequentialDice(currentDiceValues);
+                        diceToRollAgain = ScoreCard.subtractList(currentDiceValues, diceToKeep);
+                    }
+                    else if((scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND) || scoreCard.isCategoryAvailable(Category.THREE_OF_A_KIND)) &&
+                            (Collections.frequency(rolledDice, pairs.get(0)) == 2 || Collections.frequency(rolledDice, pairs.get(1)) == 2) &&
+                            rolledDice.contains(nonPairs.get(0))){
+                        rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND);
+
+                        if(Collections.frequency(rolledDice, pairs.get(1)) == 2) {
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(0)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                    } else {
+                        rationale.set(Move.Reason.REROLL);
+
+                        diceToKeep.addAll(keptDice);
+                        diceToRollAgain.addAll(rolledDice);
+                    }
+                }
+                else{
+                    if(scoreCard.isCategoryAvailable(Category.YAHTZEE) || scoreCard.isCategoryAvailable(Category.FOUR_OF_A_KIND)){
+                        if(Collections.frequency(currentDiceValues, pairs.get(0)) == 3 && Collections.frequency(rolledDice, pairs.get(1)) == 2){
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(1)) == 3 && Collections.frequency(rolledDice, pairs.get(0)) == 2) {
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(0)) == 2 && Collections.frequency(rolledDice, pairs.get(1)) == 3){
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for(int die : currentDiceValues){
+                                if(die == pairs.get(0)){
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else if(Collections.frequency(currentDiceValues, pairs.get(1)) == 2 && Collections.frequency(rolledDice, pairs.get(0)) == 3) {
+                            rationale.pursueFirstOpen(scoreCard, Category.YAHTZEE, Category.FOUR_OF_A_KIND);
+
+                            for (int die : currentDiceValues) {
+                                if (die == pairs.get(1)) {
+                                    diceToKeep.add(die);
+                                } else {
+                                    diceToRollAgain.add(die);
+                                }
+                            }
+                        }
+                        else {
+                            rationale.set(Move.Reason.REROLL);
+
+                            diceToKeep.addAll(keptDice);
+                            diceToRollAgain.addAll(rolledDice);
+                        }
+                    }
+                    else {
+                        rationale.set(Move.Reason.REROLL_NON_TARGET);
+
+                        rationale.set(Move.Reason.REROLL);
+
+                        diceToKeep.addAll(keptDice);
+                        diceToRollAgain.addAll(rolledDice);
+                    }
+                }
+            }
+            else {
+                if((scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT) && scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT)) ||
+                        (!scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) && scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT))){
+                    if(rolledDice.contains(1) || rolledDice.contains(6)){
+                        if(rolledDice.contains(1)){
+                            diceToRollAgain.add(1);
+                        } else {
+                            diceToRollAgain.add(6);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                    } else if(rolledDice.contains(2)){
+                        if(rolledDice.contains(2)){
+                            diceToRollAgain.add(2);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        rationale.set(Move.Reason.CONTINUE_FOUR_STRAIGHT);
+                    } else{
+                        rationale.set(Move.Reason.REROLL);
+
+                        diceToKeep.addAll(keptDice);
+                        diceToRollAgain.addAll(rolledDice);
+                    }
+                }
+                else if(scoreCard.isCategoryAvailable(Category.FIVE_STRAIGHT) || scoreCard.isCategoryAvailable(Category.FOUR_STRAIGHT)){
+                    if(rolledDice.contains(1) || rolledDice.contains(6)){
+                        if(rolledDice.contains(1)){
+                            diceToRollAgain.add(1);
+                        } else {
+                            diceToRollAgain.add(6);
+                        }
+
+                        diceToKeep = ScoreCard.subtractList(currentDiceValues, diceToRollAgain);
+
+                        rationale.set(Move.Reason.PURSUE_STRAIGHT);
+                    }
+                    else{
+                        rationale.set(Move.Reason.REROLL);
+
+                        diceToKeep.addAll(keptDice);
+                        diceToRollAgain.addAll(rolledDice);
+                    }
+                }
+                else{
+                    rationale.set(Move.Reason.REROLL);
+
+                    diceToKeep.addAll(keptDice);
+                    diceToRollAgain.addAll(rolledDice);
+                }
+            }
+            return new Pair<>(diceToKeep, diceToRollAgain);
+        }
+    }
+
+    // *******************************
+    // Nested Types
+    // *******************************
+
+    /**
+     * Collects the reason for a keep while the heuristics run; the last reason set wins.
+     */
+    private static final class Rationale {
+
+        // The reason of the branch that decided the keep, or null if none was set.
+        private Move.Reason reason;
+
+        // The die the reason refers to, or the mask of categories pursued.
+        private int detail;
+
+        /**
+         * Records a reason without a detail.
+         *
+         * @param reason The reason.
+         */
+        void set(Move.Reason reason) {
+            set(reason, 0);
+        }
+
+        /**
+         * Records a reason that refers to a die.
+         *
+         * @param reason The reason.
+         * @param die    The face of the die.
+         */
+        void set(Move.Reason reason, int die) {
+            this.reason = reason;
+            this.detail = die;
+        }
+
+        /**
+         * Records the pursuit of every open category among some candidates.
+         *
+         * @param scoreCard  The scorecard of the game being played.
+         * @param categories The candidate categories.
+         */
+        void pursueOpen(ScoreCard scoreCard, Category... categories) {
+            int pursued = 0;
+            for (Category category : categories) {
+                if (scoreCard.isCategoryAvailable(category)) {
+                    pursued |= 1 << category.ordinal();
+                }
+            }
+            set(Move.Reason.PURSUE_CATEGORIES, pursued);
+        }
+
+        /**
+         * Records the pursuit of the first open category among some candidates.
+         *
+         * @param scoreCard  The scorecard of the game being played.
+         * @param categories The candidate categories, in order of preference.
+         */
+        void pursueFirstOpen(ScoreCard scoreCard, Category... categories) {
+            int pursued = 0;
+            for (Category category : categories) {
+                if (scoreCard.isCategoryAvailable(category)) {
+                    pursued = 1 << category.ordinal();
+                    break;
+                }
+            }
+            set(Move.Reason.PURSUE_CATEGORIES, pursued);
+        }
+    }
+}
@@ -1,48 +1,176 @@
 package com.example.yahtzee.Model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Dice backed by a seeded {@link SplittableRandom}.
+ * <p>
+ * Every instance owns its own generator, so dice used on different threads never contend, and the whole
+ * sequence of rolls is determined by the seed. The position in the sequence is the number of dice rolled so
+ * far, so the state of a set of dice is just its seed and draw count: it survives serialization and can be
+ * recreated at the same position with {@link #Dice(long, long)}.
+ * </p>
+ */
+public class Dice implements Serializable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Odd constant used to spread consecutive game indices over the seed space.
+     */
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The seed the generator was created with.
+    private final long seed;
+
+    // The number of dice rolled so far.
+    private long drawCount;
+
+    // Random number generator; rebuilt from the seed and draw count after deserialization.
+    private transient SplittableRandom random;
 
-public class Dice {
     // List to store the results of the dice rolls
-    private List<Integer> diceResult;
+    private transient List<Integer> diceResult;
 
-    // Random number generator
-    private Random random;
+    // *******************************
+    // Constructors
+    // *******************************
 
-    // Constructor
+    /**
+     * Creates dice with a random seed.
+     */
     public Dice() {
-        // Initialize the random number generator and the results list
-        random = new Random();
-        diceResult = new ArrayList<>();
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates dice whose rolls are determined by a seed.
+     *
+     * @param seed The seed of the generator.
+     */
+    public Dice(long seed) {
+        this(seed, 0);
+    }
+
+    /**
+     * Creates dice at a given position of the sequence of a seed, e.g. to resume a saved game.
+     *
+     * @param seed      The seed of the generator.
+     * @param drawCount The number of dice already rolled from the seed.
+     */
+    public Dice(long seed, long drawCount) {
+        this.seed = seed;
+        this.drawCount = drawCount;
+        restoreRandom();
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the seed of the dice.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
     }
 
+    /**
+     * Retrieves the number of dice rolled since the dice were seeded.
+     *
+     * @return The draw count.
+     */
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Derives the seed of one game of a series, so that each game can be replayed on its own
+     * whatever thread or order it was played in.
+     *
+     * @param seriesSeed The seed of the whole series.
+     * @param gameIndex  The index of the game in the series.
+     * @return The seed of the game.
+     */
+    public static long seedFor(long seriesSeed, long gameIndex) {
+        return new SplittableRandom(seriesSeed + gameIndex * SEED_GAMMA).nextLong();
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
     /**
      * Rolls a specified number of dice and returns the results as a list.
      * @param numDice The number of dice to roll.
      * @return A list of integers, representing the results of the dice rolls.
      */
     public List<Integer> rollDice(int numDice) {
+        if (diceResult == null) {
+            diceResult = new ArrayList<>();
+        }
         // Clear the list to store the results of the dice rolls
         diceResult.clear();
 
         // Roll the dice numDice times
         for (int i = 0; i < numDice; ++i) {
             // Add the result of the die roll to the list
-            diceResult.add(random.nextInt(6) + 1);
+            diceResult.add(rollSingleDice());
         }
 
         // Return the list of dice rolls
         return diceResult;
     }
 
+    /**
+     * Rolls a specified number of dice into an array, without allocating.
+     *
+     * @param values  The array receiving the results.
+     * @param from    The index of the first die to roll.
+     * @param numDice The number of dice to roll.
+     */
+    public void rollDice(int[] values, int from, int numDice) {
+        for (int i = from; i < from + numDice; i++) {
+            values[i] = rollSingleDice();
+        }
+    }
+
     /**
      * Rolls a single die and returns the result.
      * @return An integer representing the result of the die roll.
      */
     public int rollSingleDice() {
+        drawCount++;
         // Return a random number between 1 and 6 for the die roll
         return random.nextInt(6) + 1;
     }
+
+    /**
+     * Recreates the generator from the seed and moves it past the dice already rolled.
+     */
+    private void restoreRandom() {
+        random = new SplittableRandom(seed);
+        for (long i = 0; i < drawCount; i++) {
+            random.nextInt(6);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        restoreRandom();
+    }
 }
@@ -0,0 +1,329 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Exact expected-value solver for the keep/reroll decisions of a single turn.
+ * <p>
+ * Dice are handled as packed face-count histograms (see {@link ScoreTable#pack(java.util.List)}).
+ * Besides the 252 five-dice hands there are 462 keep multisets of zero to five dice. The probability of
+ * every hand the reroll of a keep can produce is read from the shared {@link TransitionTable}, so a query
+ * never enumerates the 7776 ordered outcomes of five dice.
+ * </p>
+ * <p>
+ * Dice kept after the first roll stay kept for the rest of the turn, so on the second decision the new
+ * keep must contain the dice that are already locked. The solver is prepared with the value of ending the
+ * turn on each hand and then answers decisions with a table lookup over the candidate keeps.
+ * Instances are not thread-safe; the precomputed tables are shared and immutable.
+ * </p>
+ */
+public class ExpectedValueSolver {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of distinct multisets of zero to five dice.
+     */
+    public static final int KEEP_COUNT = TransitionTable.KEEP_COUNT;
+
+    /**
+     * For each transition of the {@link TransitionTable}, the offset of its first extension; the extensions of
+     * transition t are [start[t], start[t + 1]).
+     */
+    private static final int[] EXTENSION_START = new int[TransitionTable.getTransitionCount() + 1];
+
+    /**
+     * Keep indices that contain the keep of a transition and are contained in its hand,
+     * i.e. the keeps that may be chosen on the next decision.
+     */
+    private static final int[] EXTENSION_KEEP;
+
+    /**
+     * Number of dice of each keep, read to break ties between keeps.
+     */
+    private static final byte[] KEEP_SIZE = new byte[KEEP_COUNT];
+
+    static {
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            KEEP_SIZE[keep] = (byte) size(keepAt(keep));
+        }
+
+        // Five rolled dice have at most 2^5 sub-multisets.
+        int[] subBuffer = new int[1 << 5];
+        int extensionCount = 0;
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            for (int transition = TransitionTable.start(keep); transition < TransitionTable.end(keep); transition++) {
+                EXTENSION_START[transition] = extensionCount;
+                extensionCount += subMultisets(rollOf(keep, transition), subBuffer);
+            }
+        }
+        EXTENSION_START[TransitionTable.getTransitionCount()] = extensionCount;
+        EXTENSION_KEEP = new int[extensionCount];
+
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            for (int transition = TransitionTable.start(keep); transition < TransitionTable.end(keep); transition++) {
+                int subs = subMultisets(rollOf(keep, transition), subBuffer);
+                for (int i = 0; i < subs; i++) {
+                    EXTENSION_KEEP[EXTENSION_START[transition] + i] = keepIndexOf(TransitionTable.keepAt(keep) + subBuffer[i]);
+                }
+            }
+        }
+    }
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Value of ending the turn on each hand.
+    private final double[] handValues = new double[ScoreTable.HAND_COUNT];
+
+    // Expected value of each keep when one roll is left.
+    private final double[] oneRollValues = new double[KEEP_COUNT];
+
+    // Expected value of each keep when two rolls are left.
+    private final double[] twoRollValues = new double[KEEP_COUNT];
+
+    // Best keep after each transition when one roll is left, found while the two-roll values are computed.
+    private final int[] oneRollKeeps = new int[TransitionTable.getTransitionCount()];
+
+    // Expected value of a whole turn, before the first roll.
+    private double turnValue;
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the index of a keep multiset.
+     *
+     * @param packedKeep The packed histogram of zero to five dice.
+     * @return The keep index in the range [0, 462), or a negative value if the histogram holds more than five dice.
+     */
+    public static int keepIndexOf(int packedKeep) {
+        return TransitionTable.keepIndexOf(packedKeep);
+    }
+
+    /**
+     * Retrieves the packed histogram of a keep.
+     *
+     * @param keep The keep index.
+     * @return The packed histogram of the keep.
+     */
+    public static int keepAt(int keep) {
+        return TransitionTable.keepAt(keep);
+    }
+
+    /**
+     * Counts the dice held by a packed histogram.
+     *
+     * @param packed The packed face-count histogram.
+     * @return The number of dice.
+     */
+    public static int size(int packed) {
+        return TransitionTable.size(packed);
+    }
+
+    /**
+     * Retrieves the value the solver was prepared with for ending the turn on a hand.
+     *
+     * @param hand The hand index.
+     * @return The value of the hand.
+     */
+    public double getHandValue(int hand) {
+        return handValues[hand];
+    }
+
+    /**
+     * Retrieves the expected value of keeping a multiset of dice and rolling the rest.
+     *
+     * @param keep       The keep index.
+     * @param rollsLeft  The number of rolls still allowed, 1 or 2.
+     * @return The expected value of the keep under optimal play for the rest of the turn.
+     */
+    public double getKeepValue(int keep, int rollsLeft) {
+        return rollsLeft >= 2 ? twoRollValues[keep] : oneRollValues[keep];
+    }
+
+    /**
+     * Retrieves the expected value of a whole turn of three rolls under optimal play.
+     *
+     * @return The expected value of the turn before the first roll.
+     */
+    public double getTurnValue() {
+        return turnValue;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Prepares the solver for a new valuation of the final hands. The values may be negative.
+     * Costs about a hundred thousand additions, so it should be called once per set of open categories.
+     *
+     * @param values The value of ending the turn on each of the 252 hands.
+     */
+    public void prepare(double[] values) {
+        System.arraycopy(values, 0, handValues, 0, ScoreTable.HAND_COUNT);
+
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            oneRollValues[keep] = TransitionTable.expectedValue(keep, handValues);
+        }
+
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            double value = 0;
+            for (int transition = TransitionTable.start(keep); transition < TransitionTable.end(keep); transition++) {
+                int bestKeep = bestOf(transition, oneRollValues);
+                oneRollKeeps[transition] = bestKeep;
+                value += TransitionTable.probabilityOf(transition) * oneRollValues[bestKeep];
+            }
+            twoRollValues[keep] = value;
+        }
+
+        // The first roll throws all five dice, i.e. it starts from the empty keep.
+        int empty = keepIndexOf(0);
+        double value = 0;
+        for (int transition = TransitionTable.start(empty); transition < TransitionTable.end(empty); transition++) {
+            double best = Double.NEGATIVE_INFINITY;
+            for (int extension = EXTENSION_START[transition]; extension < EXTENSION_START[transition + 1]; extension++) {
+                best = Math.max(best, twoRollValues[EXTENSION_KEEP[extension]]);
+            }
+            value += TransitionTable.probabilityOf(transition) * best;
+        }
+        turnValue = value;
+    }
+
+    /**
+     * Fills a valuation with the best immediate score of each hand among the open categories.
+     *
+     * @param openMask Bitmask of open categories, bit c for {@link Category#ordinal()} c.
+     * @param values   Array of 252 values to fill.
+     * @return The filled array.
+     */
+    public static double[] immediateValues(int openMask, double[] values) {
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+            int best = 0;
+            for (int mask = openMask; mask != 0; mask &= mask - 1) {
+                best = Math.max(best, ScoreTable.score(Integer.numberOfTrailingZeros(mask), hand));
+            }
+            values[hand] = best;
+        }
+        return values;
+    }
+
+    /**
+     * Finds the keep that maximizes the expected value of the turn.
+     * Keeping the whole hand means standing on it.
+     *
+     * @param packedLocked The packed histogram of the dice already locked from an earlier roll, 0 if none.
+     * @param packedHand   The packed histogram of all five dice on the table.
+     * @param rollsLeft    The number of rolls still allowed, 1 or 2.
+     * @return The packed histogram of the dice to keep, containing the locked dice.
+     */
+    public int bestKeep(int packedLocked, int packedHand, int rollsLeft) {
+        return keepAt(bestKeepOf(transitionOf(packedLocked, packedHand), rollsLeft));
+    }
+
+    /**
+     * Finds the keep that maximizes the expected value of the turn after a transition of the {@link TransitionTable},
+     * for callers that walk the transitions and already know the index.
+     *
+     * @param transition The transition from the locked dice to the hand on the table.
+     * @param rollsLeft  The number of rolls still allowed, 1 or 2.
+     * @return The keep index, see {@link #bestKeep(int, int, int)}.
+     */
+    int bestKeepOf(int transition, int rollsLeft) {
+        return rollsLeft >= 2 ? bestOf(transition, twoRollValues) : oneRollKeeps[transition];
+    }
+
+    /**
+     * Finds the keep with the highest value among the keeps that may follow a transition.
+     *
+     * @param transition The transition from the locked dice to the hand on the table.
+     * @param keepValues The value of each keep.
+     * @return The keep index; on ties, the keep with the most dice.
+     */
+    private static int bestOf(int transition, double[] keepValues) {
+        int bestKeep = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int extension = EXTENSION_START[transition]; extension < EXTENSION_START[transition + 1]; extension++) {
+            int keep = EXTENSION_KEEP[extension];
+            double value = keepValues[keep];
+            // On ties prefer the keep with more dice, so that standing wins over a pointless reroll.
+            if (value > bestValue || (value == bestValue && KEEP_SIZE[keep] > KEEP_SIZE[bestKeep])) {
+                bestValue = value;
+                bestKeep = keep;
+            }
+        }
+        return bestKeep;
+    }
+
+    /**
+     * Computes the expected value of the turn from a position under optimal play.
+     *
+     * @param packedLocked The packed histogram of the dice already locked from an earlier roll, 0 if none.
+     * @param packedHand   The packed histogram of all five dice on the table.
+     * @param rollsLeft    The number of rolls still allowed, from 0 to 2.
+     * @return The expected value of the turn.
+     */
+    public double expectedValue(int packedLocked, int packedHand, int rollsLeft) {
+        if (rollsLeft <= 0) {
+            return handValues[ScoreTable.indexOf(packedHand)];
+        }
+        return getKeepValue(keepIndexOf(bestKeep(packedLocked, packedHand, rollsLeft)), rollsLeft);
+    }
+
+    /**
+     * Finds the transition from a locked keep to a hand.
+     *
+     * @param packedLocked The packed histogram of the locked dice.
+     * @param packedHand   The packed histogram of the hand, which must contain the locked dice.
+     * @return The transition index.
+     */
+    private static int transitionOf(int packedLocked, int packedHand) {
+        int keep = keepIndexOf(packedLocked);
+        int hand = ScoreTable.indexOf(packedHand);
+        if (keep < 0 || hand < 0) {
+            throw new IllegalArgumentException("Locked dice must be part of a five-dice hand.");
+        }
+        int transition = TransitionTable.find(keep, hand);
+        if (transition < 0) {
+            throw new IllegalArgumentException("Locked dice must be part of a five-dice hand.");
+        }
+        return transition;
+    }
+
+    /**
+     * Retrieves the dice rolled by a transition, i.e. its hand without the keep.
+     *
+     * @param keep       The keep index.
+     * @param transition A transition of the keep.
+     * @return The packed histogram of the rolled dice.
+     */
+    private static int rollOf(int keep, int transition) {
+        return ScoreTable.handAt(TransitionTable.handOf(transition)) - TransitionTable.keepAt(keep);
+    }
+
+    /**
+     * Lists every sub-multiset of a packed histogram, including the empty one and the histogram itself.
+     *
+     * @param packed The packed histogram.
+     * @param out    Buffer receiving the packed sub-multisets.
+     * @return The number of sub-multisets written.
+     */
+    private static int subMultisets(int packed, int[] out) {
+        int count = 1;
+        out[0] = 0;
+        for (int face = 1; face <= 6; face++) {
+            int faceCount = ScoreTable.count(packed, face);
+            int unit = 1 << ((face - 1) * ScoreTable.BITS_PER_FACE);
+            int existing = count;
+            for (int extra = 1; extra <= faceCount; extra++) {
+                for (int i = 0; i < existing; i++) {
+                    out[count++] = out[i] + extra * unit;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.yahtzee.Model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computer strategy that keeps the dice maximizing the exact expected score of the current turn.
+ * <p>
+ * The final hand is worth the best score it makes in any open category. The {@link ExpectedValueSolver}
+ * is prepared once per set of open categories, after which every decision is a lookup over at most 32
+ * candidate keeps.
+ * </p>
+ */
+public class ExpectedValueStrategy implements ComputerStrategy {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Solver prepared for the open categories in preparedMask; rebuilt lazily after deserialization.
+    private transient ExpectedValueSolver solver;
+
+    // Open-category mask the solver was last prepared for, or -1 if it has not been prepared.
+    private transient int preparedMask = -1;
+
+    // Scratch valuation of the 252 hands.
+    private transient double[] handValues;
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Keeps the dice with the highest expected score over the two remaining rolls.
+     *
+     * @param scoreCard         The scorecard of the game being played.
+     * @param currentDiceValues List of integers representing the dice values rolled in the first roll.
+     * @return A Pair containing the dice to keep and the dice to re-roll.
+     */
+    @Override
+    public Pair<List<Integer>, List<Integer>> firstRollMove(ScoreCard scoreCard, List<Integer> currentDiceValues) {
+        int keep = chooseKeep(scoreCard, 0, ScoreTable.pack(currentDiceValues), 2);
+        return toMove(currentDiceValues, keep);
+    }
+
+    /**
+     * Keeps the dice with the highest expected score over the last roll. The dice kept after the first roll stay kept.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param rolledDice List of integers representing the dice values from the second roll.
+     * @param keptDice   List of integers representing the dice values kept after the first roll.
+     * @return A Pair containing the dice to keep, including the kept dice, and the dice to re-roll.
+     */
+    @Override
+    public Pair<List<Integer>, List<Integer>> secondRollMove(ScoreCard scoreCard, List<Integer> rolledDice, List<Integer> keptDice) {
+        List<Integer> currentDiceValues = new ArrayList<>(keptDice);
+        currentDiceValues.addAll(rolledDice);
+        int keep = chooseKeep(scoreCard, ScoreTable.pack(keptDice), ScoreTable.pack(currentDiceValues), 1);
+        return toMove(currentDiceValues, keep);
+    }
+
+    /**
+     * Scores the category with the most points.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param diceValues List of integers representing the final dice values.
+     * @return The category with the most points, or null if none scores.
+     */
+    @Override
+    public Category chooseCategory(ScoreCard scoreCard, List<Integer> diceValues) {
+        return chooseCategory(scoreCard, ScoreTable.pack(diceValues));
+    }
+
+    /**
+     * Keeps the dice with the highest expected score over the rolls left.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param packedKept The packed histogram of the dice kept earlier in the turn.
+     * @param packedDice The packed histogram of all five dice on the table.
+     * @param rollsLeft  The number of rolls left in the turn.
+     * @return The packed histogram of the dice to keep, including the dice kept earlier.
+     */
+    @Override
+    public int chooseKeep(ScoreCard scoreCard, int packedKept, int packedDice, int rollsLeft) {
+        ExpectedValueSolver prepared = solverFor(scoreCard);
+        int keep = prepared.bestKeep(packedKept, packedDice, rollsLeft);
+        if (Logger.isEnabled()) {
+            Logger.logHand("Computer keeps %s expecting %.1f points.", keep,
+                    prepared.getKeepValue(ExpectedValueSolver.keepIndexOf(keep), rollsLeft));
+        }
+        return keep;
+    }
+
+    /**
+     * Scores the category with the most points.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param packedDice The packed histogram of the final dice.
+     * @return The category with the most points, or null if none scores.
+     */
+    @Override
+    public Category chooseCategory(ScoreCard scoreCard, int packedDice) {
+        return scoreCard.getBestCategory(packedDice);
+    }
+
+    /**
+     * Values each final hand at its best score among the open categories.
+     * Subclasses may add the value of the categories left open afterwards.
+     *
+     * @param openMask Bitmask of open categories.
+     * @param values   Array of 252 values to fill.
+     */
+    protected void valueHands(int openMask, double[] values) {
+        ExpectedValueSolver.immediateValues(openMask, values);
+    }
+
+    /**
+     * Retrieves the solver prepared for the open categories of a scorecard.
+     *
+     * @param scoreCard The scorecard of the game being played.
+     * @return The prepared solver.
+     */
+    protected ExpectedValueSolver solverFor(ScoreCard scoreCard) {
+        int openMask = scoreCard.getOpenMask();
+        if (solver == null) {
+            solver = new ExpectedValueSolver();
+            handValues = new double[ScoreTable.HAND_COUNT];
+            preparedMask = -1;
+        }
+        if (openMask != preparedMask) {
+            valueHands(openMask, handValues);
+            solver.prepare(handValues);
+            preparedMask = openMask;
+        }
+        return solver;
+    }
+
+    /**
+     * Turns a chosen keep into the keep/re-roll pair used by the round.
+     *
+     * @param currentDiceValues All five dice on the table.
+     * @param keep              The packed histogram of the dice to keep.
+     * @return A Pair containing the dice to keep and the dice to re-roll.
+     */
+    private static Pair<List<Integer>, List<Integer>> toMove(List<Integer> currentDiceValues, int keep) {
+        List<Integer> diceToKeep = ScoreTable.toList(keep);
+        return new Pair<>(diceToKeep, ScoreCard.subtractList(currentDiceValues, diceToKeep));
+    }
+}
@@ -0,0 +1,608 @@
+package com.example.yahtzee.Model;
+
+import java.util.Arrays;
+
+/**
+ * Computer strategy that plays for the win on the shared scorecard by looking ahead over both players' turns.
+ * <p>
+ * A category belongs to whoever fills it first, so scoring a category also takes it from the opponent. The
+ * strategy searches a depth-limited expectimax tree in which each ply is a whole turn. On its own turns it scores,
+ * for every final hand, the category with the best chance of winning. On the opponent's turns it expects the
+ * opponent to score the category with the most points. The final hands of either player follow the distribution
+ * of a turn played for the most points.
+ * </p>
+ * <p>
+ * A position is reduced to the open categories, the score difference, who plays next and whether the other player
+ * still plays in the round, and its value is stored in a transposition table. At the search horizon the chance
+ * of winning is estimated with a normal approximation of the score difference the rest of the game adds, whose
+ * mean and variance are computed once per process for every set of open categories, for both players filling them
+ * turn about; {@link #warmUp()} computes them ahead of the first move. With one category left the chance is exact, passes and all, so near the end of the game the strategy
+ * also keeps its dice away from a score too small to win. The search deepens one turn at a time until the time
+ * budget of the turn runs out, and the keeps and the category of the turn are played from the deepest search that
+ * completed.
+ * </p>
+ * <p>
+ * The search needs the player and the order of the round, which the {@link GameEngine} passes to
+ * {@link #chooseKeep(ScoreCard, String, boolean, int, int, int)} and
+ * {@link #chooseCategory(ScoreCard, String, boolean, int)}. Without them the strategy plays for the most points,
+ * like an {@link ExpectedValueStrategy}.
+ * </p>
+ */
+public class ExpectimaxStrategy extends ExpectedValueStrategy {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Time budget of the search of a turn, in milliseconds, when none is given.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    // Number of slots of the transposition table, about 3 MB.
+    private static final int TABLE_CAPACITY = 1 << 18;
+
+    // Offset that makes a score difference non-negative; a player scores at most 310 points.
+    private static final int DIFF_OFFSET = 512;
+
+    // The most points a category can score.
+    private static final int MAX_POINTS = 50;
+
+    // Widening of the spread of the rest of the game at the search horizon. The turn-about model leaves out that the
+    // player behind starts the next round, which keeps leads smaller than they look; 1.5 fits self-play best.
+    private static final double SPREAD = 1.5;
+
+    // Chance of winning a point is worth, so that between equal chances, e.g. in a game already decided, the
+    // strategy takes the most points.
+    private static final double POINT_VALUE = 1e-7;
+
+    // Bit offsets of the fields of a position key: open categories, then score difference, mover, round order, depth.
+    private static final int DIFF_SHIFT = 12;
+    private static final int MOVER_SHIFT = 22;
+    private static final int ORDER_SHIFT = 23;
+    private static final int DEPTH_SHIFT = 24;
+
+    // Number of positions searched between two looks at the clock.
+    private static final int CLOCK_INTERVAL = 16;
+
+    // Number of slots of the cache of turn models, about 1 MB.
+    private static final int MODEL_CAPACITY = 1 << 8;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Time budget of the search of a turn, in nanoseconds.
+    private final long budgetNanos;
+
+    // Transposition table: the key of each slot, -1 if empty, and the chance of winning of the position.
+    private transient int[] tableKeys;
+    private transient double[] tableValues;
+
+    // Turn models of the sets of open categories the search reached: the set of each slot, 0 if empty, and its model.
+    private transient int[] modelKeys;
+    private transient TurnModel[] models;
+
+    // Solver used to build the turn models.
+    private transient ExpectedValueSolver modelSolver;
+
+    // Key of the position the turn was searched for, or -1 if none has been searched.
+    private transient int rootKey = -1;
+
+    // Chance of winning of each final hand of the searched turn, and the category it is scored in or -1 to pass.
+    private transient double[] rootValues;
+    private transient int[] rootChoices;
+
+    // Solver prepared with the chances of winning of the searched turn.
+    private transient ExpectedValueSolver rootSolver;
+
+    // Deadline of the running search, and whether it has passed.
+    private transient long deadline;
+    private transient boolean isTimedOut;
+
+    // Number of positions searched since the clock was last read.
+    private transient int clockCount;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates a strategy with the default time budget.
+     */
+    public ExpectimaxStrategy() {
+        this(DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a strategy with a given time budget.
+     *
+     * @param budgetMillis The time the search of a turn may take, in milliseconds; one turn ahead is always searched.
+     */
+    public ExpectimaxStrategy(long budgetMillis) {
+        if (budgetMillis < 0) {
+            throw new IllegalArgumentException("Invalid time budget: " + budgetMillis);
+        }
+        this.budgetNanos = budgetMillis * 1_000_000;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Computes the mean and variance of the rest of the game for every set of open categories, which all strategies
+     * share. They take about a second and are otherwise computed during the first move, so call this off the move
+     * path, e.g. on a background thread while the game is being set up.
+     */
+    public static void warmUp() {
+        RestOfGame.load();
+    }
+
+    /**
+     * Keeps the dice with the best expected chance of winning over the rolls left.
+     *
+     * @param scoreCard    The scorecard of the game being played.
+     * @param player       The name of the player whose turn it is.
+     * @param firstInRound True if the opponent still plays in this round after this turn.
+     * @param packedKept   The packed histogram of the dice kept earlier in the turn.
+     * @param packedDice   The packed histogram of all five dice on the table.
+     * @param rollsLeft    The number of rolls left in the turn.
+     * @return The packed histogram of the dice to keep, including the dice kept earlier.
+     */
+    @Override
+    public int chooseKeep(ScoreCard scoreCard, String player, boolean firstInRound, int packedKept, int packedDice, int rollsLeft) {
+        if (scoreCard.seatOf(player) == ScoreCardState.NO_OWNER) {
+            return chooseKeep(scoreCard, packedKept, packedDice, rollsLeft);
+        }
+        search(scoreCard, player, firstInRound);
+        return rootSolver.bestKeep(packedKept, packedDice, rollsLeft);
+    }
+
+    /**
+     * Scores the category with the best chance of winning.
+     *
+     * @param scoreCard    The scorecard of the game being played.
+     * @param player       The name of the player whose turn it is.
+     * @param firstInRound True if the opponent still plays in this round after this turn.
+     * @param packedDice   The packed histogram of the final dice.
+     * @return The category with the best chance of winning, or null if none scores.
+     */
+    @Override
+    public Category chooseCategory(ScoreCard scoreCard, String player, boolean firstInRound, int packedDice) {
+        if (scoreCard.seatOf(player) == ScoreCardState.NO_OWNER) {
+            return chooseCategory(scoreCard, packedDice);
+        }
+        search(scoreCard, player, firstInRound);
+        int category = rootChoices[ScoreTable.indexOf(packedDice)];
+        return category < 0 ? null : Category.fromOrdinal(category);
+    }
+
+    /**
+     * Searches the turn of a player, unless it was already searched, deepening until the time budget runs out.
+     *
+     * @param scoreCard    The scorecard of the game being played.
+     * @param player       The name of the player whose turn it is.
+     * @param firstInRound True if the opponent still plays in this round after this turn.
+     */
+    private void search(ScoreCard scoreCard, String player, boolean firstInRound) {
+        if (tableKeys == null) {
+            tableKeys = new int[TABLE_CAPACITY];
+            tableValues = new double[TABLE_CAPACITY];
+            Arrays.fill(tableKeys, -1);
+            modelKeys = new int[MODEL_CAPACITY];
+            models = new TurnModel[MODEL_CAPACITY];
+            modelSolver = new ExpectedValueSolver();
+            rootValues = new double[ScoreTable.HAND_COUNT];
+            rootChoices = new int[ScoreTable.HAND_COUNT];
+            rootSolver = new ExpectedValueSolver();
+            rootKey = -1;
+        }
+        int openMask = scoreCard.getOpenMask();
+        String opponent = scoreCard.getPlayerName(1 - scoreCard.seatOf(player));
+        int diff = scoreCard.getTotalScore(player) - scoreCard.getTotalScore(opponent);
+        int key = keyOf(openMask, diff, true, firstInRound, 0);
+        if (key == rootKey) {
+            return;
+        }
+
+        // One turn ahead is always searched, so that every hand has a value. It stops at the horizon without reading
+        // the clock, but its time counts against the budget.
+        double[] values = new double[ScoreTable.HAND_COUNT];
+        int[] choices = new int[ScoreTable.HAND_COUNT];
+        deadline = System.nanoTime() + budgetNanos;
+        isTimedOut = false;
+        searchRoot(openMask, diff, firstInRound, 1, rootValues, rootChoices);
+        int depth = 1;
+        while (depth < Integer.bitCount(openMask)) {
+            searchRoot(openMask, diff, firstInRound, depth + 1, values, choices);
+            if (isTimedOut) {
+                break;
+            }
+            System.arraycopy(values, 0, rootValues, 0, values.length);
+            System.arraycopy(choices, 0, rootChoices, 0, choices.length);
+            depth++;
+        }
+        rootSolver.prepare(rootValues);
+        rootKey = key;
+        if (Logger.isEnabled()) {
+            Logger.log("Computer searched %d turns ahead.", depth);
+        }
+    }
+
+    /**
+     * Values every final hand of the turn being searched at its best chance of winning.
+     *
+     * @param openMask     Bitmask of open categories.
+     * @param diff         The points of the player minus the points of the opponent.
+     * @param firstInRound True if the opponent still plays in this round after this turn.
+     * @param depth        The number of turns to search, including this one.
+     * @param values       Array of 252 chances of winning to fill.
+     * @param choices      Array of 252 categories to fill, -1 where the hand passes.
+     */
+    private void searchRoot(int openMask, int diff, boolean firstInRound, int depth, double[] values, int[] choices) {
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT && !isTimedOut; hand++) {
+            int bestCategory = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int mask = openMask; mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                int points = ScoreTable.score(category, hand);
+                if (points > 0) {
+                    double value = afterTurn(openMask & ~(1 << category), diff + points, true, firstInRound, depth - 1)
+                            + points * POINT_VALUE;
+                    if (value > bestValue) {
+                        bestValue = value;
+                        bestCategory = category;
+                    }
+                }
+            }
+            values[hand] = bestCategory < 0 ? afterTurn(openMask, diff, true, firstInRound, depth - 1) : bestValue;
+            choices[hand] = bestCategory;
+        }
+    }
+
+    /**
+     * Computes the chance of winning of a position where a player is about to play a turn.
+     *
+     * @param openMask     Bitmask of open categories, at least one.
+     * @param diff         The points of the strategy's player minus the points of the opponent.
+     * @param isMyTurn     True if the strategy's player plays the turn.
+     * @param firstInRound True if the other player still plays in this round after this turn.
+     * @param depth        The number of turns left to search.
+     * @return The chance that the strategy's player wins, a draw counting half.
+     */
+    private double turnValue(int openMask, int diff, boolean isMyTurn, boolean firstInRound, int depth) {
+        if (depth == 0) {
+            return estimate(openMask, diff, isMyTurn, firstInRound);
+        }
+        int key = keyOf(openMask, diff, isMyTurn, firstInRound, depth);
+        int slot = (key * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(TABLE_CAPACITY));
+        if (tableKeys[slot] == key) {
+            return tableValues[slot];
+        }
+        if (++clockCount == CLOCK_INTERVAL) {
+            clockCount = 0;
+            isTimedOut = System.nanoTime() > deadline;
+        }
+        if (isTimedOut) {
+            return 0;
+        }
+
+        TurnModel model = modelOf(openMask);
+        double value = 0;
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+            double probability = model.probabilities[hand];
+            if (probability == 0) {
+                continue;
+            }
+            double handValue;
+            if (isMyTurn) {
+                handValue = Double.NEGATIVE_INFINITY;
+                for (int mask = openMask; mask != 0; mask &= mask - 1) {
+                    int category = Integer.numberOfTrailingZeros(mask);
+                    int points = ScoreTable.score(category, hand);
+                    if (points > 0) {
+                        handValue = Math.max(handValue,
+                                afterTurn(openMask & ~(1 << category), diff + points, true, firstInRound, depth - 1));
+                    }
+                }
+                if (handValue == Double.NEGATIVE_INFINITY) {
+                    handValue = afterTurn(openMask, diff, true, firstInRound, depth - 1);
+                }
+            } else {
+                int category = model.choices[hand];
+                handValue = category < 0
+                        ? afterTurn(openMask, diff, false, firstInRound, depth - 1)
+                        : afterTurn(openMask & ~(1 << category), diff - ScoreTable.score(category, hand), false, firstInRound, depth - 1);
+            }
+            value += probability * handValue;
+        }
+
+        if (!isTimedOut) {
+            tableKeys[slot] = key;
+            tableValues[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Computes the chance of winning of a position right after a turn, following the order of play: the other player
+     * plays next in the round, and the player with the lower total starts the next round, a tie being decided by a
+     * roll of the dice.
+     *
+     * @param openMask        Bitmask of open categories after the turn.
+     * @param diff            The points of the strategy's player minus the points of the opponent after the turn.
+     * @param wasMyTurn       True if the strategy's player played the turn.
+     * @param wasFirstInRound True if the other player still plays in this round.
+     * @param depth           The number of turns left to search.
+     * @return The chance that the strategy's player wins, a draw counting half.
+     */
+    private double afterTurn(int openMask, int diff, boolean wasMyTurn, boolean wasFirstInRound, int depth) {
+        if (openMask == 0) {
+            return diff > 0 ? 1 : diff < 0 ? 0 : 0.5;
+        }
+        if (wasFirstInRound) {
+            return turnValue(openMask, diff, !wasMyTurn, false, depth);
+        }
+        if (diff != 0) {
+            return turnValue(openMask, diff, diff < 0, true, depth);
+        }
+        return (turnValue(openMask, diff, true, true, depth) + turnValue(openMask, diff, false, true, depth)) / 2;
+    }
+
+    /**
+     * Estimates the chance of winning of a position at the search horizon, taking the difference at the end of the
+     * game to be normally distributed with the mean and variance of the rest of the game.
+     *
+     * @param openMask     Bitmask of open categories, at least one.
+     * @param diff         The points of the strategy's player minus the points of the opponent.
+     * @param isMyTurn     True if the strategy's player plays next.
+     * @param firstInRound True if the other player still plays in this round after the next turn.
+     * @return The estimated chance that the strategy's player wins.
+     */
+    private double estimate(int openMask, int diff, boolean isMyTurn, boolean firstInRound) {
+        if (Integer.bitCount(openMask) == 1) {
+            return lastCategoryValue(RestOfGame.LAST_POINTS[Integer.numberOfTrailingZeros(openMask)], diff, isMyTurn, firstInRound);
+        }
+        double restMean = RestOfGame.MEANS[openMask];
+        double mean = diff + (isMyTurn ? restMean : -restMean);
+        double deviation = SPREAD * Math.sqrt(RestOfGame.VARIANCES[openMask]);
+        if (deviation == 0) {
+            return mean > 0 ? 1 : mean < 0 ? 0 : 0.5;
+        }
+        return normalProbability(mean / deviation);
+    }
+
+    /**
+     * Computes the exact chance of winning when one category is left. The score difference does not change until
+     * somebody scores the category, which ends the game, so the chances of the four ways the next turn can be played
+     * (by either player, first or second in the round) solve a small linear system.
+     *
+     * @param pointProbabilities The probability of scoring each number of points in a turn on the last category.
+     * @param diff         The points of the strategy's player minus the points of the opponent.
+     * @param isMyTurn     True if the strategy's player plays next.
+     * @param firstInRound True if the other player still plays in this round after the next turn.
+     * @return The chance that the strategy's player wins, a draw counting half.
+     */
+    private static double lastCategoryValue(double[] pointProbabilities, int diff, boolean isMyTurn, boolean firstInRound) {
+        // Chance of winning right away when the strategy's player scores the category, and when the opponent does.
+        double myWin = 0;
+        double opponentWin = 0;
+        for (int points = 1; points < pointProbabilities.length; points++) {
+            double probability = pointProbabilities[points];
+            myWin += probability * (diff + points > 0 ? 1 : diff + points < 0 ? 0 : 0.5);
+            opponentWin += probability * (diff - points > 0 ? 1 : diff - points < 0 ? 0 : 0.5);
+        }
+        double pass = pointProbabilities[0];
+
+        // The chance at the start of a round: the player behind starts it, a tie starts it either way.
+        double roundStart;
+        if (diff < 0) {
+            roundStart = (myWin + pass * opponentWin) / (1 - pass * pass);
+        } else if (diff > 0) {
+            roundStart = (opponentWin + pass * myWin) / (1 - pass * pass);
+        } else {
+            roundStart = (myWin + opponentWin) / (2 * (1 - pass));
+        }
+        if (!firstInRound) {
+            return (isMyTurn ? myWin : opponentWin) + pass * roundStart;
+        }
+        return isMyTurn ? myWin + pass * (opponentWin + pass * roundStart) : opponentWin + pass * (myWin + pass * roundStart);
+    }
+
+    /**
+     * Retrieves the turn model of a set of open categories, building it the first time the search reaches the set.
+     *
+     * @param openMask Bitmask of open categories, at least one.
+     * @return The turn model.
+     */
+    private TurnModel modelOf(int openMask) {
+        int slot = (openMask * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(MODEL_CAPACITY));
+        if (modelKeys[slot] != openMask) {
+            models[slot] = new TurnModel(openMask, modelSolver);
+            modelKeys[slot] = openMask;
+        }
+        return models[slot];
+    }
+
+    /**
+     * Packs a position into a key of the transposition table.
+     *
+     * @param openMask     Bitmask of open categories.
+     * @param diff         The points of the strategy's player minus the points of the opponent.
+     * @param isMyTurn     True if the strategy's player plays the turn.
+     * @param firstInRound True if the other player still plays in this round after this turn.
+     * @param depth        The number of turns left to search.
+     * @return The key of the position.
+     */
+    private static int keyOf(int openMask, int diff, boolean isMyTurn, boolean firstInRound, int depth) {
+        return openMask | (diff + DIFF_OFFSET) << DIFF_SHIFT | (isMyTurn ? 1 : 0) << MOVER_SHIFT
+                | (firstInRound ? 1 : 0) << ORDER_SHIFT | depth << DEPTH_SHIFT;
+    }
+
+    /**
+     * Computes the standard normal cumulative distribution, with the approximation 7.1.26 of Abramowitz and Stegun,
+     * accurate to about 1e-7.
+     *
+     * @param x The number of standard deviations.
+     * @return The probability that a standard normal variable is at most x.
+     */
+    private static double normalProbability(double x) {
+        double z = Math.abs(x) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * z);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+                * Math.exp(-z * z);
+        return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    // *******************************
+    // Turn Model
+    // *******************************
+
+    /**
+     * What a turn played for the most points on a set of open categories leads to: the distribution of the final
+     * hand, the category the player scores it in and the points.
+     */
+    private static final class TurnModel {
+
+        // Probability of each final hand.
+        final double[] probabilities = new double[ScoreTable.HAND_COUNT];
+
+        // The open category with the most points of each hand, ties going to the later category; -1 to pass.
+        final int[] choices = new int[ScoreTable.HAND_COUNT];
+
+        // Probability of scoring each number of points in the turn; 0 points is a pass.
+        final double[] pointProbabilities = new double[MAX_POINTS + 1];
+
+        /**
+         * Plays out the three rolls of a turn exactly, keeping the dice that maximize the expected score.
+         *
+         * @param openMask Bitmask of open categories, at least one.
+         * @param solver   A solver to prepare for the open categories.
+         */
+        TurnModel(int openMask, ExpectedValueSolver solver) {
+            solver.prepare(ExpectedValueSolver.immediateValues(openMask, new double[ScoreTable.HAND_COUNT]));
+
+            // Every roll goes by transition, from the dice kept to the hand, so that dice kept stay kept. The chances
+            // of the hands that lead to the same keep are summed first, so the dice rolled are spread once per keep.
+            double[] keepChances = new double[TransitionTable.KEEP_COUNT];
+            int noDice = TransitionTable.keepIndexOf(0);
+            for (int first = TransitionTable.start(noDice); first < TransitionTable.end(noDice); first++) {
+                keepChances[solver.bestKeepOf(first, 2)] += TransitionTable.probabilityOf(first);
+            }
+
+            // The second roll.
+            double[] secondRoll = new double[TransitionTable.getTransitionCount()];
+            for (int keep = 0; keep < TransitionTable.KEEP_COUNT; keep++) {
+                if (keepChances[keep] != 0) {
+                    for (int transition = TransitionTable.start(keep); transition < TransitionTable.end(keep); transition++) {
+                        secondRoll[transition] = keepChances[keep] * TransitionTable.probabilityOf(transition);
+                    }
+                }
+            }
+
+            // The third roll.
+            Arrays.fill(keepChances, 0);
+            for (int from = 0; from < secondRoll.length; from++) {
+                if (secondRoll[from] != 0) {
+                    keepChances[solver.bestKeepOf(from, 1)] += secondRoll[from];
+                }
+            }
+            for (int keep = 0; keep < TransitionTable.KEEP_COUNT; keep++) {
+                if (keepChances[keep] != 0) {
+                    for (int transition = TransitionTable.start(keep); transition < TransitionTable.end(keep); transition++) {
+                        probabilities[TransitionTable.handOf(transition)] += keepChances[keep] * TransitionTable.probabilityOf(transition);
+                    }
+                }
+            }
+
+            // The category and points of each final hand.
+            for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+                int bestCategory = -1;
+                int bestPoints = 0;
+                for (int mask = openMask; mask != 0; mask &= mask - 1) {
+                    int category = Integer.numberOfTrailingZeros(mask);
+                    int points = ScoreTable.score(category, hand);
+                    if (points > 0 && points >= bestPoints) {
+                        bestCategory = category;
+                        bestPoints = points;
+                    }
+                }
+                choices[hand] = bestCategory;
+                pointProbabilities[bestPoints] += probabilities[hand];
+            }
+        }
+    }
+
+    // *******************************
+    // Rest of the Game
+    // *******************************
+
+    /**
+     * Mean and variance of the mover's points minus the other player's over the rest of the game, for every set of
+     * open categories, when both players fill them turn about, each turn played as its {@link TurnModel}. They are
+     * computed from the fewest open categories up when the class is first used, in about a second. Only the point
+     * distributions of the single categories are kept from the models; the search builds the models it needs.
+     */
+    private static final class RestOfGame {
+
+        static final double[] MEANS = new double[1 << ScoreTable.CATEGORY_COUNT];
+        static final double[] VARIANCES = new double[1 << ScoreTable.CATEGORY_COUNT];
+
+        // Probability of scoring each number of points in a turn on each category when it is the last one open.
+        static final double[][] LAST_POINTS = new double[ScoreTable.CATEGORY_COUNT][];
+
+        static {
+            ExpectedValueSolver solver = new ExpectedValueSolver();
+            for (int count = 1; count <= ScoreTable.CATEGORY_COUNT; count++) {
+                for (int openMask = 1; openMask < MEANS.length; openMask++) {
+                    if (Integer.bitCount(openMask) == count) {
+                        TurnModel model = new TurnModel(openMask, solver);
+                        store(openMask, model);
+                        if (count == 1) {
+                            LAST_POINTS[Integer.numberOfTrailingZeros(openMask)] = model.pointProbabilities;
+                        }
+                    }
+                }
+            }
+        }
+
+        private RestOfGame() {
+        }
+
+        /**
+         * Does nothing; calling it computes the tables if they are not yet.
+         */
+        static void load() {
+        }
+
+        /**
+         * Computes the rest of the game from a set of open categories, whose subsets are already computed. The
+         * difference D is the points X of the turn minus the difference D' the other player makes over the categories
+         * left open; a pass leaves the categories as they were, hence the divisions at the end.
+         *
+         * @param openMask Bitmask of open categories.
+         * @param model    The turn model of the open categories.
+         */
+        private static void store(int openMask, TurnModel model) {
+            double mean = 0;
+            double secondMoment = 0;
+            for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+                int category = model.choices[hand];
+                double probability = model.probabilities[hand];
+                if (category < 0 || probability == 0) {
+                    continue;
+                }
+                int points = ScoreTable.score(category, hand);
+                int restMask = openMask & ~(1 << category);
+                double otherMean = MEANS[restMask];
+                double otherSecondMoment = VARIANCES[restMask] + otherMean * otherMean;
+                mean += probability * (points - otherMean);
+                secondMoment += probability * (points * points - 2 * points * otherMean + otherSecondMoment);
+            }
+            double passProbability = model.pointProbabilities[0];
+            MEANS[openMask] = mean / (1 + passProbability);
+            VARIANCES[openMask] = Math.max(secondMoment / (1 - passProbability) - MEANS[openMask] * MEANS[openMask], 0);
+        }
+    }
+}
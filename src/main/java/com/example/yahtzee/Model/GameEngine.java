@@ -0,0 +1,736 @@
+package com.example.yahtzee.Model;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turn and round state machine of a game, free of any Android dependency.
+ * <p>
+ * The engine drives the players, the scorecard and the dice through the rules of a game: each round the two
+ * players take one turn each; a turn is up to three rolls, where the dice kept after a roll stay kept for the
+ * rest of the turn; the turn ends by scoring the final dice in an open category that gives points, or without
+ * a score if there is none. The game is over once every category is filled, and the player with the lower total
+ * starts the next round.
+ * </p>
+ * <p>
+ * The engine only moves between phases through its mutators and rejects moves that are not allowed in the
+ * current phase with an {@link IllegalStateException}, so a screen can render it by reading its selectors,
+ * and a simulation can play whole games with {@link #playComputerTurn()} and {@link #startNextRound()}.
+ * </p>
+ * <p>
+ * Every turn start (with the first roll of the turn), roll, keep, score and round end is published as a
+ * {@link GameEvent} to the engine's {@link GameEventSink}s. The {@link LogSink} is attached by default;
+ * events are only created while at least one sink is active.
+ * </p>
+ */
+public class GameEngine implements Serializable {
+
+    // *******************************
+    // Nested Types
+    // *******************************
+
+    /**
+     * The moves the engine is waiting for.
+     */
+    public enum Phase {
+        /** The current player must roll the dice that are not kept. */
+        ROLL,
+        /** The current player must keep dice and roll again, or stand. */
+        KEEP,
+        /** The current player must score the final dice, or pass if no category gives points. */
+        SCORE,
+        /** Both players have played their turn; the next round must be started. */
+        ROUND_OVER,
+        /** Every category is filled. */
+        GAME_OVER
+    }
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of dice in a hand.
+     */
+    public static final int DICE_COUNT = 5;
+
+    /**
+     * Number of rolls allowed in a turn.
+     */
+    public static final int MAX_ROLLS = 3;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The game being played, owning the scorecard and the round number.
+    private final GameState game;
+
+    // The player who plays first in the current round.
+    private Player firstPlayer;
+
+    // The player who plays second in the current round.
+    private Player secondPlayer;
+
+    // The player whose turn it is.
+    private Player currentPlayer;
+
+    // The number of rolls made in the current turn, from 0 to 3.
+    private int rollCount;
+
+    // The dice on the table: the dice kept in the current turn, which are not rolled again, then the latest roll.
+    private final int[] tableDice = new int[DICE_COUNT];
+
+    // The number of kept dice at the start of tableDice.
+    private int keptCount;
+
+    // The number of dice of the latest roll, following the kept dice in tableDice.
+    private int rolledCount;
+
+    // The move the engine is waiting for.
+    private Phase phase;
+
+    // The dice used for every roll of the game, so that a seeded game can be replayed exactly.
+    private final Dice dice;
+
+    // The sinks receiving the events of the game; not saved with the engine, which gets the log sink back when loaded.
+    private transient List<GameEventSink> sinks;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates an engine at the start of the first turn of a round.
+     *
+     * @param game         The game being played.
+     * @param firstPlayer  The player who plays first in the round.
+     * @param secondPlayer The player who plays second in the round.
+     */
+    public GameEngine(GameState game, Player firstPlayer, Player secondPlayer) {
+        this(game, firstPlayer, secondPlayer, new Dice());
+    }
+
+    /**
+     * Creates an engine at the start of the first turn of a round, rolling the given dice.
+     *
+     * @param game         The game being played.
+     * @param firstPlayer  The player who plays first in the round.
+     * @param secondPlayer The player who plays second in the round.
+     * @param dice         The dice used for every roll of the game, including the rolls that break ties.
+     */
+    public GameEngine(GameState game, Player firstPlayer, Player secondPlayer, Dice dice) {
+        this.game = game;
+        this.dice = dice;
+        this.firstPlayer = firstPlayer;
+        this.secondPlayer = secondPlayer;
+        this.currentPlayer = firstPlayer;
+        this.phase = game.isGameOver() ? Phase.GAME_OVER : Phase.ROLL;
+        initSinks();
+    }
+
+    /**
+     * Recreates an engine in the middle of a game, e.g. from a save file. The caller is responsible for passing
+     * a consistent state.
+     *
+     * @param game          The game being played.
+     * @param firstPlayer   The player who plays first in the round.
+     * @param secondPlayer  The player who plays second in the round.
+     * @param currentPlayer The player whose turn it is, one of the two players.
+     * @param phase         The move the engine is waiting for.
+     * @param rollCount     The number of rolls made in the current turn.
+     * @param tableDice     The kept dice followed by the latest roll; copied.
+     * @param keptCount     The number of kept dice.
+     * @param rolledCount   The number of dice of the latest roll.
+     * @param dice          The dice used for every further roll.
+     */
+    GameEngine(GameState game, Player firstPlayer, Player secondPlayer, Player currentPlayer, Phase phase,
+               int rollCount, int[] tableDice, int keptCount, int rolledCount, Dice dice) {
+        this(game, firstPlayer, secondPlayer, dice);
+        this.currentPlayer = currentPlayer;
+        this.phase = phase;
+        this.rollCount = rollCount;
+        System.arraycopy(tableDice, 0, this.tableDice, 0, DICE_COUNT);
+        this.keptCount = keptCount;
+        this.rolledCount = rolledCount;
+    }
+
+    /**
+     * Creates an engine at the start of the first turn of a round.
+     *
+     * @param round The round to play.
+     */
+    public GameEngine(Round round) {
+        this(round.getGame(), round.getFirstPlayer(), round.getSecondPlayer());
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the game being played.
+     *
+     * @return The game state.
+     */
+    public GameState getGame() {
+        return game;
+    }
+
+    /**
+     * Retrieves the scorecard of the game being played.
+     *
+     * @return The scorecard.
+     */
+    public ScoreCard getScoreCard() {
+        return game.getScoreCard();
+    }
+
+    /**
+     * Retrieves the current round number.
+     *
+     * @return The round number.
+     */
+    public int getRoundNumber() {
+        return game.getRoundNumber();
+    }
+
+    /**
+     * Retrieves the dice used for the rolls of the game.
+     *
+     * @return The dice, whose seed and draw count describe the state of the game's random numbers.
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Retrieves the player who plays first in the current round.
+     *
+     * @return The first player.
+     */
+    public Player getFirstPlayer() {
+        return firstPlayer;
+    }
+
+    /**
+     * Retrieves the player who plays second in the current round.
+     *
+     * @return The second player.
+     */
+    public Player getSecondPlayer() {
+        return secondPlayer;
+    }
+
+    /**
+     * Retrieves the player whose turn it is.
+     *
+     * @return The current player.
+     */
+    public Player getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Retrieves the move the engine is waiting for.
+     *
+     * @return The current phase.
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Retrieves the number of rolls made in the current turn.
+     *
+     * @return The roll count, from 0 before the first roll to 3 after the last one.
+     */
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    /**
+     * Retrieves the dice kept in the current turn.
+     *
+     * @return A new list of the kept dice, in the order they were kept.
+     */
+    public List<Integer> getKeptDice() {
+        return toList(0, keptCount);
+    }
+
+    /**
+     * Retrieves the dice rolled by the latest roll of the current turn.
+     *
+     * @return A new list of the rolled dice, in the order they were rolled.
+     */
+    public List<Integer> getRolledDice() {
+        return toList(keptCount, keptCount + rolledCount);
+    }
+
+    /**
+     * Retrieves all dice on the table: the kept dice followed by the latest roll.
+     *
+     * @return A new list of the current dice.
+     */
+    public List<Integer> getCurrentDice() {
+        return toList(0, keptCount + rolledCount);
+    }
+
+    /**
+     * Retrieves the dice kept in the current turn as a face-count histogram.
+     *
+     * @return The packed histogram of the kept dice, see {@link ScoreTable#pack(int[], int, int)}.
+     */
+    public int getPackedKeptDice() {
+        return ScoreTable.pack(tableDice, 0, keptCount);
+    }
+
+    /**
+     * Retrieves all dice on the table as a face-count histogram.
+     *
+     * @return The packed histogram of the kept dice and the latest roll.
+     */
+    public int getPackedCurrentDice() {
+        return ScoreTable.pack(tableDice, 0, keptCount + rolledCount);
+    }
+
+    /**
+     * Lists the open categories in which the current dice give points.
+     *
+     * @return The categories the current player may score, in scorecard order; empty if the turn must be passed.
+     */
+    public List<Category> getScorableCategories() {
+        List<Category> categories = new ArrayList<>();
+        for (int mask = getScorableMask(); mask != 0; mask &= mask - 1) {
+            categories.add(Category.fromOrdinal(Integer.numberOfTrailingZeros(mask)));
+        }
+        return categories;
+    }
+
+    /**
+     * Finds the open categories in which the current dice give points.
+     *
+     * @return A mask with bit {@link Category#ordinal()} set for every category the current player may score;
+     *         0 if the turn must be passed.
+     */
+    public int getScorableMask() {
+        return game.getScoreCard().getScorableMask(getPackedCurrentDice());
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return True if every category is filled, false otherwise.
+     */
+    public boolean isGameOver() {
+        return phase == Phase.GAME_OVER;
+    }
+
+    /**
+     * Decides who starts the next round: the player with the lower total.
+     *
+     * @return The player who starts the next round, or null if the totals are tied.
+     */
+    public Player getNextRoundFirstPlayer() {
+        ScoreCard scoreCard = game.getScoreCard();
+        int firstScore = firstPlayer.getTotalScore(scoreCard);
+        int secondScore = secondPlayer.getTotalScore(scoreCard);
+        if (firstScore == secondScore) {
+            return null;
+        }
+        return firstScore < secondScore ? firstPlayer : secondPlayer;
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Rolls the dice that are not kept. The result is read with {@link #getRolledDice()}.
+     */
+    public void roll() {
+        requirePhase(Phase.ROLL);
+        rolledCount = DICE_COUNT - keptCount;
+        dice.rollDice(tableDice, keptCount, rolledCount);
+        finishRoll();
+    }
+
+    /**
+     * Sets the values of the dice that are not kept instead of rolling them.
+     *
+     * @param values The values of the dice, one per die that is not kept.
+     */
+    public void setDice(List<Integer> values) {
+        requirePhase(Phase.ROLL);
+        if (values.size() != DICE_COUNT - keptCount) {
+            throw new IllegalArgumentException("Expected " + (DICE_COUNT - keptCount) + " dice values, got " + values.size() + ".");
+        }
+        for (int value : values) {
+            if (value < 1 || value > 6) {
+                throw new IllegalArgumentException("Dice values must be between 1 and 6.");
+            }
+        }
+        rolledCount = values.size();
+        for (int i = 0; i < rolledCount; i++) {
+            tableDice[keptCount + i] = values.get(i);
+        }
+        finishRoll();
+    }
+
+    /**
+     * Keeps some of the rolled dice and gets ready to roll the others. Keeping every die means standing.
+     *
+     * @param dice The rolled dice to keep; may be empty to roll all the dice that are not kept.
+     */
+    public void keep(List<Integer> dice) {
+        requirePhase(Phase.KEEP);
+        requireRolled(ScoreTable.pack(dice));
+        for (int die : dice) {
+            keepDie(die);
+        }
+        finishKeep(getPackedCurrentDice());
+    }
+
+    /**
+     * Keeps some of the rolled dice, given as a face-count histogram, and gets ready to roll the others.
+     *
+     * @param packedDice The packed histogram of the rolled dice to keep; 0 to roll all the dice that are not kept.
+     */
+    public void keepPacked(int packedDice) {
+        requirePhase(Phase.KEEP);
+        requireRolled(packedDice);
+        for (int face = 1; face <= 6; face++) {
+            for (int i = ScoreTable.count(packedDice, face); i > 0; i--) {
+                keepDie(face);
+            }
+        }
+        finishKeep(getPackedCurrentDice());
+    }
+
+    /**
+     * Stops rolling and gets ready to score the current dice.
+     */
+    public void stand() {
+        requirePhase(Phase.KEEP);
+        if (isPublishing()) {
+            publish(new KeepEvent(game.getRoundNumber(), currentPlayer.getName(), rollCount, getPackedCurrentDice(), 0));
+        }
+        phase = Phase.SCORE;
+    }
+
+    /**
+     * Scores the current dice in a category for the current player and ends the turn.
+     *
+     * @param category An open category in which the current dice give points.
+     */
+    public void score(Category category) {
+        requirePhase(Phase.SCORE);
+        int packedDice = getPackedCurrentDice();
+        ScoreCard scoreCard = game.getScoreCard();
+        if (!scoreCard.isCategoryAvailable(category) || ScoreCard.calculatePoints(category, packedDice) <= 0) {
+            throw new IllegalArgumentException(category + " cannot be scored with " + getCurrentDice() + ".");
+        }
+        scoreCard.chooseCategory(category, packedDice, currentPlayer.getName(), game.getRoundNumber());
+        if (isPublishing()) {
+            publish(new ScoreEvent(game.getRoundNumber(), currentPlayer.getName(), category,
+                    ScoreCard.calculatePoints(category, packedDice), packedDice));
+        }
+        endTurn();
+    }
+
+    /**
+     * Ends the turn without a score, which is only allowed when no open category gives points.
+     */
+    public void pass() {
+        requirePhase(Phase.SCORE);
+        if (getScorableMask() != 0) {
+            throw new IllegalStateException("A category can be scored, so the turn cannot be passed.");
+        }
+        if (isPublishing()) {
+            publish(new ScoreEvent(game.getRoundNumber(), currentPlayer.getName(), null, 0, getPackedCurrentDice()));
+        }
+        endTurn();
+    }
+
+    /**
+     * Starts the next round with the given turn order.
+     *
+     * @param first  The player who plays first.
+     * @param second The player who plays second.
+     */
+    public void startNextRound(Player first, Player second) {
+        requirePhase(Phase.ROUND_OVER);
+        game.incrementRound();
+        firstPlayer = first;
+        secondPlayer = second;
+        Logger.log("Round %d has started", game.getRoundNumber());
+        startTurn(first);
+    }
+
+    /**
+     * Starts the next round. The player with the lower total plays first; a tie is broken by each player rolling
+     * a die until one rolls higher.
+     */
+    public void startNextRound() {
+        Player first = getNextRoundFirstPlayer();
+        while (first == null) {
+            int firstRoll = dice.rollSingleDice();
+            int secondRoll = dice.rollSingleDice();
+            if (firstRoll != secondRoll) {
+                first = firstRoll > secondRoll ? firstPlayer : secondPlayer;
+            }
+        }
+        startNextRound(first, first == firstPlayer ? secondPlayer : firstPlayer);
+    }
+
+    /**
+     * Attaches a sink that receives the events of the game from now on.
+     *
+     * @param sink The sink.
+     */
+    public void addSink(GameEventSink sink) {
+        sinks.add(sink);
+    }
+
+    /**
+     * Detaches a sink, e.g. the {@link LogSink} for an engine whose moves should not be logged.
+     *
+     * @param sink The sink.
+     */
+    public void removeSink(GameEventSink sink) {
+        sinks.remove(sink);
+    }
+
+    // *******************************
+    // Computer Moves
+    // *******************************
+
+    /**
+     * Lets the current player, which must be a {@link Computer}, decide which dice to keep after a roll,
+     * and applies the decision: standing if it keeps every die, keeping the chosen dice otherwise.
+     *
+     * @return The packed histogram of the dice the computer keeps, including the dice kept earlier in the turn.
+     */
+    public int playComputerKeep() {
+        requirePhase(Phase.KEEP);
+        Computer computer = (Computer) currentPlayer;
+        int packedKeep = computer.chooseKeep(game.getScoreCard(), tableDice, keptCount, MAX_ROLLS - rollCount,
+                currentPlayer == firstPlayer);
+        if (ExpectedValueSolver.size(packedKeep) == DICE_COUNT) {
+            stand();
+            return packedKeep;
+        }
+
+        // Only dice of the latest roll can be kept; the dice kept earlier are already part of the keep.
+        int packedKept = getPackedKeptDice();
+        int packedRolled = getPackedCurrentDice() - packedKept;
+        int newlyKept = 0;
+        for (int face = 1; face <= 6; face++) {
+            int count = Math.min(Math.max(ScoreTable.count(packedKeep, face) - ScoreTable.count(packedKept, face), 0),
+                    ScoreTable.count(packedRolled, face));
+            newlyKept += count << ((face - 1) * ScoreTable.BITS_PER_FACE);
+        }
+        keepPacked(newlyKept);
+        return packedKeep;
+    }
+
+    /**
+     * Lets the current player, which must be a {@link Computer}, score the final dice, or pass if it has no
+     * category to score.
+     *
+     * @return The category scored, or null if the turn was passed.
+     */
+    public Category playComputerScore() {
+        requirePhase(Phase.SCORE);
+        Computer computer = (Computer) currentPlayer;
+        int packedDice = getPackedCurrentDice();
+        Category category = computer.chooseCategory(game.getScoreCard(), packedDice, currentPlayer == firstPlayer);
+        if (category != null) {
+            score(category);
+        } else {
+            pass();
+        }
+        return category;
+    }
+
+    /**
+     * Plays the whole turn of the current player, which must be a {@link Computer}.
+     *
+     * @return The category scored, or null if the turn was passed.
+     */
+    public Category playComputerTurn() {
+        while (phase == Phase.ROLL || phase == Phase.KEEP) {
+            if (phase == Phase.ROLL) {
+                roll();
+            } else {
+                playComputerKeep();
+            }
+        }
+        return playComputerScore();
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Records a roll and moves to the next decision.
+     */
+    private void finishRoll() {
+        rollCount++;
+        if (isPublishing()) {
+            if (rollCount == 1) {
+                publish(new TurnStartEvent(game.getRoundNumber(), currentPlayer.getName()));
+            }
+            publish(new RollEvent(game.getRoundNumber(), currentPlayer.getName(), rollCount, tableDice, keptCount, keptCount + rolledCount));
+        }
+        phase = rollCount < MAX_ROLLS ? Phase.KEEP : Phase.SCORE;
+    }
+
+    /**
+     * Checks that dice to keep are part of the latest roll.
+     *
+     * @param packedDice The packed histogram of the dice to keep.
+     */
+    private void requireRolled(int packedDice) {
+        int packedRolled = ScoreTable.pack(tableDice, keptCount, keptCount + rolledCount);
+        for (int face = 1; face <= 6; face++) {
+            if (ScoreTable.count(packedDice, face) > ScoreTable.count(packedRolled, face)) {
+                throw new IllegalArgumentException("Kept dice " + ScoreTable.toList(packedDice) + " are not part of the roll " + getRolledDice() + ".");
+            }
+        }
+    }
+
+    /**
+     * Moves a die of the latest roll to the end of the kept dice.
+     *
+     * @param value The value of a rolled die.
+     */
+    private void keepDie(int value) {
+        for (int i = keptCount; i < keptCount + rolledCount; i++) {
+            if (tableDice[i] == value) {
+                tableDice[i] = tableDice[keptCount];
+                tableDice[keptCount] = value;
+                keptCount++;
+                rolledCount--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Clears the rest of the roll after keeping dice and moves to the next roll, or to scoring once every die is kept.
+     *
+     * @param packedDice The packed histogram of all five dice before the rest of the roll is cleared.
+     */
+    private void finishKeep(int packedDice) {
+        if (isPublishing()) {
+            int packedKept = getPackedKeptDice();
+            publish(new KeepEvent(game.getRoundNumber(), currentPlayer.getName(), rollCount, packedKept, packedDice - packedKept));
+        }
+        rolledCount = 0;
+        phase = keptCount == DICE_COUNT ? Phase.SCORE : Phase.ROLL;
+    }
+
+    /**
+     * Copies a range of the dice on the table into a list.
+     *
+     * @param from The index of the first die, inclusive.
+     * @param to   The index of the last die, exclusive.
+     * @return A new list of the dice values.
+     */
+    private List<Integer> toList(int from, int to) {
+        List<Integer> values = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            values.add(tableDice[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Ends the turn of the current player and moves to the next turn, the end of the round or the end of the game.
+     */
+    private void endTurn() {
+        if (game.isGameOver()) {
+            phase = Phase.GAME_OVER;
+        } else if (currentPlayer == firstPlayer) {
+            startTurn(secondPlayer);
+            return;
+        } else {
+            phase = Phase.ROUND_OVER;
+        }
+        if (isPublishing()) {
+            ScoreCard scoreCard = game.getScoreCard();
+            publish(new RoundEndEvent(game.getRoundNumber(), firstPlayer.getName(), firstPlayer.getTotalScore(scoreCard),
+                    secondPlayer.getName(), secondPlayer.getTotalScore(scoreCard), phase == Phase.GAME_OVER));
+        }
+    }
+
+    /**
+     * Starts the turn of a player with no dice kept or rolled.
+     *
+     * @param player The player whose turn it is.
+     */
+    private void startTurn(Player player) {
+        currentPlayer = player;
+        rollCount = 0;
+        keptCount = 0;
+        rolledCount = 0;
+        phase = Phase.ROLL;
+    }
+
+    /**
+     * Checks whether any sink wants events, so that no event is created for nobody.
+     *
+     * @return True if at least one sink is active.
+     */
+    private boolean isPublishing() {
+        for (int i = 0; i < sinks.size(); i++) {
+            if (sinks.get(i).isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes an event to every active sink.
+     *
+     * @param event The event.
+     */
+    private void publish(GameEvent event) {
+        for (int i = 0; i < sinks.size(); i++) {
+            GameEventSink sink = sinks.get(i);
+            if (sink.isActive()) {
+                event.dispatch(sink);
+            }
+        }
+    }
+
+    /**
+     * Attaches the default sinks.
+     */
+    private void initSinks() {
+        sinks = new ArrayList<>();
+        sinks.add(LogSink.INSTANCE);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initSinks();
+    }
+
+    /**
+     * Checks that the engine is waiting for a move.
+     *
+     * @param expected The phase the move is allowed in.
+     */
+    private void requirePhase(Phase expected) {
+        if (phase != expected) {
+            throw new IllegalStateException("Expected phase " + expected + " but the game is in phase " + phase + ".");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Something that happened in a game, published by the {@link GameEngine} to its {@link GameEventSink}s.
+ * <p>
+ * Events are immutable and carry their data as primitives and packed face-count histograms, so a sink can
+ * count, store or replay them without parsing text. Their {@link #toString()} is the message shown in the log.
+ * </p>
+ */
+public abstract class GameEvent {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The round the event happened in.
+    private final int round;
+
+    // The name of the player the event is about.
+    private final String player;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates an event.
+     *
+     * @param round  The round the event happened in.
+     * @param player The name of the player the event is about.
+     */
+    protected GameEvent(int round, String player) {
+        this.round = round;
+        this.player = player;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the round the event happened in.
+     *
+     * @return The round number.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Retrieves the player the event is about.
+     *
+     * @return The name of the player.
+     */
+    public String getPlayer() {
+        return player;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Passes the event to the method of a sink that handles its type.
+     *
+     * @param sink The sink receiving the event.
+     */
+    public abstract void dispatch(GameEventSink sink);
+}
@@ -0,0 +1,60 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Receiver of the events of a game, attached with {@link GameEngine#addSink(GameEventSink)}.
+ * <p>
+ * Every method does nothing by default, so a sink only implements the events it cares about. The engine
+ * creates no event at all while none of its sinks is active.
+ * </p>
+ */
+public interface GameEventSink {
+
+    /**
+     * Checks whether the sink currently wants events.
+     *
+     * @return True to receive events, false to let the engine skip creating them.
+     */
+    default boolean isActive() {
+        return true;
+    }
+
+    /**
+     * Receives the start of a turn.
+     *
+     * @param event The event.
+     */
+    default void onTurnStart(TurnStartEvent event) {
+    }
+
+    /**
+     * Receives a roll.
+     *
+     * @param event The event.
+     */
+    default void onRoll(RollEvent event) {
+    }
+
+    /**
+     * Receives a keep decision.
+     *
+     * @param event The event.
+     */
+    default void onKeep(KeepEvent event) {
+    }
+
+    /**
+     * Receives the end of a turn.
+     *
+     * @param event The event.
+     */
+    default void onScore(ScoreEvent event) {
+    }
+
+    /**
+     * Receives the end of a round.
+     *
+     * @param event The event.
+     */
+    default void onRoundEnd(RoundEndEvent event) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Sink aggregating the events of one or more games into counters, e.g. to profile how a strategy plays
+ * without reading the log.
+ * <p>
+ * A sink is meant to be attached to the engines of a single thread; merge the metrics of several threads
+ * with {@link #merge(GameMetrics)}.
+ * </p>
+ */
+public class GameMetrics implements GameEventSink {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Number of turns started.
+    private long turns;
+
+    // Number of rolls, indexed by the roll number minus one.
+    private final long[] rolls = new long[GameEngine.MAX_ROLLS];
+
+    // Number of keep decisions that rolled again, and that stood.
+    private long rerolls;
+    private long stands;
+
+    // Number of turns scored in each category, and the points they scored.
+    private final long[] scores = new long[ScoreTable.CATEGORY_COUNT];
+    private final long[] points = new long[ScoreTable.CATEGORY_COUNT];
+
+    // Number of turns passed without a score.
+    private long passes;
+
+    // Number of rounds ended, and of games ended.
+    private long rounds;
+    private long games;
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the number of turns started.
+     *
+     * @return The number of turns.
+     */
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Retrieves how many times a roll of the turn was made.
+     *
+     * @param rollNumber The roll of the turn, from 1 to 3.
+     * @return The number of rolls.
+     */
+    public long getRolls(int rollNumber) {
+        return rolls[rollNumber - 1];
+    }
+
+    /**
+     * Retrieves the number of keep decisions that rolled again.
+     *
+     * @return The number of rerolls.
+     */
+    public long getRerolls() {
+        return rerolls;
+    }
+
+    /**
+     * Retrieves the number of keep decisions that stopped rolling before the last roll.
+     *
+     * @return The number of stands.
+     */
+    public long getStands() {
+        return stands;
+    }
+
+    /**
+     * Retrieves how many turns scored a category.
+     *
+     * @param category The category.
+     * @return The number of turns.
+     */
+    public long getScores(Category category) {
+        return scores[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the points scored in a category.
+     *
+     * @param category The category.
+     * @return The points over all turns.
+     */
+    public long getPoints(Category category) {
+        return points[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of turns passed without a score.
+     *
+     * @return The number of passes.
+     */
+    public long getPasses() {
+        return passes;
+    }
+
+    /**
+     * Retrieves the number of rounds ended, including the last round of each game.
+     *
+     * @return The number of rounds.
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Retrieves the number of games ended.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Computes the mean number of rolls of a turn.
+     *
+     * @return The mean number of rolls, or 0 if no turn was played.
+     */
+    public double getMeanRollsPerTurn() {
+        return turns == 0 ? 0 : (double) (rolls[0] + rolls[1] + rolls[2]) / turns;
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Adds the counters of another sink to this one.
+     *
+     * @param other The metrics to add.
+     */
+    public void merge(GameMetrics other) {
+        turns += other.turns;
+        for (int roll = 0; roll < rolls.length; roll++) {
+            rolls[roll] += other.rolls[roll];
+        }
+        rerolls += other.rerolls;
+        stands += other.stands;
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            scores[category] += other.scores[category];
+            points[category] += other.points[category];
+        }
+        passes += other.passes;
+        rounds += other.rounds;
+        games += other.games;
+    }
+
+    // *******************************
+    // Event Handlers
+    // *******************************
+
+    @Override
+    public void onTurnStart(TurnStartEvent event) {
+        turns++;
+    }
+
+    @Override
+    public void onRoll(RollEvent event) {
+        rolls[event.getRollNumber() - 1]++;
+    }
+
+    @Override
+    public void onKeep(KeepEvent event) {
+        if (event.isStanding()) {
+            stands++;
+        } else {
+            rerolls++;
+        }
+    }
+
+    @Override
+    public void onScore(ScoreEvent event) {
+        if (event.isPassed()) {
+            passes++;
+        } else {
+            scores[event.getCategory().ordinal()]++;
+            points[event.getCategory().ordinal()] += event.getPoints();
+        }
+    }
+
+    @Override
+    public void onRoundEnd(RoundEndEvent event) {
+        rounds++;
+        if (event.isGameOver()) {
+            games++;
+        }
+    }
+}
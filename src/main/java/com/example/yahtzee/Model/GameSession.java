@@ -0,0 +1,130 @@
+package com.example.yahtzee.Model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A game being played in the app: its state and, once the turn order of a round is decided, its engine.
+ * <p>
+ * Screens share a session through {@link GameSessions} by its ID instead of serializing the game into every
+ * screen change. A session is written to bytes with {@link #toBytes()} only when its screen must be restored
+ * after the process is killed.
+ * </p>
+ */
+public final class GameSession {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The game being played, owning the scorecard and the round number.
+    private final GameState game;
+
+    // The engine playing the game, or null until the turn order of a round is decided.
+    private GameEngine engine;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates a session for a game whose turn order is not decided yet.
+     *
+     * @param game The game.
+     */
+    public GameSession(GameState game) {
+        this.game = game;
+    }
+
+    /**
+     * Creates a session for a game being played by an engine.
+     *
+     * @param engine The engine of the game.
+     */
+    public GameSession(GameEngine engine) {
+        this.game = engine.getGame();
+        this.engine = engine;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the game being played.
+     *
+     * @return The game.
+     */
+    public GameState getGame() {
+        return game;
+    }
+
+    /**
+     * Retrieves the engine playing the game.
+     *
+     * @return The engine, or null until the turn order of a round is decided.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Starts a round with a decided turn order: the engine's next round if the engine is between rounds, or the
+     * first round of a new engine otherwise.
+     *
+     * @param first  The player who plays first.
+     * @param second The player who plays second.
+     * @return The engine playing the round.
+     */
+    public GameEngine startRound(Player first, Player second) {
+        if (engine != null && engine.getPhase() == GameEngine.Phase.ROUND_OVER) {
+            // Play on with the engine's own players, so that the dice and players of the game are kept.
+            boolean isFirstKept = engine.getFirstPlayer().getName().equals(first.getName());
+            Player keptFirst = isFirstKept ? engine.getFirstPlayer() : engine.getSecondPlayer();
+            Player keptSecond = isFirstKept ? engine.getSecondPlayer() : engine.getFirstPlayer();
+            engine.startNextRound(keptFirst, keptSecond);
+        } else {
+            engine = new GameEngine(game, first, second);
+            Logger.log("Round %d has started", game.getRoundNumber());
+        }
+        return engine;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Writes the session in the binary save format of {@link Serialization}, preceded by whether it has an engine.
+     *
+     * @return The bytes of the session.
+     */
+    public byte[] toBytes() {
+        GameEngine saved = engine;
+        if (saved == null) {
+            // Save the game alone through an engine whose players are named after the seats.
+            ScoreCard scoreCard = game.getScoreCard();
+            saved = new GameEngine(game, new Human(scoreCard.getPlayerName(0)), new Computer(scoreCard.getPlayerName(1), null), new Dice(0));
+        }
+        byte[] save = Serialization.encode(saved);
+        return ByteBuffer.allocate(1 + save.length).put((byte) (engine == null ? 0 : 1)).put(save).array();
+    }
+
+    /**
+     * Reads a session written by {@link #toBytes()}.
+     *
+     * @param bytes The bytes of the session.
+     * @return A new session.
+     * @throws IllegalArgumentException If the bytes do not hold a valid session.
+     */
+    public static GameSession fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 1) {
+            throw new IllegalArgumentException("Not a game session.");
+        }
+        GameEngine engine = Serialization.decode(ByteBuffer.wrap(bytes, 1, bytes.length - 1));
+        return bytes[0] == 0 ? new GameSession(engine.getGame()) : new GameSession(engine);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.yahtzee.Model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide registry of the {@link GameSession}s in use, handing out lightweight IDs that screens pass to each
+ * other instead of the game itself.
+ * <p>
+ * The registry lives as long as the process. A screen recreated after the process was killed finds its ID
+ * missing and restores its session from the snapshot it saved, then registers it again under a new ID.
+ * The screen holding a session removes it when it is closed for good, unless it passed the ID on to the next screen.
+ * </p>
+ */
+public final class GameSessions {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * ID that no session ever has.
+     */
+    public static final long NO_SESSION = 0;
+
+    // *******************************
+    // Class Variables
+    // *******************************
+
+    // The sessions in use, by ID.
+    private static final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+
+    // The ID of the next session.
+    private static final AtomicLong nextId = new AtomicLong(NO_SESSION + 1);
+
+    private GameSessions() {
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Registers a session.
+     *
+     * @param session The session.
+     * @return The ID of the session.
+     */
+    public static long register(GameSession session) {
+        long id = nextId.getAndIncrement();
+        sessions.put(id, session);
+        return id;
+    }
+
+    /**
+     * Finds a session.
+     *
+     * @param id The ID of the session.
+     * @return The session, or null if no session has the ID, e.g. after the process was restarted.
+     */
+    public static GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Removes a session once its game is finished or left.
+     *
+     * @param id The ID of the session.
+     */
+    public static void remove(long id) {
+        sessions.remove(id);
+    }
+}
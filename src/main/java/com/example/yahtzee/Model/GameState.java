@@ -0,0 +1,102 @@
+package com.example.yahtzee.Model;
+
+import java.io.Serializable;
+
+/**
+ * The state owned by a single game: its scorecard and its round counter.
+ * <p>
+ * Every game gets its own instance, so any number of games can run side by side in one process
+ * without sharing a scorecard or a round number.
+ * </p>
+ */
+public class GameState implements Serializable {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The scorecard shared by both players of this game.
+    private final ScoreCard scoreCard;
+
+    // The current round number, starting at 1.
+    private int roundNumber = 1;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates a new game between the default "Human" and "Computer" players.
+     */
+    public GameState() {
+        this(new ScoreCard());
+    }
+
+    /**
+     * Creates a new game around an existing scorecard.
+     *
+     * @param scoreCard The scorecard used by the game.
+     */
+    public GameState(ScoreCard scoreCard) {
+        this.scoreCard = scoreCard;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the scorecard of this game.
+     *
+     * @return The scorecard.
+     */
+    public ScoreCard getScoreCard() {
+        return scoreCard;
+    }
+
+    /**
+     * Retrieves the current round number.
+     *
+     * @return The current round number.
+     */
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    /**
+     * Checks whether every category of the scorecard has been filled.
+     *
+     * @return True if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return scoreCard.isAllCategoriesFilled();
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Increments the current round number by one.
+     */
+    public void incrementRound() {
+        roundNumber++;
+    }
+
+    /**
+     * Sets the round number to a specified value.
+     *
+     * @param newRoundNumber The new value for the round number.
+     */
+    public void setRoundNumber(int newRoundNumber) {
+        roundNumber = newRoundNumber;
+    }
+
+    /**
+     * Resets the game to its initial state: round 1 and an empty scorecard.
+     */
+    public void reset() {
+        roundNumber = 1;
+        scoreCard.clearScoreBoard();
+    }
+}
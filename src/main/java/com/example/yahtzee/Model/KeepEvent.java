@@ -0,0 +1,97 @@
+package com.example.yahtzee.Model;
+
+/**
+ * A player has kept some dice after a roll, or stood with all of them.
+ */
+public final class KeepEvent extends GameEvent {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The roll the decision was made after, from 1 to 2.
+    private final int rollNumber;
+
+    // The packed histogram of every kept die, including the dice kept after earlier rolls.
+    private final int packedKept;
+
+    // The packed histogram of the dice to roll again; 0 when standing.
+    private final int packedRerolled;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates the event.
+     *
+     * @param round          The round of the turn.
+     * @param player         The name of the player who kept the dice.
+     * @param rollNumber     The roll the decision was made after.
+     * @param packedKept     The packed histogram of every kept die.
+     * @param packedRerolled The packed histogram of the dice to roll again, 0 when standing.
+     */
+    public KeepEvent(int round, String player, int rollNumber, int packedKept, int packedRerolled) {
+        super(round, player);
+        this.rollNumber = rollNumber;
+        this.packedKept = packedKept;
+        this.packedRerolled = packedRerolled;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the roll the decision was made after.
+     *
+     * @return The roll number.
+     */
+    public int getRollNumber() {
+        return rollNumber;
+    }
+
+    /**
+     * Retrieves every kept die, including the dice kept after earlier rolls.
+     *
+     * @return The packed histogram of the kept dice.
+     */
+    public int getPackedKept() {
+        return packedKept;
+    }
+
+    /**
+     * Retrieves the dice to roll again.
+     *
+     * @return The packed histogram of the dice to roll again, 0 when standing.
+     */
+    public int getPackedRerolled() {
+        return packedRerolled;
+    }
+
+    /**
+     * Checks whether the player stopped rolling.
+     *
+     * @return True if no die is rolled again.
+     */
+    public boolean isStanding() {
+        return packedRerolled == 0;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    @Override
+    public void dispatch(GameEventSink sink) {
+        sink.onKeep(this);
+    }
+
+    @Override
+    public String toString() {
+        if (isStanding()) {
+            return getPlayer() + " stands with " + ScoreTable.toList(packedKept);
+        }
+        return getPlayer() + " kept " + ScoreTable.toList(packedKept) + " and is rerolling " + ScoreTable.toList(packedRerolled);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Sink writing every event to the {@link Logger}, for the in-app log view.
+ * It is attached to every engine by default and is only active while logging is enabled.
+ */
+public final class LogSink implements GameEventSink {
+
+    /**
+     * The single instance.
+     */
+    public static final LogSink INSTANCE = new LogSink();
+
+    private LogSink() {
+    }
+
+    @Override
+    public boolean isActive() {
+        return Logger.isEnabled();
+    }
+
+    @Override
+    public void onTurnStart(TurnStartEvent event) {
+        Logger.log(event);
+    }
+
+    @Override
+    public void onRoll(RollEvent event) {
+        Logger.log(event);
+    }
+
+    @Override
+    public void onKeep(KeepEvent event) {
+        Logger.log(event);
+    }
+
+    @Override
+    public void onScore(ScoreEvent event) {
+        Logger.log(event);
+    }
+
+    @Override
+    public void onRoundEnd(RoundEndEvent event) {
+        Logger.log(event);
+    }
+}
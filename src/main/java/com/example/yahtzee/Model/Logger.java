@@ -1,17 +1,82 @@
 package com.example.yahtzee.Model;
 
+import java.util.Arrays;
 import java.util.Date;
 
+/**
+ * Game log kept as a fixed-capacity ring buffer of entries.
+ * <p>
+ * An entry is a timestamp, a message template and its arguments, stored in parallel primitive arrays; the
+ * text is only formatted when {@link #print()} is called, so logging costs no string building or date
+ * formatting. Once the buffer is full the oldest entries are overwritten. Logging can be turned off with
+ * {@link #setEnabled(boolean)}, or from the start with the system property {@code yahtzee.logging=false},
+ * for headless simulations and benchmarks.
+ * </p>
+ */
 public class Logger {
 
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of entries kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Kinds of entry, deciding which arguments are passed to the template when the entry is formatted.
+     */
+    private static final byte TEXT = 0;
+    private static final byte INT = 1;
+    private static final byte TWO_INTS = 2;
+    private static final byte STRING = 3;
+    private static final byte STRING_INT = 4;
+    private static final byte DICE = 5;
+    private static final byte HAND = 6;
+    private static final byte EVENT = 7;
+    private static final byte HAND_VALUE = 8;
+
+    /**
+     * Number of bits used by each die of a dice sequence; the dice count is stored above the dice.
+     */
+    private static final int BITS_PER_DIE = 3;
+    private static final int MAX_SEQUENCE = 8;
+
     // *******************************
     // Class Variables
     // *******************************
 
     /**
-     * Singleton instance for storing log messages.
+     * Whether entries are recorded; headless simulations turn logging off.
      */
-    private static StringBuilder  buffer = new StringBuilder(); ;
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty("yahtzee.logging", "true"));
+
+    // Time of each entry, in milliseconds since the epoch.
+    private static long[] times;
+
+    // Kind of each entry.
+    private static byte[] kinds;
+
+    // Message, or format template, of each entry.
+    private static String[] templates;
+
+    // String or event argument of each entry, if its kind has one.
+    private static Object[] arguments;
+
+    // Integer arguments of each entry, if its kind has them.
+    private static int[] firsts;
+    private static int[] seconds;
+
+    // Index of the next entry to write.
+    private static int next;
+
+    // Number of entries written since the buffer was last cleared.
+    private static long written;
+
+    static {
+        allocate(DEFAULT_CAPACITY);
+    }
 
     // *******************************
     // Utility Methods
@@ -23,16 +88,253 @@ public class Logger {
      * @param message The message to log.
      */
     public static void log(String message) {
-           String formatMessage = String.format("[%s] %s\n\n", new Date(), message);
-           buffer.append(formatMessage);
+        if (enabled) {
+            append(TEXT, message, null, 0, 0);
+        }
+    }
+
+    /**
+     * Logs a message with one integer argument, formatted only when the log is printed.
+     *
+     * @param template A {@link String#format} template taking the argument, e.g. "Round %d has started".
+     * @param value    The argument.
+     */
+    public static void log(String template, int value) {
+        if (enabled) {
+            append(INT, template, null, value, 0);
+        }
+    }
+
+    /**
+     * Logs a message with two integer arguments, formatted only when the log is printed.
+     *
+     * @param template A {@link String#format} template taking both arguments.
+     * @param first    The first argument.
+     * @param second   The second argument.
+     */
+    public static void log(String template, int first, int second) {
+        if (enabled) {
+            append(TWO_INTS, template, null, first, second);
+        }
+    }
+
+    /**
+     * Logs a message with a string argument, formatted only when the log is printed.
+     *
+     * @param template A {@link String#format} template taking the argument.
+     * @param text     The argument, e.g. a player name.
+     */
+    public static void log(String template, String text) {
+        if (enabled) {
+            append(STRING, template, text, 0, 0);
+        }
+    }
+
+    /**
+     * Logs a message with a string and an integer argument, formatted only when the log is printed.
+     *
+     * @param template A {@link String#format} template taking the string, then the integer.
+     * @param text     The string argument.
+     * @param value    The integer argument.
+     */
+    public static void log(String template, String text, int value) {
+        if (enabled) {
+            append(STRING_INT, template, text, value, 0);
+        }
+    }
+
+    /**
+     * Logs a message with a sequence of dice, printed in order as a list, e.g. "[3, 1, 6]".
+     *
+     * @param template A {@link String#format} template taking the dice.
+     * @param values   An array of dice values.
+     * @param from     The index of the first die, inclusive.
+     * @param to       The index of the last die, exclusive; at most eight dice are recorded.
+     */
+    public static void logDice(String template, int[] values, int from, int to) {
+        if (enabled) {
+            int count = Math.min(to - from, MAX_SEQUENCE);
+            int sequence = count << (MAX_SEQUENCE * BITS_PER_DIE);
+            for (int i = 0; i < count; i++) {
+                sequence |= values[from + i] << (i * BITS_PER_DIE);
+            }
+            append(DICE, template, null, sequence, 0);
+        }
+    }
+
+    /**
+     * Logs a message with a packed face-count histogram, printed as a sorted list of dice.
+     *
+     * @param template   A {@link String#format} template taking the dice.
+     * @param packedDice The packed histogram, see {@link ScoreTable#pack(int[], int, int)}.
+     */
+    public static void logHand(String template, int packedDice) {
+        if (enabled) {
+            append(HAND, template, null, packedDice, 0);
+        }
+    }
+
+    /**
+     * Logs a message with a packed face-count histogram and a decimal value, e.g. the points a keep expects.
+     *
+     * @param template   A {@link String#format} template taking the dice, then the value.
+     * @param packedDice The packed histogram, see {@link ScoreTable#pack(int[], int, int)}.
+     * @param value      The decimal argument, recorded as a float.
+     */
+    public static void logHand(String template, int packedDice, double value) {
+        if (enabled) {
+            append(HAND_VALUE, template, null, packedDice, Float.floatToRawIntBits((float) value));
+        }
+    }
+
+    /**
+     * Logs a game event, formatted with its {@link GameEvent#toString()} only when the log is printed.
+     *
+     * @param event The event; events are immutable, so the entry keeps a reference to it.
+     */
+    public static void log(GameEvent event) {
+        if (enabled) {
+            append(EVENT, null, event, 0, 0);
+        }
+    }
+
+    /**
+     * Retrieves all log messages still in the buffer, oldest first.
+     *
+     * @return A string containing the log messages.
+     */
+    public static synchronized String print() {
+        StringBuilder builder = new StringBuilder();
+        int capacity = times.length;
+        long count = Math.min(written, capacity);
+        if (written > capacity) {
+            builder.append("[").append(written - capacity).append(" earlier messages dropped]\n\n");
+        }
+        for (long i = 0; i < count; i++) {
+            int entry = (int) ((next - count + i + capacity) % capacity);
+            builder.append('[').append(new Date(times[entry])).append("] ").append(format(entry)).append("\n\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Removes every entry from the buffer.
+     */
+    public static synchronized void clear() {
+        next = 0;
+        written = 0;
+        Arrays.fill(templates, null);
+        Arrays.fill(arguments, null);
+    }
+
+    /**
+     * Changes the number of entries kept, dropping the entries logged so far.
+     *
+     * @param capacity The number of entries, at least 1.
+     */
+    public static synchronized void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Turns the recording of messages on or off.
+     *
+     * @param isEnabled True to record messages, false to drop them.
+     */
+    public static void setEnabled(boolean isEnabled) {
+        enabled = isEnabled;
+    }
+
+    /**
+     * Checks whether messages are being recorded.
+     *
+     * @return True if logging is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Writes an entry over the oldest one once the buffer is full.
+     *
+     * @param kind     The kind of entry.
+     * @param template The message or template.
+     * @param text     The string or event argument, or null.
+     * @param first    The first integer argument.
+     * @param second   The second integer argument.
+     */
+    private static synchronized void append(byte kind, String template, Object text, int first, int second) {
+        times[next] = System.currentTimeMillis();
+        kinds[next] = kind;
+        templates[next] = template;
+        arguments[next] = text;
+        firsts[next] = first;
+        seconds[next] = second;
+        next = (next + 1) % times.length;
+        written++;
+    }
+
+    /**
+     * Formats the message of an entry.
+     *
+     * @param entry The index of the entry in the buffer.
+     * @return The message.
+     */
+    private static String format(int entry) {
+        String template = templates[entry];
+        switch (kinds[entry]) {
+            case INT:
+                return String.format(template, firsts[entry]);
+            case TWO_INTS:
+                return String.format(template, firsts[entry], seconds[entry]);
+            case STRING:
+                return String.format(template, arguments[entry]);
+            case STRING_INT:
+                return String.format(template, arguments[entry], firsts[entry]);
+            case DICE:
+                return String.format(template, diceOf(firsts[entry]));
+            case HAND:
+                return String.format(template, ScoreTable.toList(firsts[entry]));
+            case HAND_VALUE:
+                return String.format(template, ScoreTable.toList(firsts[entry]), Float.intBitsToFloat(seconds[entry]));
+            case EVENT:
+                return arguments[entry].toString();
+            default:
+                return template;
+        }
+    }
+
+    /**
+     * Formats a dice sequence recorded by {@link #logDice(String, int[], int, int)}.
+     *
+     * @param sequence The recorded sequence.
+     * @return The dice as a list, e.g. "[3, 1, 6]".
+     */
+    private static String diceOf(int sequence) {
+        StringBuilder builder = new StringBuilder("[");
+        int count = sequence >>> (MAX_SEQUENCE * BITS_PER_DIE);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "" : ", ").append((sequence >>> (i * BITS_PER_DIE)) & ((1 << BITS_PER_DIE) - 1));
+        }
+        return builder.append(']').toString();
     }
 
     /**
-     * Retrieves all log messages.
+     * Creates empty entry arrays.
      *
-     * @return A string containing all log messages.
+     * @param capacity The number of entries.
      */
-    public static String print() {
-        return  buffer.toString();
+    private static void allocate(int capacity) {
+        times = new long[capacity];
+        kinds = new byte[capacity];
+        templates = new String[capacity];
+        arguments = new Object[capacity];
+        firsts = new int[capacity];
+        seconds = new int[capacity];
+        next = 0;
+        written = 0;
     }
 }
@@ -0,0 +1,300 @@
+package com.example.yahtzee.Model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A keep/reroll decision of the {@link DecisionEngine}: the dice to keep, the category they are kept for,
+ * the points expected from it and the reason the heuristics gave for it.
+ * <p>
+ * Moves are immutable and depend only on the open categories and the dice, so the same move can be played by
+ * the computer, shown to the human as a hint, and shared between turns that reach the same position.
+ * </p>
+ */
+public final class Move {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Order in which the categories pursued by {@link Reason#PURSUE_CATEGORIES} are listed.
+     */
+    private static final Category[] PURSUIT_ORDER = {
+            Category.YAHTZEE, Category.FOUR_OF_A_KIND, Category.THREE_OF_A_KIND, Category.FULL_HOUSE
+    };
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The packed histogram of the dice to keep, including the dice kept earlier in the turn.
+    private final int keep;
+
+    // The open category the kept dice are played for, or null if no open category can score.
+    private final Category target;
+
+    // The points expected in the target category when it is pursued for the rest of the turn.
+    private final double expectedValue;
+
+    // The reason the keep was chosen, or null if the move was not decided by the heuristics.
+    private final Reason reason;
+
+    // The die the reason refers to, or the mask of categories pursued; 0 if the reason has no detail.
+    private final int detail;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates a move without a reason.
+     *
+     * @param keep          The packed histogram of the dice to keep, including the dice kept earlier in the turn.
+     * @param target        The open category the kept dice are played for, or null if none.
+     * @param expectedValue The points expected in the target category.
+     */
+    public Move(int keep, Category target, double expectedValue) {
+        this(keep, target, expectedValue, null, 0);
+    }
+
+    /**
+     * Creates a move.
+     *
+     * @param keep          The packed histogram of the dice to keep, including the dice kept earlier in the turn.
+     * @param target        The open category the kept dice are played for, or null if none.
+     * @param expectedValue The points expected in the target category.
+     * @param reason        The reason the keep was chosen, or null.
+     * @param detail        The die the reason refers to, or for {@link Reason#PURSUE_CATEGORIES} the mask of
+     *                      categories pursued; 0 if the reason has no detail.
+     */
+    public Move(int keep, Category target, double expectedValue, Reason reason, int detail) {
+        this.keep = keep;
+        this.target = target;
+        this.expectedValue = expectedValue;
+        this.reason = reason;
+        this.detail = detail;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the dice to keep.
+     *
+     * @return The packed histogram of the dice to keep, including the dice kept earlier in the turn.
+     */
+    public int getKeep() {
+        return keep;
+    }
+
+    /**
+     * Retrieves the category the kept dice are played for.
+     *
+     * @return The target category, or null if no open category can score.
+     */
+    public Category getTarget() {
+        return target;
+    }
+
+    /**
+     * Retrieves the points expected from the move.
+     *
+     * @return The points expected in the target category when it is pursued for the rest of the turn.
+     */
+    public double getExpectedValue() {
+        return expectedValue;
+    }
+
+    /**
+     * Retrieves the reason the keep was chosen.
+     *
+     * @return The reason, or null if the move was not decided by the heuristics.
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Retrieves the detail of the reason.
+     *
+     * @return The die the reason refers to, or for {@link Reason#PURSUE_CATEGORIES} the mask of categories
+     *         pursued; 0 if the reason has no detail.
+     */
+    public int getDetail() {
+        return detail;
+    }
+
+    /**
+     * Puts the reason into words for the player being advised.
+     *
+     * @return The lines of advice, the lead of the reason first; empty if the move has no reason.
+     */
+    public List<String> getHints() {
+        List<String> hints = new ArrayList<>(2);
+        if (reason != null) {
+            if (reason.lead != null) {
+                hints.add(reason.lead.hint);
+            }
+            hints.add(format(reason.hint));
+        }
+        return hints;
+    }
+
+    /**
+     * Puts the reason into words for the computer's log.
+     *
+     * @return The log messages, the lead of the reason first; empty if the move has no reason.
+     */
+    public List<String> getLogMessages() {
+        List<String> messages = new ArrayList<>(2);
+        if (reason != null) {
+            if (reason.lead != null) {
+                messages.add(reason.lead.logMessage);
+            }
+            messages.add(format(reason.logMessage));
+        }
+        return messages;
+    }
+
+    /**
+     * Checks whether the move stands on the dice instead of rolling again.
+     *
+     * @param packedDice The packed histogram of all five dice on the table.
+     * @return True if every die is kept.
+     */
+    public boolean isStand(int packedDice) {
+        return keep == packedDice;
+    }
+
+    @Override
+    public String toString() {
+        return ScoreTable.toList(keep) + " for " + target + " (" + String.format("%.1f", expectedValue) + ")";
+    }
+
+    /**
+     * Fills the detail into a message of the reason.
+     *
+     * @param template The message, with %d for a die or %s for the categories pursued.
+     * @return The message.
+     */
+    private String format(String template) {
+        if (reason != Reason.PURSUE_CATEGORIES) {
+            return String.format(template, detail);
+        }
+        StringBuilder categories = new StringBuilder();
+        for (Category category : PURSUIT_ORDER) {
+            if ((detail & (1 << category.ordinal())) != 0) {
+                categories.append(category).append(" | ");
+            }
+        }
+        return String.format(template, categories);
+    }
+
+    // *******************************
+    // Nested Types
+    // *******************************
+
+    /**
+     * The branch of the heuristics that chose the dice to keep, with the words the hints and the computer's log
+     * use for it. A message may take the die of {@link #getDetail()} as %d, and {@link #PURSUE_CATEGORIES}
+     * takes the categories pursued as %s. A reason of a nested branch has the reason of the enclosing branch
+     * as its lead, which is stated first.
+     */
+    public enum Reason {
+        STAND_YAHTZEE("You have a Yahtzee! You should stand with Yahtzee and score 50 points!",
+                "Computer chose to stand with Yahtzee! 50 points for computer!"),
+        STAND_FIVE_STRAIGHT("You have a Five Straight! You should stand with Five Straight and score 40 points!",
+                "Computer chose to stand with Five Straight! 40 points for computer!"),
+        STAND_FULL_HOUSE("You have a Full House! You should stand with Full House and score 25 points!",
+                "Computer chose to stand with Full House! 25 points for computer!"),
+        STAND_FOUR_STRAIGHT("\nYou should stand with Four Straight as Five Straight is not available!",
+                "\nComputer will stand on this as Five Straight is not available!"),
+        WANT_FIVE_STRAIGHT("\nYou might want to pursue Five Straight!",
+                "\nComputer wants to pursue Five Straight!"),
+        STAND_FOUR_STRAIGHT_LOCKED(WANT_FIVE_STRAIGHT, "\nYou might stand on Four Straight as you cannot re-roll %d!",
+                "\nComputer is standing on Four Straight as it cannot reroll %d!"),
+        PURSUE_FIVE_STRAIGHT("You might pursue a Five Straight!",
+                "Computer is re-rolling to pursue Five Straight!"),
+        REROLL_FOR_FIVE_STRAIGHT("You might re-roll to pursue Five Straight!",
+                "Computer is re-rolling to pursue Five Straight!"),
+        REROLL_STRAIGHT_DIE(WANT_FIVE_STRAIGHT, "You might re-roll: %d",
+                "Computer is re-rolling: %d"),
+        PURSUE_FOUR_STRAIGHT("You might pursue a Four Straight!",
+                "Computer is pursuing Four Straight!"),
+        CONTINUE_FOUR_STRAIGHT("You might pursue Four Straight!",
+                "Computer is pursuing Four Straight!"),
+        PURSUE_STRAIGHT("You might pursue a Straight!",
+                "Computer is pursuing Straight!"),
+        ATTEMPT_YAHTZEE_WITH_FOUR("\nYou might attempt to go for Yahtzee by rerolling the remaining die!",
+                "\nComputer is attempting to go for Yahtzee by rerolling the remaining die!\n"),
+        ATTEMPT_YAHTZEE_OR_FULL_HOUSE("\nYou might attempt to go for Yahtzee or Full House!",
+                "\nComputer is attempting to go for Yahtzee or Full House!\n"),
+        ATTEMPT_YAHTZEE("\nYou might attempt to go for Yahtzee!",
+                "\nComputer is attempting to go for Yahtzee!\n"),
+        PURSUE_YAHTZEE("You might pursue Yahtzee!",
+                "Computer is pursuing Yahtzee!"),
+        WANT_FULL_HOUSE("\nYou might want to pursue a Full House!",
+                "\nComputer wants to pursue Full House!"),
+        PURSUE_FULL_HOUSE("You might pursue Full House!",
+                "Computer is pursuing Full House!"),
+        PURSUE_FULL_HOUSE_WITH_PAIRS("You might pursue a Full House!",
+                "Computer is pursuing Full House!"),
+        PURSUE_CATEGORIES("You might pursue %s",
+                "Computer is pursuing %s"),
+        REROLL_ODD_DIE("You might reroll the non-four of a kind value to try to get a higher die: %d",
+                "Computer chose to reroll the non-four of a kind value to try to get a higher die: %d"),
+        STAND_ODD_SIX("You should stand as the non-four of a kind value is 6 and Yahtzee is not available!",
+                "Computer chose to stand on this as the non-four of a kind value is 6 and Yahtzee is not available!"),
+        REROLL_FOR_SUM("\nYou might reroll to try to get a higher die to add to the sum!",
+                "\nComputer chose to reroll to try to get a higher die to add to the sum!"),
+        CHOOSE_FOUR_OF_A_KIND("\nYou should stand with Four of a Kind!",
+                "\nComputer chose to stand with Four of a Kind!"),
+        REROLL_FOUR_OF_A_KIND("You might re-roll to pursue Four of a Kind with higher die values!",
+                "Computer is re-rolling to pursue Four of a Kind with higher die values!"),
+        STAND_FOUR_OF_A_KIND("You might stand with Four of a Kind!",
+                "Computer is standing with Four of a Kind!"),
+        CHOOSE_THREE_OVER_FULL_HOUSE("You might stand with Three of a Kind as it scores higher than a Full House.",
+                "Computer chose to stand with Three of a Kind as it is greater than 25."),
+        STAND_THREE_OVER_FULL_HOUSE("You might stand with Three of a Kind as it scores higher than a Full House.",
+                "Computer chose to stand with Three of a Kind as it is greater than Full House points!"),
+        ROLL_FOR_HIGHER_DICE("You might decide to roll again to try and get higher die values!",
+                "Computer decided to roll again to try and get higher die value!"),
+        CHOOSE_THREE_OF_A_KIND("You might decide to stand with Three of a Kind!",
+                "Computer decided to stand with Three of a Kind!"),
+        REROLL_THREE_OF_A_KIND("You might re-roll to pursue Three of a Kind with higher die values!",
+                "Computer is re-rolling to pursue Three of a Kind with higher die values!"),
+        STAND_THREE_OF_A_KIND("You might stand with Three of a Kind!",
+                "Computer is standing with Three of a Kind!"),
+        STAND_THREE_OF_A_KIND_LOCKED("You might stand with Three of a Kind as it cannot reroll the non-three of a kind values!",
+                "Computer is standing with Three of a Kind as it cannot reroll the non-three of a kind values!"),
+        KEEP_ALL_SAME("You have all dice with the same value. You should keep all dice.",
+                "Computer chose to keep all dice as they are all the same value.\n"),
+        REROLL_NON_TARGET("You might reroll the non-target value to try to get a better hand!",
+                "Computer is rolling the non-target value to try to get a better hand!"),
+        REROLL_ALL("You might reroll all dice to try to get a better hand!",
+                "Computer is rolling all dice to try to get a better hand!"),
+        REROLL("You might reroll to try to get a better hand!",
+                "Computer is rolling to try to get a better hand!");
+
+        // The reason of the enclosing branch, or null if none.
+        private final Reason lead;
+
+        // The advice shown to the human player.
+        private final String hint;
+
+        // The line written to the computer's log.
+        private final String logMessage;
+
+        Reason(String hint, String logMessage) {
+            this(null, hint, logMessage);
+        }
+
+        Reason(Reason lead, String hint, String logMessage) {
+            this.lead = lead;
+            this.hint = hint;
+            this.logMessage = logMessage;
+        }
+    }
+}
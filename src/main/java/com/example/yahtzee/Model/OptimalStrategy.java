@@ -0,0 +1,95 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Computer strategy that plays every turn to maximize its expected margin over the rest of the game under the
+ * model of the {@link StrategyTable}.
+ * <p>
+ * A final hand is worth its score in a category minus the {@link StrategyTable} margin of the opponent, who
+ * moves next with the categories that stay open, so the computer weighs taking points now against leaving
+ * categories for the opponent to take. A hand that scores nowhere hands the whole open scorecard to the opponent.
+ * </p>
+ * <p>
+ * The table assumes both players keep dice for the most expected points, so the strategy is only optimal within
+ * that model: a larger expected margin is not a larger chance of winning, and in self-play it wins about as often
+ * as an {@link ExpectedValueStrategy}.
+ * </p>
+ */
+public class OptimalStrategy extends ExpectedValueStrategy {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Expected margin of the player about to move for each set of open categories.
+    private final StrategyTable table;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates a strategy backed by a strategy table.
+     *
+     * @param table The table written by {@link StrategyTableGenerator}.
+     */
+    public OptimalStrategy(StrategyTable table) {
+        this.table = table;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Scores the category that maximizes its points minus the opponent's margin over the categories left open.
+     *
+     * @param scoreCard  The scorecard of the game being played.
+     * @param packedDice The packed histogram of the final dice.
+     * @return The chosen category, or null if none scores.
+     */
+    @Override
+    public Category chooseCategory(ScoreCard scoreCard, int packedDice) {
+        int openMask = scoreCard.getOpenMask();
+        int hand = ScoreTable.indexOf(packedDice);
+        Category bestCategory = null;
+        double bestValue = 0;
+        for (int mask = openMask; mask != 0; mask &= mask - 1) {
+            int category = Integer.numberOfTrailingZeros(mask);
+            int points = ScoreTable.score(category, hand);
+            double value = points - table.getValueAfter(openMask, category);
+            if (points > 0 && (bestCategory == null || value >= bestValue)) {
+                bestCategory = Category.fromOrdinal(category);
+                bestValue = value;
+            }
+        }
+        return bestCategory;
+    }
+
+    /**
+     * Values each final hand at its best score minus the opponent's margin over the categories left open,
+     * or at minus the opponent's margin over all open categories if it scores nowhere.
+     *
+     * @param openMask Bitmask of open categories.
+     * @param values   Array of 252 values to fill.
+     */
+    @Override
+    protected void valueHands(int openMask, double[] values) {
+        double noScoreValue = -table.getValue(openMask);
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+            double best = noScoreValue;
+            boolean scored = false;
+            for (int mask = openMask; mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                int points = ScoreTable.score(category, hand);
+                if (points > 0) {
+                    double value = points - table.getValueAfter(openMask, category);
+                    if (!scored || value > best) {
+                        best = value;
+                        scored = true;
+                    }
+                }
+            }
+            values[hand] = best;
+        }
+    }
+}
@@ -9,6 +9,9 @@ public abstract class Player implements Serializable {
     // *******************************
     protected String name;
 
+    // The dice the player rolls; created on first use unless set.
+    private Dice dice;
+
     // *******************************
     // Selectors
     // *******************************
@@ -23,12 +26,38 @@ public abstract class Player implements Serializable {
     }
 
     /**
-     * Calculates and retrieves the total score of the player.
+     * Calculates and retrieves the total score of the player on a scorecard.
      *
+     * @param scoreCard The scorecard of the game the player is in.
      * @return The total score of the player.
      */
-    public int getTotalScore() {
-        return ScoreCard.getTotalScore(this.name);
+    public int getTotalScore(ScoreCard scoreCard) {
+        return scoreCard.getTotalScore(this.name);
+    }
+
+    /**
+     * Retrieves the dice the player rolls, creating randomly seeded dice on first use.
+     *
+     * @return The dice of the player.
+     */
+    public Dice getDice() {
+        if (dice == null) {
+            dice = new Dice();
+        }
+        return dice;
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Sets the dice the player rolls, e.g. seeded dice to make a game reproducible.
+     *
+     * @param dice The dice to roll.
+     */
+    public void setDice(Dice dice) {
+        this.dice = dice;
     }
 
     // *******************************
@@ -41,8 +70,7 @@ public abstract class Player implements Serializable {
      * @return The value of a single dice roll.
      */
     public int turnChooseRoll() {
-        Dice dice = new Dice();
-        return dice.rollSingleDice();
+        return getDice().rollSingleDice();
     }
 
     /**
@@ -53,8 +81,7 @@ public abstract class Player implements Serializable {
      * @return A list of integers representing the rolled dice values.
      */
     public List<Integer> roll(int diceCount) {
-        Dice dice = new Dice();
-        return dice.rollDice(diceCount);
+        return getDice().rollDice(diceCount);
     }
 }
 
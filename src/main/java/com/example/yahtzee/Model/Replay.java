@@ -0,0 +1,423 @@
+package com.example.yahtzee.Model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only view of a replay written by {@link ReplayRecorder}.
+ * <p>
+ * The events are decoded on demand from the buffer. {@link #getStateAtRound(int)} and {@link #getEvents(int)}
+ * start from the latest snapshot at or before the round, so jumping to any round only decodes the few rounds
+ * after that snapshot. A replay whose recorder was not closed, e.g. because the app was killed mid-game, has no
+ * index; its snapshots are then found by scanning it once.
+ * </p>
+ */
+public final class Replay {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The replay, from its header to its end.
+    private final ByteBuffer buffer;
+
+    // The seed and draw count of the game's dice when the recording started.
+    private final long seed;
+    private final long drawCount;
+
+    // The names of the two seats of the scorecard.
+    private final String[] players;
+
+    // Round and offset of every snapshot, in order.
+    private int[] snapshotRounds;
+    private int[] snapshotOffsets;
+    private int snapshotCount;
+
+    // Offset just past the last record.
+    private int end;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Reads the replay held between the position and the limit of a buffer.
+     *
+     * @param buffer The buffer; it is not modified.
+     * @throws IllegalArgumentException If the buffer does not hold a replay.
+     */
+    public Replay(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+        if (this.buffer.remaining() < 5 || this.buffer.getInt(0) != ReplayRecorder.MAGIC || this.buffer.get(4) != ReplayRecorder.VERSION) {
+            throw new IllegalArgumentException("Not a replay of version " + ReplayRecorder.VERSION + ".");
+        }
+        seed = this.buffer.getLong(5);
+        drawCount = this.buffer.getLong(13);
+        int position = 21;
+        players = new String[2];
+        for (int seat = 0; seat < 2; seat++) {
+            int length = this.buffer.getShort(position) & 0xFFFF;
+            byte[] name = new byte[length];
+            ByteBuffer view = this.buffer.duplicate();
+            view.position(position + 2);
+            view.get(name);
+            // Player names are plain text, for which modified UTF-8 and UTF-8 agree.
+            players[seat] = new String(name, StandardCharsets.UTF_8);
+            position += 2 + length;
+        }
+        if (!readIndex()) {
+            scan(position);
+        }
+    }
+
+    /**
+     * Maps a replay file.
+     *
+     * @param file A file holding one replay.
+     * @return The replay.
+     * @throws UncheckedIOException If the file cannot be read.
+     */
+    public static Replay read(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new Replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the seed of the game's dice.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves how many dice had been rolled from the seed when the recording started.
+     *
+     * @return The draw count.
+     */
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Retrieves the name of the player in a seat of the scorecard.
+     *
+     * @param seat 0 for the first seat, 1 for the second seat.
+     * @return The name of the player.
+     */
+    public String getPlayerName(int seat) {
+        return players[seat];
+    }
+
+    /**
+     * Retrieves the first round of the recording.
+     *
+     * @return The round number.
+     */
+    public int getFirstRound() {
+        return snapshotRounds[0];
+    }
+
+    /**
+     * Retrieves the last round of the recording, which may not have ended.
+     *
+     * @return The round number.
+     */
+    public int getLastRound() {
+        Cursor cursor = new Cursor(snapshotCount - 1);
+        while (cursor.next() != null) {
+            // Decode up to the end.
+        }
+        return cursor.endedRound ? cursor.round - 1 : cursor.round;
+    }
+
+    /**
+     * Retrieves the scorecard at the start of a round.
+     *
+     * @param round A round from {@link #getFirstRound()} to {@link #getLastRound()}.
+     * @return A new copy of the scorecard state.
+     */
+    public ScoreCardState getStateAtRound(int round) {
+        return seek(round).state.copy();
+    }
+
+    /**
+     * Decodes the events of a round.
+     *
+     * @param round A round from {@link #getFirstRound()} to {@link #getLastRound()}.
+     * @return The events of the round, in order, ending with its {@link RoundEndEvent} if the round ended.
+     */
+    public List<GameEvent> getEvents(int round) {
+        Cursor cursor = seek(round);
+        List<GameEvent> events = new ArrayList<>();
+        for (GameEvent event = cursor.next(); event != null; event = cursor.next()) {
+            events.add(event);
+            if (event instanceof RoundEndEvent) {
+                break;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Decodes every event of the replay.
+     *
+     * @return The events, in order.
+     */
+    public List<GameEvent> getEvents() {
+        Cursor cursor = new Cursor(0);
+        List<GameEvent> events = new ArrayList<>();
+        for (GameEvent event = cursor.next(); event != null; event = cursor.next()) {
+            events.add(event);
+        }
+        return events;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Positions a cursor at the start of a round.
+     *
+     * @param round The round.
+     * @return A cursor whose next event is the first of the round.
+     */
+    private Cursor seek(int round) {
+        if (round < snapshotRounds[0]) {
+            throw new IllegalArgumentException("Round " + round + " is before the start of the replay.");
+        }
+        int snapshot = Arrays.binarySearch(snapshotRounds, 0, snapshotCount, round);
+        Cursor cursor = new Cursor(snapshot >= 0 ? snapshot : -snapshot - 2);
+        while (cursor.round < round) {
+            if (cursor.next() == null) {
+                throw new IllegalArgumentException("Round " + round + " is after the end of the replay.");
+            }
+        }
+        return cursor;
+    }
+
+    /**
+     * Reads the snapshot index written when the recorder was closed.
+     *
+     * @return True if the replay has an index, false if it was not closed.
+     */
+    private boolean readIndex() {
+        int limit = buffer.limit();
+        if (limit < 12 || buffer.getInt(limit - 4) != ReplayRecorder.MAGIC || buffer.getInt(limit - 8) != limit) {
+            return false;
+        }
+        int index = buffer.getInt(limit - 12);
+        if (index < 0 || index + 3 > limit - 12 || buffer.get(index) != ReplayRecorder.TAG_END) {
+            return false;
+        }
+        snapshotCount = buffer.getShort(index + 1) & 0xFFFF;
+        snapshotRounds = new int[snapshotCount];
+        snapshotOffsets = new int[snapshotCount];
+        for (int i = 0; i < snapshotCount; i++) {
+            snapshotRounds[i] = buffer.getShort(index + 3 + i * 6) & 0xFFFF;
+            snapshotOffsets[i] = buffer.getInt(index + 5 + i * 6);
+        }
+        end = index;
+        return snapshotCount > 0;
+    }
+
+    /**
+     * Finds the snapshots and the end of a replay that has no index.
+     *
+     * @param position The offset of the first snapshot, just after the header.
+     */
+    private void scan(int position) {
+        snapshotRounds = new int[8];
+        snapshotOffsets = new int[8];
+        snapshotCount = 0;
+        int limit = buffer.limit();
+        while (position < limit) {
+            int tag = buffer.get(position) & 0xFF;
+            int type = tag & 0xF0;
+            if (tag == ReplayRecorder.TAG_END) {
+                break;
+            } else if (type == ReplayRecorder.TAG_SNAPSHOT) {
+                if (position + 7 > limit || position + 7 + 2 * Integer.bitCount(buffer.getShort(position + 3) & 0xFFFF) > limit) {
+                    break;
+                }
+                if (snapshotCount == snapshotRounds.length) {
+                    snapshotRounds = Arrays.copyOf(snapshotRounds, snapshotCount * 2);
+                    snapshotOffsets = Arrays.copyOf(snapshotOffsets, snapshotCount * 2);
+                }
+                snapshotRounds[snapshotCount] = buffer.getShort(position + 1) & 0xFFFF;
+                snapshotOffsets[snapshotCount] = position;
+                snapshotCount++;
+                position += 7 + 2 * Integer.bitCount(buffer.getShort(position + 3) & 0xFFFF);
+            } else if (position + 1 + argumentSize(type) > limit) {
+                break;
+            } else {
+                position += 1 + argumentSize(type);
+            }
+        }
+        end = position;
+        if (snapshotCount == 0) {
+            throw new IllegalArgumentException("The replay has no snapshot.");
+        }
+    }
+
+    /**
+     * Retrieves the size of the argument of a record.
+     *
+     * @param type The tag of the record, without its low bits.
+     * @return The number of bytes following the tag.
+     */
+    private static int argumentSize(int type) {
+        switch (type) {
+            case ReplayRecorder.TAG_ROLL:
+            case ReplayRecorder.TAG_KEEP:
+                return 2;
+            case ReplayRecorder.TAG_SCORE:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    // *******************************
+    // Nested Types
+    // *******************************
+
+    /**
+     * Decoder of the records following a snapshot, tracking the scorecard and the dice of the turn.
+     */
+    private final class Cursor {
+
+        // Offset of the next record.
+        private int position;
+
+        // The round being played, and whether the latest record ended the previous one.
+        private int round;
+        private boolean endedRound;
+
+        // The scorecard as of the latest record.
+        private final ScoreCardState state = new ScoreCardState();
+
+        // Seat playing the current turn, and seat that played first in the round.
+        private int seat = -1;
+        private int firstSeat = -1;
+
+        // Roll of the turn, dice kept, and dice of the latest roll.
+        private int rollNumber;
+        private int packedKept;
+        private int packedRolled;
+
+        /**
+         * Creates a cursor at a snapshot.
+         *
+         * @param snapshot The index of the snapshot.
+         */
+        private Cursor(int snapshot) {
+            position = snapshotOffsets[snapshot];
+            readSnapshot();
+        }
+
+        /**
+         * Decodes the next event.
+         *
+         * @return The event, or null at the end of the replay.
+         */
+        private GameEvent next() {
+            while (position < end) {
+                int tag = buffer.get(position) & 0xFF;
+                int type = tag & 0xF0;
+                if (type == ReplayRecorder.TAG_SNAPSHOT) {
+                    readSnapshot();
+                    continue;
+                }
+                position++;
+                endedRound = false;
+                switch (type) {
+                    case ReplayRecorder.TAG_TURN_START:
+                        seat = tag & 0x0F;
+                        if (firstSeat < 0) {
+                            firstSeat = seat;
+                        }
+                        rollNumber = 0;
+                        packedKept = 0;
+                        return new TurnStartEvent(round, players[seat]);
+                    case ReplayRecorder.TAG_ROLL: {
+                        int count = tag & 0x0F;
+                        int dice = buffer.getShort(position) & 0xFFFF;
+                        position += 2;
+                        int[] values = new int[count];
+                        for (int i = 0; i < count; i++) {
+                            values[i] = (dice >>> (i * ScoreTable.BITS_PER_FACE)) & ((1 << ScoreTable.BITS_PER_FACE) - 1);
+                        }
+                        rollNumber++;
+                        packedRolled = ScoreTable.pack(values, 0, count);
+                        return new RollEvent(round, players[seat], rollNumber, values, 0, count);
+                    }
+                    case ReplayRecorder.TAG_KEEP: {
+                        int kept = ExpectedValueSolver.keepAt(buffer.getShort(position) & 0xFFFF);
+                        position += 2;
+                        int packedDice = packedKept + packedRolled;
+                        packedKept = kept;
+                        packedRolled = packedDice - kept;
+                        return new KeepEvent(round, players[seat], rollNumber, kept, packedRolled);
+                    }
+                    case ReplayRecorder.TAG_SCORE: {
+                        int category = buffer.get(position) & 0xFF;
+                        position++;
+                        int packedDice = packedKept + packedRolled;
+                        if (category == ReplayRecorder.NO_CATEGORY) {
+                            return new ScoreEvent(round, players[seat], null, 0, packedDice);
+                        }
+                        int points = ScoreCard.calculatePoints(Category.fromOrdinal(category), packedDice);
+                        state.fill(category, seat, points, round);
+                        return new ScoreEvent(round, players[seat], Category.fromOrdinal(category), points, packedDice);
+                    }
+                    case ReplayRecorder.TAG_ROUND_END: {
+                        int first = firstSeat < 0 ? 0 : firstSeat;
+                        RoundEndEvent event = new RoundEndEvent(round, players[first], state.getTotalScore(first),
+                                players[1 - first], state.getTotalScore(1 - first), state.isComplete());
+                        round++;
+                        endedRound = true;
+                        firstSeat = -1;
+                        return event;
+                    }
+                    default:
+                        throw new IllegalStateException("Unknown replay record " + tag + " at offset " + (position - 1) + ".");
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Reads the snapshot at the cursor into the scorecard.
+         */
+        private void readSnapshot() {
+            round = buffer.getShort(position + 1) & 0xFFFF;
+            int filledMask = buffer.getShort(position + 3) & 0xFFFF;
+            int ownerMask = buffer.getShort(position + 5) & 0xFFFF;
+            position += 7;
+            state.clear();
+            for (int mask = filledMask; mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                state.fill(category, (ownerMask >>> category) & 1, buffer.get(position), buffer.get(position + 1) & 0xFF);
+                position += 2;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.yahtzee.Model;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Sink writing the events of a game to a compact, append-only binary replay, read back with {@link Replay}.
+ * <p>
+ * The replay starts with a header (magic, version, dice seed and draw count, the two seat names) and a snapshot
+ * of the scorecard. Every event is then one tag byte, followed by at most two bytes: the dice of a roll three bits
+ * each, the index of a keep among the 462 kept multisets, or the category scored. After every
+ * {@code snapshotInterval} rounds a snapshot of the scorecard is written, and {@link #close()} ends the replay
+ * with an index of the snapshots by round, so a reader can jump to any round by decoding at most a few rounds.
+ * A whole game takes a few hundred bytes.
+ * </p>
+ * <p>
+ * Attach the recorder to the engine it was created for with {@link GameEngine#addSink(GameEventSink)}.
+ * Write errors are thrown as {@link UncheckedIOException}.
+ * </p>
+ */
+public class ReplayRecorder implements GameEventSink, Closeable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Magic number at the start and at the very end of a replay ("YZRP").
+     */
+    static final int MAGIC = 0x595A5250;
+
+    /**
+     * Version of the replay layout.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Number of rounds between two snapshots by default.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 4;
+
+    /**
+     * Record tags. The low bits of a turn-start tag hold the seat, those of a roll tag the number of dice.
+     */
+    static final int TAG_END = 0x00;
+    static final int TAG_TURN_START = 0x10;
+    static final int TAG_ROLL = 0x20;
+    static final int TAG_KEEP = 0x30;
+    static final int TAG_SCORE = 0x40;
+    static final int TAG_ROUND_END = 0x50;
+    static final int TAG_SNAPSHOT = 0x60;
+
+    /**
+     * Category byte of a turn passed without a score.
+     */
+    static final int NO_CATEGORY = 0xFF;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The stream the replay is written to.
+    private final DataOutputStream out;
+
+    // The engine playing the game, read for the scorecard snapshots.
+    private final GameEngine engine;
+
+    // Number of rounds between two snapshots.
+    private final int snapshotInterval;
+
+    // Round and offset of every snapshot, for the closing index.
+    private int[] snapshotRounds = new int[8];
+    private int[] snapshotOffsets = new int[8];
+    private int snapshotCount;
+
+    // Round of the latest snapshot.
+    private int lastSnapshotRound;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates a recorder writing a snapshot every {@link #DEFAULT_SNAPSHOT_INTERVAL} rounds.
+     *
+     * @param engine The engine whose game is recorded, at the start of a turn.
+     * @param out    The stream the replay is written to.
+     */
+    public ReplayRecorder(GameEngine engine, OutputStream out) {
+        this(engine, out, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Creates a recorder and writes the header of the replay.
+     *
+     * @param engine           The engine whose game is recorded, at the start of a turn.
+     * @param out              The stream the replay is written to.
+     * @param snapshotInterval The number of rounds between two snapshots, at least 1.
+     */
+    public ReplayRecorder(GameEngine engine, OutputStream out, int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be at least 1.");
+        }
+        this.engine = engine;
+        this.out = new DataOutputStream(out);
+        this.snapshotInterval = snapshotInterval;
+        ScoreCard scoreCard = engine.getScoreCard();
+        try {
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+            this.out.writeLong(engine.getDice().getSeed());
+            this.out.writeLong(engine.getDice().getDrawCount());
+            this.out.writeUTF(scoreCard.getPlayerName(0));
+            this.out.writeUTF(scoreCard.getPlayerName(1));
+            writeSnapshot(engine.getRoundNumber());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // *******************************
+    // Event Handlers
+    // *******************************
+
+    @Override
+    public void onTurnStart(TurnStartEvent event) {
+        writeRecord(TAG_TURN_START | engine.getScoreCard().seatOf(event.getPlayer()), -1, 0);
+    }
+
+    @Override
+    public void onRoll(RollEvent event) {
+        int dice = 0;
+        for (int i = 0; i < event.getDiceCount(); i++) {
+            dice |= event.getDie(i) << (i * ScoreTable.BITS_PER_FACE);
+        }
+        writeRecord(TAG_ROLL | event.getDiceCount(), dice, 2);
+    }
+
+    @Override
+    public void onKeep(KeepEvent event) {
+        writeRecord(TAG_KEEP, ExpectedValueSolver.keepIndexOf(event.getPackedKept()), 2);
+    }
+
+    @Override
+    public void onScore(ScoreEvent event) {
+        writeRecord(TAG_SCORE, event.isPassed() ? NO_CATEGORY : event.getCategory().ordinal(), 1);
+    }
+
+    @Override
+    public void onRoundEnd(RoundEndEvent event) {
+        writeRecord(TAG_ROUND_END, -1, 0);
+        int nextRound = event.getRound() + 1;
+        if (!event.isGameOver() && nextRound - lastSnapshotRound >= snapshotInterval) {
+            try {
+                writeSnapshot(nextRound);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Ends the replay with the index of its snapshots and closes the stream.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        int indexOffset = out.size();
+        out.writeByte(TAG_END);
+        out.writeShort(snapshotCount);
+        for (int i = 0; i < snapshotCount; i++) {
+            out.writeShort(snapshotRounds[i]);
+            out.writeInt(snapshotOffsets[i]);
+        }
+        // Offset of the index, then length of the whole replay, including the footer and the closing magic number.
+        out.writeInt(indexOffset);
+        out.writeInt(out.size() + 2 * Integer.BYTES);
+        out.writeInt(MAGIC);
+        out.close();
+    }
+
+    /**
+     * Writes a record of a tag and an optional argument.
+     *
+     * @param tag      The tag byte.
+     * @param argument The argument.
+     * @param bytes    The size of the argument: 0, 1 or 2 bytes.
+     */
+    private void writeRecord(int tag, int argument, int bytes) {
+        try {
+            out.writeByte(tag);
+            if (bytes == 1) {
+                out.writeByte(argument);
+            } else if (bytes == 2) {
+                out.writeShort(argument);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the scorecard at the start of a round and adds it to the index.
+     *
+     * @param round The round starting.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeSnapshot(int round) throws IOException {
+        if (snapshotCount == snapshotRounds.length) {
+            snapshotRounds = Arrays.copyOf(snapshotRounds, snapshotCount * 2);
+            snapshotOffsets = Arrays.copyOf(snapshotOffsets, snapshotCount * 2);
+        }
+        snapshotRounds[snapshotCount] = round;
+        snapshotOffsets[snapshotCount] = out.size();
+        snapshotCount++;
+        lastSnapshotRound = round;
+
+        ScoreCardState state = engine.getScoreCard().getState();
+        out.writeByte(TAG_SNAPSHOT);
+        out.writeShort(round);
+        out.writeShort(state.getFilledMask());
+        out.writeShort(state.getOwnerMask());
+        for (int mask = state.getFilledMask(); mask != 0; mask &= mask - 1) {
+            int category = Integer.numberOfTrailingZeros(mask);
+            out.writeByte(state.getPoints(category));
+            out.writeByte(state.getRound(category));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.yahtzee.Model;
+
+import java.util.Arrays;
+
+/**
+ * A player has rolled the dice that were not kept.
+ */
+public final class RollEvent extends GameEvent {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The roll of the turn, from 1 to 3.
+    private final int rollNumber;
+
+    // The rolled dice, in the order they were rolled.
+    private final int[] dice;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates the event.
+     *
+     * @param round      The round of the turn.
+     * @param player     The name of the player who rolled.
+     * @param rollNumber The roll of the turn, from 1 to 3.
+     * @param values     An array holding the rolled dice.
+     * @param from       The index of the first rolled die, inclusive.
+     * @param to         The index of the last rolled die, exclusive.
+     */
+    public RollEvent(int round, String player, int rollNumber, int[] values, int from, int to) {
+        super(round, player);
+        this.rollNumber = rollNumber;
+        this.dice = Arrays.copyOfRange(values, from, to);
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the roll of the turn.
+     *
+     * @return The roll number, from 1 to 3.
+     */
+    public int getRollNumber() {
+        return rollNumber;
+    }
+
+    /**
+     * Retrieves the number of dice rolled.
+     *
+     * @return The dice count, from 1 to 5.
+     */
+    public int getDiceCount() {
+        return dice.length;
+    }
+
+    /**
+     * Retrieves one of the rolled dice.
+     *
+     * @param index The position of the die in the roll.
+     * @return The value of the die.
+     */
+    public int getDie(int index) {
+        return dice[index];
+    }
+
+    /**
+     * Retrieves the rolled dice as a face-count histogram.
+     *
+     * @return The packed histogram of the rolled dice.
+     */
+    public int getPackedDice() {
+        return ScoreTable.pack(dice, 0, dice.length);
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    @Override
+    public void dispatch(GameEventSink sink) {
+        sink.onRoll(this);
+    }
+
+    @Override
+    public String toString() {
+        return getPlayer() + " rolled " + Arrays.toString(dice) + " on roll number " + rollNumber;
+    }
+}
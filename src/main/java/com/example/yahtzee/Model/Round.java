@@ -1,21 +1,16 @@
 package com.example.yahtzee.Model;
 
 import java.io.Serializable;
-import java.util.List;
 
 public class Round implements Serializable {
 
-    // *******************************
-    // Class Variables
-    // *******************************
-
-    // Stores the current round number, shared across all instances
-    private static int roundNumber = 1;
-
     // *******************************
     // Instance Variables
     // *******************************
 
+    // The game this round belongs to, holding the scorecard and the round number
+    private final GameState game;
+
     // List of players participating in the round
     private final Player firstPlayer;
     private final Player secondPlayer;
@@ -27,12 +22,14 @@ public class Round implements Serializable {
     // *******************************
 
     /**
-     * Initializes a new round with two players.
+     * Initializes a new round of a game with two players.
      *
+     * @param game         The game the round belongs to.
      * @param firstPlayer  The first player in the round.
      * @param secondPlayer The second player in the round.
      */
-    public Round(Player firstPlayer, Player secondPlayer) {
+    public Round(GameState game, Player firstPlayer, Player secondPlayer) {
+        this.game = game;
         this.firstPlayer = firstPlayer;
         this.secondPlayer = secondPlayer;
     }
@@ -42,28 +39,21 @@ public class Round implements Serializable {
     // *******************************
 
     /**
-     * Increments the current round number by one.
-     */
-    public static void incrementRound() {
-        roundNumber++;
-    }
-
-    /**
-     * Retrieves the current round number.
+     * Retrieves the game this round belongs to.
      *
-     * @return The current round number.
+     * @return The game state.
      */
-    public static int getRoundNumber() {
-        return roundNumber;
+    public GameState getGame() {
+        return game;
     }
 
     /**
-     * Sets the round number to a specified value.
+     * Retrieves the current round number of the game.
      *
-     * @param newRoundNumber The new value for the round number.
+     * @return The current round number.
      */
-    public static void setRoundNumber(int newRoundNumber) {
-        roundNumber = newRoundNumber;
+    public int getRoundNumber() {
+        return game.getRoundNumber();
     }
 
     /**
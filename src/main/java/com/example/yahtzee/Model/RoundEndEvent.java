@@ -0,0 +1,99 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Both players have played their turn of a round, or the game is over.
+ * The event is about the player who played first in the round.
+ */
+public final class RoundEndEvent extends GameEvent {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The name of the player who played second in the round.
+    private final String secondPlayer;
+
+    // The totals of both players at the end of the round.
+    private final int firstTotal;
+    private final int secondTotal;
+
+    // Whether every category is filled.
+    private final boolean gameOver;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates the event.
+     *
+     * @param round        The round that ended.
+     * @param firstPlayer  The name of the player who played first in the round.
+     * @param firstTotal   The total of the first player.
+     * @param secondPlayer The name of the player who played second in the round.
+     * @param secondTotal  The total of the second player.
+     * @param gameOver     True if every category is filled.
+     */
+    public RoundEndEvent(int round, String firstPlayer, int firstTotal, String secondPlayer, int secondTotal, boolean gameOver) {
+        super(round, firstPlayer);
+        this.secondPlayer = secondPlayer;
+        this.firstTotal = firstTotal;
+        this.secondTotal = secondTotal;
+        this.gameOver = gameOver;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the player who played second in the round.
+     *
+     * @return The name of the second player.
+     */
+    public String getSecondPlayer() {
+        return secondPlayer;
+    }
+
+    /**
+     * Retrieves the total of the player who played first in the round.
+     *
+     * @return The total.
+     */
+    public int getFirstTotal() {
+        return firstTotal;
+    }
+
+    /**
+     * Retrieves the total of the player who played second in the round.
+     *
+     * @return The total.
+     */
+    public int getSecondTotal() {
+        return secondTotal;
+    }
+
+    /**
+     * Checks whether the round ended the game.
+     *
+     * @return True if every category is filled.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    @Override
+    public void dispatch(GameEventSink sink) {
+        sink.onRoundEnd(this);
+    }
+
+    @Override
+    public String toString() {
+        return (gameOver ? "Game over" : "Round " + getRound() + " is over") + ": " + getPlayer() + " has " + firstTotal
+                + " points, " + secondPlayer + " has " + secondTotal + " points";
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.yahtzee.Model;
+
+import java.util.Comparator;
+
+/**
+ * Metadata of a saved game, as kept in the save index by {@link Serialization}, so that the saves can be listed
+ * without opening them.
+ */
+public final class SaveInfo {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Orders saves from the most recent to the oldest, then by name.
+     */
+    public static final Comparator<SaveInfo> NEWEST_FIRST =
+            Comparator.comparingLong(SaveInfo::getTimestamp).reversed().thenComparing(SaveInfo::getName);
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The name of the save, without extension.
+    private final String name;
+
+    // Whether the save is a text file written by an earlier version.
+    private final boolean legacy;
+
+    // The time the game was saved, in milliseconds since the epoch.
+    private final long timestamp;
+
+    // The round the game was saved in.
+    private final int round;
+
+    // The totals of the two seats of the scorecard.
+    private final int firstTotal;
+    private final int secondTotal;
+
+    // The size of the save file in bytes.
+    private final int size;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates the metadata of a save.
+     *
+     * @param name        The name of the save, without extension.
+     * @param legacy      True if the save is a text file written by an earlier version.
+     * @param timestamp   The time the game was saved, in milliseconds since the epoch.
+     * @param round       The round the game was saved in.
+     * @param firstTotal  The total of seat 0 of the scorecard.
+     * @param secondTotal The total of seat 1 of the scorecard.
+     * @param size        The size of the save file in bytes.
+     */
+    public SaveInfo(String name, boolean legacy, long timestamp, int round, int firstTotal, int secondTotal, int size) {
+        this.name = name;
+        this.legacy = legacy;
+        this.timestamp = timestamp;
+        this.round = round;
+        this.firstTotal = firstTotal;
+        this.secondTotal = secondTotal;
+        this.size = size;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the name of the save.
+     *
+     * @return The name, without extension.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether the save is a text file written by an earlier version.
+     *
+     * @return True for a {@link Serialization#LEGACY_EXTENSION} save, false for a binary save.
+     */
+    public boolean isLegacy() {
+        return legacy;
+    }
+
+    /**
+     * Retrieves the name of the save file.
+     *
+     * @return The name with its extension.
+     */
+    public String getFileName() {
+        return name + (legacy ? Serialization.LEGACY_EXTENSION : Serialization.SAVE_EXTENSION);
+    }
+
+    /**
+     * Retrieves the time the game was saved.
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Retrieves the round the game was saved in.
+     *
+     * @return The round number.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Retrieves the total of the first seat of the scorecard.
+     *
+     * @return The total score.
+     */
+    public int getFirstTotal() {
+        return firstTotal;
+    }
+
+    /**
+     * Retrieves the total of the second seat of the scorecard.
+     *
+     * @return The total score.
+     */
+    public int getSecondTotal() {
+        return secondTotal;
+    }
+
+    /**
+     * Retrieves the size of the save file.
+     *
+     * @return The size in bytes.
+     */
+    public int getSize() {
+        return size;
+    }
+}
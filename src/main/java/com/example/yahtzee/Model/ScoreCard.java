@@ -1,34 +1,52 @@
 package com.example.yahtzee.Model;
 
+import java.io.Serializable;
 import java.util.*;
 
-public class ScoreCard {
+public class ScoreCard implements Serializable {
 
     // *******************************
     // Class Constants
     // *******************************
 
     /**
-     * The scoring categories available in the game.
+     * The scoring categories available in the game, in scorecard order.
      */
-    private static final String[] rows = { "Aces", "Twos", "Threes", "Fours", "Fives", "Sixes", 
-                                           "Three of a Kind", "Four of a Kind", "Full House", 
-                                           "Four Straight", "Five Straight", "Yahtzee" };
+    private static final Category[] rows = Category.values();
 
     // *******************************
-    // Class Variables
+    // Instance Variables
     // *******************************
 
     /**
-     * The scores for each category, represented as a map.
-     * The map stores the category, player name, points, and the round in which it was scored.
+     * The names of the two players, indexed by the seat stored in the scorecard state.
      */
-    private static Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scores = new HashMap<>();
+    private final String[] players;
 
-    static {
-        for (String row : rows) {
-            scores.put(row, Map.entry("", Map.entry(0, 0)));
-        }
+    /**
+     * The scores for each category: which categories are filled, by which seat, for how many points and in which round.
+     */
+    private final ScoreCardState state = new ScoreCardState();
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates an empty scorecard for the default "Human" and "Computer" players.
+     */
+    public ScoreCard() {
+        this("Human", "Computer");
+    }
+
+    /**
+     * Creates an empty scorecard for two named players.
+     *
+     * @param firstPlayer  The name of the player stored in seat 0.
+     * @param secondPlayer The name of the player stored in seat 1.
+     */
+    public ScoreCard(String firstPlayer, String secondPlayer) {
+        players = new String[] { firstPlayer, secondPlayer };
     }
 
     // *******************************
@@ -40,25 +58,25 @@ public class ScoreCard {
      *
      * @return True if all categories are filled, false otherwise.
      */
-    public static boolean isAllCategoriesFilled() {
-        for (Map.Entry<String, Map.Entry<String, Map.Entry<Integer, Integer>>> score : scores.entrySet()) {
-            if (score.getValue().getKey().isEmpty()) {
-                return false;
-            }
-        }
-        return true;
+    public boolean isAllCategoriesFilled() {
+        return state.isComplete();
     }
 
     /**
      * Displays potential points for available categories based on the given dice values.
+     * Nothing is displayed while logging is turned off.
      *
      * @param diceValues A list of integers representing the dice values.
      */
-    public static void displayPossiblePoints(List<Integer> diceValues) {
+    public void displayPossiblePoints(List<Integer> diceValues) {
+        if (!Logger.isEnabled()) {
+            return;
+        }
         System.out.println("\nPotential points in available categories:");
-        for (String category : rows) {
-            if (scores.get(category).getKey().isEmpty()) {
-                int points = calculatePoints(category, diceValues);
+        int packedDice = ScoreTable.pack(diceValues);
+        for (Category category : rows) {
+            if (isCategoryAvailable(category)) {
+                int points = calculatePoints(category, packedDice);
                 if (points != 0) {
                     System.out.println(category + ": " + points);
                 }
@@ -67,28 +85,48 @@ public class ScoreCard {
         System.out.println();
     }
 
+    /**
+     * Retrieves the categories that are still open as a bitmask.
+     *
+     * @return A mask with bit {@link Category#ordinal()} set for every category nobody has filled yet.
+     */
+    public int getOpenMask() {
+        return state.getOpenMask();
+    }
+
+    /**
+     * Checks if a given category is available for scoring.
+     *
+     * @param category The category to check.
+     * @return True if the category is available, false otherwise.
+     */
+    public boolean isCategoryAvailable(Category category) {
+        return !state.isFilled(category.ordinal());
+    }
+
     /**
      * Checks if a given category is available for scoring.
      *
      * @param category The category name to check.
      * @return True if the category is available, false otherwise.
      */
-    public static boolean isCategoryAvailable(String category) {
-        Map.Entry<String, Map.Entry<Integer, Integer>> scoreData = scores.get(category);
-        return scoreData != null && scoreData.getKey().isEmpty();
+    public boolean isCategoryAvailable(String category) {
+        Category row = Category.fromName(category);
+        return row != null && isCategoryAvailable(row);
     }
 
     /**
      * Retrieves a list of categories to choose for scoring based on the dice values.
      *
      * @param diceValues A list of integers representing the dice values.
-     * @return A list of available categories that have non-zero potential points.
+     * @return A list of available category names that have non-zero potential points.
      */
-    public static List<String> getCategoryToChoose(List<Integer> diceValues) {
+    public List<String> getCategoryToChoose(List<Integer> diceValues) {
         List<String> availableCategories = new ArrayList<>();
-        for (String category : rows) {
-            if (scores.get(category).getKey().isEmpty() && calculatePoints(category, diceValues) != 0) {
-                availableCategories.add(category);
+        int packedDice = ScoreTable.pack(diceValues);
+        for (Category category : rows) {
+            if (isCategoryAvailable(category) && calculatePoints(category, packedDice) != 0) {
+                availableCategories.add(category.getDisplayName());
             }
         }
         return availableCategories;
@@ -102,41 +140,112 @@ public class ScoreCard {
      * @param winner     The name of the player.
      * @param round      The current round number.
      */
-    public static void chooseCategory(String category, List<Integer> diceValues, String winner, int round) {
-        if (scores.get(category).getKey().isEmpty()) {
-            int points = calculatePoints(category, diceValues);
-            scores.put(category, Map.entry(winner, Map.entry(points, round)));
+    public void chooseCategory(Category category, List<Integer> diceValues, String winner, int round) {
+        chooseCategory(category, ScoreTable.pack(diceValues), winner, round);
+    }
+
+    /**
+     * Chooses a category for scoring and updates the scorecard.
+     *
+     * @param category   The category to choose.
+     * @param packedDice The packed face-count histogram of the dice used for scoring.
+     * @param winner     The name of the player.
+     * @param round      The current round number.
+     * @throws IllegalArgumentException If the round is past {@link ScoreCardState#MAX_ROUND}.
+     */
+    public void chooseCategory(Category category, int packedDice, String winner, int round) {
+        int seat = seatOf(winner);
+        if (seat == ScoreCardState.NO_OWNER) {
+            System.out.println("Unknown player!");
+        } else if (isCategoryAvailable(category)) {
+            int points = calculatePoints(category, packedDice);
+            state.fill(category.ordinal(), seat, points, round);
         } else {
             System.out.println("Category already filled!");
         }
     }
 
+    /**
+     * Chooses a category for scoring and updates the scorecard.
+     *
+     * @param category   The name of the category to choose.
+     * @param diceValues The dice values used for scoring.
+     * @param winner     The name of the player.
+     * @param round      The current round number.
+     */
+    public void chooseCategory(String category, List<Integer> diceValues, String winner, int round) {
+        Category row = Category.fromName(category);
+        if (row == null) {
+            System.out.println("Invalid category!");
+            return;
+        }
+        chooseCategory(row, diceValues, winner, round);
+    }
+
     /**
      * Identifies the best scoring category based on the current dice values.
      *
      * @param diceValues A list of integers representing the current dice values.
      * @return A pair containing:
-     *         - The category name as a String.
+     *         - The category, or null if no points can be scored.
      *         - The points as an Integer.
-     *         Returns a default pair ("", 0) if no points can be scored.
      */
+    public Pair<Category, Integer> getBestHand(List<Integer> diceValues) {
+        int packedDice = ScoreTable.pack(diceValues);
+        Category bestCategory = getBestCategory(packedDice);
+        return new Pair<>(bestCategory, bestCategory == null ? 0 : calculatePoints(bestCategory, packedDice));
+    }
 
-    public static Pair<String, Integer> getBestHands(List<Integer> diceValues) {
-        Pair<String, Integer> bestHand = new Pair<>("", 0);
-        boolean pointsEarned = false;
-
-        for (String category : rows) {
-            if (scores.get(category).getKey().isEmpty()) {
-                int points = calculatePoints(category, diceValues);
-                if (points > 0) {
-                    pointsEarned = true;
-                    if (points >= bestHand.getValue()) {
-                        bestHand = new Pair<>(category, points);
-                    }
+    /**
+     * Identifies the best scoring category for a packed hand. Ties go to the later category.
+     *
+     * @param packedDice The packed face-count histogram of the dice.
+     * @return The open category with the most points, or null if no points can be scored.
+     */
+    public Category getBestCategory(int packedDice) {
+        Category bestCategory = null;
+        int bestPoints = 0;
+        for (Category category : rows) {
+            if (isCategoryAvailable(category)) {
+                int points = calculatePoints(category, packedDice);
+                if (points > 0 && points >= bestPoints) {
+                    bestCategory = category;
+                    bestPoints = points;
                 }
             }
         }
-        return pointsEarned ? bestHand : new Pair<>("", 0); // Return the best hand or default empty pair
+        return bestCategory;
+    }
+
+    /**
+     * Finds the open categories in which a packed hand gives points.
+     *
+     * @param packedDice The packed face-count histogram of the dice.
+     * @return A mask with bit {@link Category#ordinal()} set for every open category that scores; 0 if none does.
+     */
+    public int getScorableMask(int packedDice) {
+        int scorable = 0;
+        for (int mask = getOpenMask(); mask != 0; mask &= mask - 1) {
+            int category = Integer.numberOfTrailingZeros(mask);
+            if (calculatePoints(Category.fromOrdinal(category), packedDice) > 0) {
+                scorable |= 1 << category;
+            }
+        }
+        return scorable;
+    }
+
+    /**
+     * Identifies the best scoring category based on the current dice values.
+     *
+     * @param diceValues A list of integers representing the current dice values.
+     * @return A pair containing:
+     *         - The category name as a String.
+     *         - The points as an Integer.
+     *         Returns a default pair ("", 0) if no points can be scored.
+     */
+    public Pair<String, Integer> getBestHands(List<Integer> diceValues) {
+        Pair<Category, Integer> bestHand = getBestHand(diceValues);
+        return bestHand.getKey() != null ? new Pair<>(bestHand.getKey().getDisplayName(), bestHand.getValue()) : new Pair<>("", 0);
     }
 
     /**
@@ -146,14 +255,45 @@ public class ScoreCard {
      * @return The total score of the player.
      */
 
-    public static int getTotalScore(String name) {
-        int totalScore = 0;
-        for (Map.Entry<String, Map.Entry<String, Map.Entry<Integer, Integer>>> score : scores.entrySet()) {
-            if (score.getValue().getKey().equals(name)) {
-                totalScore += score.getValue().getValue().getKey();
+    public int getTotalScore(String name) {
+        int seat = seatOf(name);
+        return seat == ScoreCardState.NO_OWNER ? 0 : state.getTotalScore(seat);
+    }
+
+    /**
+     * Retrieves the name of the player in a seat.
+     *
+     * @param seat 0 for the first seat, 1 for the second seat.
+     * @return The name of the player.
+     */
+    public String getPlayerName(int seat) {
+        return players[seat];
+    }
+
+    /**
+     * Finds the seat of a player in the scorecard state.
+     *
+     * @param name The name of the player.
+     * @return 0 or 1, or {@link ScoreCardState#NO_OWNER} if the name is not one of the two players.
+     */
+    public int seatOf(String name) {
+        for (int seat = 0; seat < players.length; seat++) {
+            if (players[seat].equals(name)) {
+                return seat;
             }
         }
-        return totalScore;
+        return ScoreCardState.NO_OWNER;
+    }
+
+    /**
+     * Calculates the potential points for a given category based on the dice values.
+     *
+     * @param category   The scoring category.
+     * @param diceValues A list of integers representing the dice values.
+     * @return The calculated score for the category. Returns 0 if the criteria for the category are not met.
+     */
+    public static int calculatePoints(Category category, List<Integer> diceValues) {
+        return calculatePoints(category, ScoreTable.pack(diceValues));
     }
 
     /**
@@ -164,114 +304,46 @@ public class ScoreCard {
      * @return The calculated score for the category. Returns 0 if the criteria for the category are not met.
      */
     public static int calculatePoints(String category, List<Integer> diceValues) {
-        int points = 0;
-
-        if (category.equals("Aces")) {
-            for (int value : diceValues) {
-                if (value == 1) {
-                    points += 1;
-                }
-            }
-        } else if (category.equals("Twos")) {
-            for (int value : diceValues) {
-                if (value == 2) {
-                    points += 2;
-                }
-            }
-        } else if (category.equals("Threes")) {
-            for (int value : diceValues) {
-                if (value == 3) {
-                    points += 3;
-                }
-            }
-        } else if (category.equals("Fours")) {
-            for (int value : diceValues) {
-                if (value == 4) {
-                    points += 4;
-                }
-            }
-        } else if (category.equals("Fives")) {
-            for (int value : diceValues) {
-                if (value == 5) {
-                    points += 5;
-                }
-            }
-        } else if (category.equals("Sixes")) {
-            for (int value : diceValues) {
-                if (value == 6) {
-                    points += 6;
-                }
-            }
-        } else if (category.equals("Three of a Kind")) {
-            Map<Integer, Integer> valueCount = new HashMap<>();
-            for (int value : diceValues) {
-                valueCount.put(value, valueCount.getOrDefault(value, 0) + 1);
-            }
-            for (int count : valueCount.values()) {
-                if (count >= 3) {
-                    for (int value : diceValues) {
-                        points += value;
-                    }
-                    break;
-                }
-            }
-        } else if (category.equals("Four of a Kind")) {
-            Map<Integer, Integer> valueCount = new HashMap<>();
-            for (int value : diceValues) {
-                valueCount.put(value, valueCount.getOrDefault(value, 0) + 1);
-            }
-            for (int count : valueCount.values()) {
-                if (count >= 4) {
-                    for (int value : diceValues) {
-                        points += value;
-                    }
-                    break;
-                }
-            }
-        } else if (category.equals("Full House")) {
-            Map<Integer, Integer> valueCount = new HashMap<>();
-            for (int value : diceValues) {
-                valueCount.put(value, valueCount.getOrDefault(value, 0) + 1);
-            }
-            if (valueCount.containsValue(3) && valueCount.containsValue(2)) {
-                points = 25;
-            }
-        } else if (category.equals("Four Straight")) {
-            Set<Integer> uniqueValues = new TreeSet<>(diceValues);
-            List<Integer> temp = new ArrayList<>(uniqueValues);
-            if (temp.size() >= 4) {
-                boolean hasFourStraight = false;
-                for (int i = 0; i <= temp.size() - 4; i++) {
-                    if (temp.get(i + 1) == temp.get(i) + 1 &&
-                        temp.get(i + 2) == temp.get(i) + 2 &&
-                        temp.get(i + 3) == temp.get(i) + 3) {
-                        hasFourStraight = true;
-                        break;
-                    }
-                }
-                points = hasFourStraight ? 30 : 0;
-            }
-        } else if (category.equals("Five Straight")) {
-            List<Integer> temp = new ArrayList<>(diceValues);
-            Collections.sort(temp);
-            if ((temp.equals(Arrays.asList(1, 2, 3, 4, 5)) ||
-                 temp.equals(Arrays.asList(2, 3, 4, 5, 6)))) {
-                points = 40;
-            }
-        } else if (category.equals("Yahtzee")) {
-            Map<Integer, Integer> valueCount = new HashMap<>();
-            for (int value : diceValues) {
-                valueCount.put(value, valueCount.getOrDefault(value, 0) + 1);
-                if (valueCount.get(value) == 5) {
-                    points = 50;
-                    break;
-                }
-            }
-        } else {
+        Category row = Category.fromName(category);
+        if (row == null) {
             System.out.println("Invalid category!");
+            return 0;
         }
+        return calculatePoints(row, ScoreTable.pack(diceValues));
+    }
 
-        return points;
+    /**
+     * Calculates the potential points for a category from a packed face-count histogram.
+     * Five-dice hands are looked up in the precomputed score table; any other number of dice is scored directly.
+     *
+     * @param category   The scoring category.
+     * @param packedDice The packed face-count histogram of the dice, see {@link ScoreTable#pack(List)}.
+     * @return The calculated score for the category.
+     */
+    public static int calculatePoints(Category category, int packedDice) {
+        int hand = ScoreTable.indexOf(packedDice);
+        return hand >= 0 ? ScoreTable.score(category.ordinal(), hand) : category.scoreOf(packedDice);
+    }
+
+    /**
+     * Computes the exact chances of every open category for the dice kept and the rolls left: the probability
+     * of ending the turn on a hand that scores in it and the points expected in it. Cheap enough to call on
+     * every dice selection.
+     *
+     * @param packedKept The packed histogram of the dice kept; with no rolls left, all five dice.
+     * @param rollsLeft  The number of rolls left in the turn, from 0 to 3; with 3 nothing can be kept yet.
+     * @return The odds of the open categories.
+     * @throws IllegalArgumentException If the kept dice are more than five, or fewer than five with no rolls left.
+     */
+    public CompletionOdds getCompletionOdds(int packedKept, int rollsLeft) {
+        int keep = TransitionTable.keepIndexOf(packedKept);
+        if (keep < 0) {
+            throw new IllegalArgumentException("At most five dice can be kept.");
+        }
+        if (rollsLeft <= 0 && ScoreTable.indexOf(packedKept) < 0) {
+            throw new IllegalArgumentException("No rolls are left, so all five dice must be kept.");
+        }
+        return new CompletionOdds(getOpenMask(), keep, Math.min(rollsLeft, GameEngine.MAX_ROLLS));
     }
 
     /**
@@ -280,8 +352,9 @@ public class ScoreCard {
      * @param diceValues A list of integers representing the dice values.
      * @return A list of category names that can be pursued.
      */
-    public static List<String> getCategoriesToPursue(List<Integer> diceValues) {
+    public List<String> getCategoriesToPursue(List<Integer> diceValues) {
         List<String> categoriesToPursue = new ArrayList<>();
+        int packedDice = ScoreTable.pack(diceValues);
 
         List<Integer> uniqueValues = new ArrayList<>(new TreeSet<>(diceValues));
         List<Integer> pairValues = new ArrayList<>();
@@ -297,73 +370,73 @@ public class ScoreCard {
             }
         }
 
-        if(uniqueValues.size() == 5 && (isCategoryAvailable("Five Straight") || isCategoryAvailable("Four Straight"))) {
-            if(isCategoryAvailable("Five Straight") && !isCategoryAvailable("Four Straight"))
+        if(uniqueValues.size() == 5 && (isCategoryAvailable(Category.FIVE_STRAIGHT) || isCategoryAvailable(Category.FOUR_STRAIGHT))) {
+            if(isCategoryAvailable(Category.FIVE_STRAIGHT) && !isCategoryAvailable(Category.FOUR_STRAIGHT))
                 categoriesToPursue.add("Five Straight");
-            else if(!isCategoryAvailable("Five Straight") && isCategoryAvailable("Four Straight"))
+            else if(!isCategoryAvailable(Category.FIVE_STRAIGHT) && isCategoryAvailable(Category.FOUR_STRAIGHT))
                 categoriesToPursue.add("Four Straight");
             else{
                 categoriesToPursue.add("Five Straight");
                 categoriesToPursue.add("Four Straight");
             }
-        } else if (ScoreCard.isCategoryAvailable("Five Straight") && uniqueValues.size() == 4 && (isSubset(diceValues, List.of(1, 2, 3, 4, 5)) || isSubset(diceValues, List.of(2, 3, 4, 5, 6)))) {
+        } else if (isCategoryAvailable(Category.FIVE_STRAIGHT) && uniqueValues.size() == 4 && (isSubset(diceValues, List.of(1, 2, 3, 4, 5)) || isSubset(diceValues, List.of(2, 3, 4, 5, 6)))) {
             categoriesToPursue.add("Five Straight");
-        } else if (ScoreCard.isCategoryAvailable("Four Straight") && !ScoreCard.isCategoryAvailable("Five Straight") && uniqueValues.size() == 4 && (isSubset(diceValues, List.of(1, 2, 3, 4, 5)) || isSubset(diceValues, List.of(2, 3, 4, 5, 6)))) {
+        } else if (isCategoryAvailable(Category.FOUR_STRAIGHT) && !isCategoryAvailable(Category.FIVE_STRAIGHT) && uniqueValues.size() == 4 && (isSubset(diceValues, List.of(1, 2, 3, 4, 5)) || isSubset(diceValues, List.of(2, 3, 4, 5, 6)))) {
             categoriesToPursue.add("Four Straight");
         }
 
         List<Integer> sequentialDice = getSequentialDice(uniqueValues);
-        if (ScoreCard.isCategoryAvailable("Four Straight") && sequentialDice.size() == 3 && uniqueValues.size() >= 3 && (isSubset(sequentialDice, List.of(1, 2, 3, 4)) || isSubset(sequentialDice, List.of(2, 3, 4, 5)) || isSubset(sequentialDice, List.of(3, 4, 5, 6)))) {
+        if (isCategoryAvailable(Category.FOUR_STRAIGHT) && sequentialDice.size() == 3 && uniqueValues.size() >= 3 && (isSubset(sequentialDice, List.of(1, 2, 3, 4)) || isSubset(sequentialDice, List.of(2, 3, 4, 5)) || isSubset(sequentialDice, List.of(3, 4, 5, 6)))) {
             categoriesToPursue.add("Four Straight");
         }
 
         if (pairValues.size() >= 1) {
-            if (ScoreCard.isCategoryAvailable("Yahtzee"))
+            if (isCategoryAvailable(Category.YAHTZEE))
                 categoriesToPursue.add("Yahtzee");
-            if (ScoreCard.isCategoryAvailable("Full House"))
+            if (isCategoryAvailable(Category.FULL_HOUSE))
                 categoriesToPursue.add("Full House");
-            if (ScoreCard.isCategoryAvailable("Four of a Kind"))
+            if (isCategoryAvailable(Category.FOUR_OF_A_KIND))
                 categoriesToPursue.add("Four of a Kind");
-            if (ScoreCard.isCategoryAvailable("Three of a Kind"))
+            if (isCategoryAvailable(Category.THREE_OF_A_KIND))
                 categoriesToPursue.add("Three of a Kind");
         }
 
         List<Integer> upperSectionScores = new ArrayList<>();
-        upperSectionScores.add(ScoreCard.isCategoryAvailable("Aces") ? calculatePoints("Aces", diceValues) : 0);
-        upperSectionScores.add(ScoreCard.isCategoryAvailable("Twos") ? calculatePoints("Twos", diceValues) : 0);
-        upperSectionScores.add(ScoreCard.isCategoryAvailable("Threes") ? calculatePoints("Threes", diceValues) : 0);
-        upperSectionScores.add(ScoreCard.isCategoryAvailable("Fours") ? calculatePoints("Fours", diceValues) : 0);
-        upperSectionScores.add(ScoreCard.isCategoryAvailable("Fives") ? calculatePoints("Fives", diceValues) : 0);
-        upperSectionScores.add(ScoreCard.isCategoryAvailable("Sixes") ? calculatePoints("Sixes", diceValues) : 0);
+        upperSectionScores.add(isCategoryAvailable(Category.ACES) ? calculatePoints(Category.ACES, packedDice) : 0);
+        upperSectionScores.add(isCategoryAvailable(Category.TWOS) ? calculatePoints(Category.TWOS, packedDice) : 0);
+        upperSectionScores.add(isCategoryAvailable(Category.THREES) ? calculatePoints(Category.THREES, packedDice) : 0);
+        upperSectionScores.add(isCategoryAvailable(Category.FOURS) ? calculatePoints(Category.FOURS, packedDice) : 0);
+        upperSectionScores.add(isCategoryAvailable(Category.FIVES) ? calculatePoints(Category.FIVES, packedDice) : 0);
+        upperSectionScores.add(isCategoryAvailable(Category.SIXES) ? calculatePoints(Category.SIXES, packedDice) : 0);
 
         Integer maxScore = Collections.max(upperSectionScores); // Using Collections.max()
 
         if (maxScore != null) {
-            if (maxScore == calculatePoints("Aces", diceValues) && ScoreCard.isCategoryAvailable("Aces")) {
+            if (maxScore == calculatePoints(Category.ACES, packedDice) && isCategoryAvailable(Category.ACES)) {
                 categoriesToPursue.add("Aces");
-            } else if (maxScore == calculatePoints("Twos", diceValues) && ScoreCard.isCategoryAvailable("Twos")) {
+            } else if (maxScore == calculatePoints(Category.TWOS, packedDice) && isCategoryAvailable(Category.TWOS)) {
                 categoriesToPursue.add("Twos");
-            } else if (maxScore == calculatePoints("Threes", diceValues) && ScoreCard.isCategoryAvailable("Threes")) {
+            } else if (maxScore == calculatePoints(Category.THREES, packedDice) && isCategoryAvailable(Category.THREES)) {
                 categoriesToPursue.add("Threes");
-            } else if (maxScore == calculatePoints("Fours", diceValues) && ScoreCard.isCategoryAvailable("Fours")) {
+            } else if (maxScore == calculatePoints(Category.FOURS, packedDice) && isCategoryAvailable(Category.FOURS)) {
                 categoriesToPursue.add("Fours");
-            } else if (maxScore == calculatePoints("Fives", diceValues) && ScoreCard.isCategoryAvailable("Fives")) {
+            } else if (maxScore == calculatePoints(Category.FIVES, packedDice) && isCategoryAvailable(Category.FIVES)) {
                 categoriesToPursue.add("Fives");
-            } else if (maxScore == calculatePoints("Sixes", diceValues) && ScoreCard.isCategoryAvailable("Sixes")) {
+            } else if (maxScore == calculatePoints(Category.SIXES, packedDice) && isCategoryAvailable(Category.SIXES)) {
                 categoriesToPursue.add("Sixes");
             }
         } else {
-            if (calculatePoints("Aces", diceValues) > 0 && ScoreCard.isCategoryAvailable("Aces")) {
+            if (calculatePoints(Category.ACES, packedDice) > 0 && isCategoryAvailable(Category.ACES)) {
                 categoriesToPursue.add("Aces");
-            } else if (calculatePoints("Twos", diceValues) > 0 && ScoreCard.isCategoryAvailable("Twos")) {
+            } else if (calculatePoints(Category.TWOS, packedDice) > 0 && isCategoryAvailable(Category.TWOS)) {
                 categoriesToPursue.add("Twos");
-            } else if (calculatePoints("Threes", diceValues) > 0 && ScoreCard.isCategoryAvailable("Threes")) {
+            } else if (calculatePoints(Category.THREES, packedDice) > 0 && isCategoryAvailable(Category.THREES)) {
                 categoriesToPursue.add("Threes");
-            } else if (calculatePoints("Fours", diceValues) > 0 && ScoreCard.isCategoryAvailable("Fours")) {
+            } else if (calculatePoints(Category.FOURS, packedDice) > 0 && isCategoryAvailable(Category.FOURS)) {
                 categoriesToPursue.add("Fours");
-            } else if (calculatePoints("Fives", diceValues) > 0 && ScoreCard.isCategoryAvailable("Fives")) {
+            } else if (calculatePoints(Category.FIVES, packedDice) > 0 && isCategoryAvailable(Category.FIVES)) {
                 categoriesToPursue.add("Fives");
-            } else if (calculatePoints("Sixes", diceValues) > 0 && ScoreCard.isCategoryAvailable("Sixes")) {
+            } else if (calculatePoints(Category.SIXES, packedDice) > 0 && isCategoryAvailable(Category.SIXES)) {
                 categoriesToPursue.add("Sixes");
             }
         }
@@ -444,10 +517,35 @@ public class ScoreCard {
     /**
      * Retrieves the current state of the scorecard, showing scores and their associated categories.
      *
-     * @return A map representing the scorecard.
+     * @return A map from category name to the player name, points and round scored.
+     */
+    public Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> getScoreBoard() {
+        Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scoreBoard = new LinkedHashMap<>();
+        for (Category category : rows) {
+            int row = category.ordinal();
+            int owner = state.getOwner(row);
+            String winner = owner == ScoreCardState.NO_OWNER ? "" : players[owner];
+            scoreBoard.put(category.getDisplayName(), Map.entry(winner, Map.entry(state.getPoints(row), state.getRound(row))));
+        }
+        return scoreBoard;
+    }
+
+    /**
+     * Retrieves the compact state backing the scorecard.
+     *
+     * @return A copy of the current scorecard state.
      */
-    public static Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> getScoreBoard() {
-        return scores;
+    public ScoreCardState getState() {
+        return state.copy();
+    }
+
+    /**
+     * Replaces the current scorecard with a previously captured state.
+     *
+     * @param newState The state to restore.
+     */
+    public void setState(ScoreCardState newState) {
+        state.copyFrom(newState);
     }
 
     /**
@@ -456,25 +554,35 @@ public class ScoreCard {
      * @return A list of category names.
      */
     public static List<String> getAllCategories() {
-        return Arrays.asList(rows);
+        List<String> categories = new ArrayList<>(rows.length);
+        for (Category category : rows) {
+            categories.add(category.getDisplayName());
+        }
+        return categories;
     }
 
     /**
      * Updates the current state of the scorecard with a new scoreboard.
      *
-     * @param newScoreBoard A map representing the new scorecard.
+     * @param newScoreBoard A map from category name to the player name, points and round scored.
+     * @throws IllegalArgumentException If some points or a round do not fit in a scorecard row.
      */
     public void setScoreBoard(Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> newScoreBoard) {
-        scores = newScoreBoard;
+        state.clear();
+        for (Category category : rows) {
+            Map.Entry<String, Map.Entry<Integer, Integer>> score = newScoreBoard.get(category.getDisplayName());
+            int seat = score != null ? seatOf(score.getKey()) : ScoreCardState.NO_OWNER;
+            if (seat != ScoreCardState.NO_OWNER) {
+                state.fill(category.ordinal(), seat, score.getValue().getKey(), score.getValue().getValue());
+            }
+        }
     }
 
     /**
      * Resets the scorecard to its initial state, clearing all scores and categories.
      */
 
-    public static void clearScoreBoard() {
-        for (String category : rows) {
-            scores.put(category, Map.entry("", Map.entry(0, 0)));
-        }
+    public void clearScoreBoard() {
+        state.clear();
     }
 }
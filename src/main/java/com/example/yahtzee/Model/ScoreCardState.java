@@ -0,0 +1,357 @@
+package com.example.yahtzee.Model;
+
+import java.io.Serializable;
+
+/**
+ * Compact, copyable state of the twelve scorecard rows.
+ * <p>
+ * Which rows are filled and which of the two seats filled them are kept as bitmasks indexed by
+ * {@link Category#ordinal()}; the points (6 bits) and the round (8 bits) of each row are packed
+ * into a 14-bit cell, four cells to a long. The whole state is two ints and three longs, so it can
+ * be copied, hashed and compared field by field without touching the heap.
+ * </p>
+ */
+public final class ScoreCardState implements Serializable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Bitmask with one bit set for every category.
+     */
+    public static final int ALL_CATEGORIES = (1 << ScoreTable.CATEGORY_COUNT) - 1;
+
+    /**
+     * Seat value returned for a category that has not been filled.
+     */
+    public static final int NO_OWNER = -1;
+
+    /**
+     * The most points a row can hold.
+     */
+    public static final int MAX_POINTS = 63;
+
+    /**
+     * The last round a row can record.
+     */
+    public static final int MAX_ROUND = 255;
+
+    // Number of bits that hold the points of a row.
+    private static final int POINT_BITS = 6;
+
+    // Number of bits in one packed row: the points followed by the round.
+    private static final int CELL_BITS = POINT_BITS + 8;
+
+    // Number of packed rows held by each long.
+    private static final int CELLS_PER_WORD = 4;
+
+    private static final long POINT_MASK = (1L << POINT_BITS) - 1;
+
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Bit c is set when category c has been filled.
+    private int filledMask;
+
+    // Bit c is set when category c was filled by the second seat.
+    private int ownerMask;
+
+    // Packed points and rounds of categories 0 to 3, 4 to 7 and 8 to 11.
+    private long cells0;
+    private long cells1;
+    private long cells2;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    /**
+     * Creates an empty scorecard state.
+     */
+    public ScoreCardState() {
+    }
+
+    /**
+     * Creates a copy of another scorecard state.
+     *
+     * @param other The state to copy.
+     */
+    public ScoreCardState(ScoreCardState other) {
+        copyFrom(other);
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the bitmask of filled categories.
+     *
+     * @return A mask with bit c set when category c is filled.
+     */
+    public int getFilledMask() {
+        return filledMask;
+    }
+
+    /**
+     * Retrieves the bitmask of categories that are still open.
+     *
+     * @return A mask with bit c set when category c is open.
+     */
+    public int getOpenMask() {
+        return ~filledMask & ALL_CATEGORIES;
+    }
+
+    /**
+     * Retrieves the bitmask of categories filled by the second seat.
+     *
+     * @return A mask with bit c set when category c belongs to the second seat.
+     */
+    public int getOwnerMask() {
+        return ownerMask;
+    }
+
+    /**
+     * Checks whether a category has been filled.
+     *
+     * @param category The category ordinal.
+     * @return True if the category is filled, false otherwise.
+     */
+    public boolean isFilled(int category) {
+        return (filledMask & (1 << category)) != 0;
+    }
+
+    /**
+     * Checks whether every category has been filled.
+     *
+     * @return True if the scorecard is complete, false otherwise.
+     */
+    public boolean isComplete() {
+        return filledMask == ALL_CATEGORIES;
+    }
+
+    /**
+     * Retrieves the seat that filled a category.
+     *
+     * @param category The category ordinal.
+     * @return 0 for the first seat, 1 for the second seat, or {@link #NO_OWNER} if the category is open.
+     */
+    public int getOwner(int category) {
+        if (!isFilled(category)) {
+            return NO_OWNER;
+        }
+        return (ownerMask >>> category) & 1;
+    }
+
+    /**
+     * Retrieves the points scored in a category.
+     *
+     * @param category The category ordinal.
+     * @return The points, or 0 if the category is open.
+     */
+    public int getPoints(int category) {
+        return (int) (cell(category) & POINT_MASK);
+    }
+
+    /**
+     * Retrieves the round in which a category was scored.
+     *
+     * @param category The category ordinal.
+     * @return The round number, or 0 if the category is open.
+     */
+    public int getRound(int category) {
+        return (int) (cell(category) >>> POINT_BITS);
+    }
+
+    /**
+     * Sums the points of every category filled by a seat.
+     *
+     * @param seat 0 for the first seat, 1 for the second seat.
+     * @return The total score of the seat.
+     */
+    public int getTotalScore(int seat) {
+        int seatMask = seat == 0 ? filledMask & ~ownerMask : filledMask & ownerMask;
+        int total = 0;
+        while (seatMask != 0) {
+            int category = Integer.numberOfTrailingZeros(seatMask);
+            total += getPoints(category);
+            seatMask &= seatMask - 1;
+        }
+        return total;
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Records a score in a category.
+     *
+     * @param category The category ordinal.
+     * @param seat     0 for the first seat, 1 for the second seat.
+     * @param score    The points scored, from 0 to {@link #MAX_POINTS}.
+     * @param round    The round in which the category was scored, from 0 to {@link #MAX_ROUND}.
+     * @throws IllegalArgumentException If the points or the round do not fit in a row.
+     */
+    public void fill(int category, int seat, int score, int round) {
+        if (score < 0 || score > MAX_POINTS) {
+            throw new IllegalArgumentException("Points out of range: " + score);
+        }
+        if (round < 0 || round > MAX_ROUND) {
+            throw new IllegalArgumentException("Round out of range: " + round);
+        }
+        int bit = 1 << category;
+        filledMask |= bit;
+        ownerMask = seat == 1 ? ownerMask | bit : ownerMask & ~bit;
+        setCell(category, score | ((long) round << POINT_BITS));
+    }
+
+    /**
+     * Clears a category so that it is open again.
+     *
+     * @param category The category ordinal.
+     */
+    public void clear(int category) {
+        int bit = 1 << category;
+        filledMask &= ~bit;
+        ownerMask &= ~bit;
+        setCell(category, 0);
+    }
+
+    /**
+     * Clears every category.
+     */
+    public void clear() {
+        filledMask = 0;
+        ownerMask = 0;
+        cells0 = 0;
+        cells1 = 0;
+        cells2 = 0;
+    }
+
+    /**
+     * Overwrites this state with another one.
+     *
+     * @param other The state to copy.
+     */
+    public void copyFrom(ScoreCardState other) {
+        filledMask = other.filledMask;
+        ownerMask = other.ownerMask;
+        cells0 = other.cells0;
+        cells1 = other.cells1;
+        cells2 = other.cells2;
+    }
+
+    /**
+     * Creates a copy of this state.
+     *
+     * @return A new state equal to this one.
+     */
+    public ScoreCardState copy() {
+        return new ScoreCardState(this);
+    }
+
+    /**
+     * Checks if this state is equal to another object.
+     *
+     * @param o The object to compare this state to.
+     * @return True if both states hold the same rows; false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ScoreCardState that = (ScoreCardState) o;
+        return filledMask == that.filledMask && ownerMask == that.ownerMask
+                && cells0 == that.cells0 && cells1 == that.cells1 && cells2 == that.cells2;
+    }
+
+    /**
+     * Returns the hash code of this state.
+     *
+     * @return The hash code computed from the masks and the rows.
+     */
+    @Override
+    public int hashCode() {
+        int result = 31 * filledMask + ownerMask;
+        result = 31 * result + Long.hashCode(cells0);
+        result = 31 * result + Long.hashCode(cells1);
+        return 31 * result + Long.hashCode(cells2);
+    }
+
+    /**
+     * Returns a string representation of this state.
+     *
+     * @return A string listing the masks and the points of each row.
+     */
+    @Override
+    public String toString() {
+        return "ScoreCardState{" + "filled=" + Integer.toBinaryString(filledMask) + ", owners=" + Integer.toBinaryString(ownerMask)
+                + ", points=" + pointsString() + '}';
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Reads the packed row of a category.
+     *
+     * @param category The category ordinal.
+     * @return The points in the low bits and the round above them.
+     */
+    private long cell(int category) {
+        int shift = (category % CELLS_PER_WORD) * CELL_BITS;
+        switch (category / CELLS_PER_WORD) {
+            case 0:
+                return (cells0 >>> shift) & CELL_MASK;
+            case 1:
+                return (cells1 >>> shift) & CELL_MASK;
+            default:
+                return (cells2 >>> shift) & CELL_MASK;
+        }
+    }
+
+    /**
+     * Overwrites the packed row of a category.
+     *
+     * @param category The category ordinal.
+     * @param value    The points in the low bits and the round above them.
+     */
+    private void setCell(int category, long value) {
+        int shift = (category % CELLS_PER_WORD) * CELL_BITS;
+        long clear = ~(CELL_MASK << shift);
+        long bits = value << shift;
+        switch (category / CELLS_PER_WORD) {
+            case 0:
+                cells0 = (cells0 & clear) | bits;
+                break;
+            case 1:
+                cells1 = (cells1 & clear) | bits;
+                break;
+            default:
+                cells2 = (cells2 & clear) | bits;
+                break;
+        }
+    }
+
+    /**
+     * Lists the points of every row.
+     *
+     * @return The points in category order, formatted like an array.
+     */
+    private String pointsString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            if (category > 0) {
+                builder.append(", ");
+            }
+            builder.append(getPoints(category));
+        }
+        return builder.append(']').toString();
+    }
+}
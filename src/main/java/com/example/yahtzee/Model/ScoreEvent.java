@@ -0,0 +1,97 @@
+package com.example.yahtzee.Model;
+
+/**
+ * A player has ended their turn, scoring a category or passing.
+ */
+public final class ScoreEvent extends GameEvent {
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The category scored, or null if the turn was passed.
+    private final Category category;
+
+    // The points scored.
+    private final int points;
+
+    // The packed histogram of the final dice.
+    private final int packedDice;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates the event.
+     *
+     * @param round      The round of the turn.
+     * @param player     The name of the player who scored.
+     * @param category   The category scored, or null if the turn was passed.
+     * @param points     The points scored, 0 if the turn was passed.
+     * @param packedDice The packed histogram of the final dice.
+     */
+    public ScoreEvent(int round, String player, Category category, int points, int packedDice) {
+        super(round, player);
+        this.category = category;
+        this.points = points;
+        this.packedDice = packedDice;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the category scored.
+     *
+     * @return The category, or null if the turn was passed.
+     */
+    public Category getCategory() {
+        return category;
+    }
+
+    /**
+     * Retrieves the points scored.
+     *
+     * @return The points, 0 if the turn was passed.
+     */
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * Retrieves the final dice of the turn.
+     *
+     * @return The packed histogram of the final dice.
+     */
+    public int getPackedDice() {
+        return packedDice;
+    }
+
+    /**
+     * Checks whether the turn ended without a score.
+     *
+     * @return True if no category gave points.
+     */
+    public boolean isPassed() {
+        return category == null;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    @Override
+    public void dispatch(GameEventSink sink) {
+        sink.onScore(this);
+    }
+
+    @Override
+    public String toString() {
+        if (isPassed()) {
+            return getPlayer() + " has no category to score with " + ScoreTable.toList(packedDice);
+        }
+        return getPlayer() + " scored " + points + " points in " + category + " with " + ScoreTable.toList(packedDice);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.yahtzee.Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed scores for every possible five-dice hand.
+ * <p>
+ * A hand is identified by its face-count histogram, packed into a single int with three bits per face
+ * (face 1 in the lowest bits). Because the order of the dice never matters for scoring, the 7776 ordered
+ * rolls collapse into 252 sorted multisets. Each of them is given a canonical index and all twelve
+ * category scores are computed once, so scoring a hand is a single array lookup.
+ * </p>
+ */
+public final class ScoreTable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of distinct sorted five-dice hands.
+     */
+    public static final int HAND_COUNT = 252;
+
+    /**
+     * Number of scoring categories, indexed by {@link Category#ordinal()}.
+     */
+    public static final int CATEGORY_COUNT = 12;
+
+    /**
+     * Number of bits used to store the count of a single face in a packed histogram.
+     */
+    public static final int BITS_PER_FACE = 3;
+
+    /**
+     * Mask extracting the count of a single face from a packed histogram.
+     */
+    private static final int FACE_MASK = (1 << BITS_PER_FACE) - 1;
+
+    /**
+     * Packed histograms of all hands, sorted ascending so that the position in the array is the hand index.
+     */
+    private static final int[] HANDS = new int[HAND_COUNT];
+
+    /**
+     * Flat table of scores, indexed by hand * CATEGORY_COUNT + category.
+     */
+    private static final byte[] SCORES = new byte[HAND_COUNT * CATEGORY_COUNT];
+
+    static {
+        int[] next = { 0 };
+        enumerateHands(1, 5, 0, next);
+        Arrays.sort(HANDS);
+        for (int hand = 0; hand < HAND_COUNT; hand++) {
+            for (int category = 0; category < CATEGORY_COUNT; category++) {
+                SCORES[hand * CATEGORY_COUNT + category] = (byte) scoreOf(category, HANDS[hand]);
+            }
+        }
+    }
+
+    private ScoreTable() {
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Looks up the score of a hand in a category.
+     *
+     * @param category The category ordinal (0 for Aces through 11 for Yahtzee).
+     * @param hand     The canonical hand index returned by {@link #indexOf(int)}.
+     * @return The points the hand would score in the category.
+     */
+    public static int score(int category, int hand) {
+        return SCORES[hand * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Retrieves the canonical index of a five-dice hand.
+     *
+     * @param packed The packed face-count histogram of the hand.
+     * @return The hand index in the range [0, 252), or a negative value if the histogram is not a five-dice hand.
+     */
+    public static int indexOf(int packed) {
+        return Arrays.binarySearch(HANDS, packed);
+    }
+
+    /**
+     * Retrieves the packed face-count histogram of a hand.
+     *
+     * @param hand The canonical hand index.
+     * @return The packed histogram of the hand.
+     */
+    public static int handAt(int hand) {
+        return HANDS[hand];
+    }
+
+    /**
+     * Retrieves how many dice of a face a packed histogram holds.
+     *
+     * @param packed The packed face-count histogram.
+     * @param face   The face value, from 1 to 6.
+     * @return The number of dice showing the face.
+     */
+    public static int count(int packed, int face) {
+        return (packed >>> ((face - 1) * BITS_PER_FACE)) & FACE_MASK;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Packs a list of dice values into a face-count histogram.
+     *
+     * @param diceValues A list of integers representing the dice values.
+     * @return The packed histogram.
+     */
+    public static int pack(List<Integer> diceValues) {
+        int packed = 0;
+        for (int i = 0, size = diceValues.size(); i < size; i++) {
+            packed += 1 << ((diceValues.get(i) - 1) * BITS_PER_FACE);
+        }
+        return packed;
+    }
+
+    /**
+     * Packs a range of an array of dice values into a face-count histogram.
+     *
+     * @param values An array of dice values.
+     * @param from   The index of the first die, inclusive.
+     * @param to     The index of the last die, exclusive.
+     * @return The packed histogram.
+     */
+    public static int pack(int[] values, int from, int to) {
+        int packed = 0;
+        for (int i = from; i < to; i++) {
+            packed += 1 << ((values[i] - 1) * BITS_PER_FACE);
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks a face-count histogram into a sorted list of dice values.
+     *
+     * @param packed The packed histogram.
+     * @return A new list of the dice values in ascending order.
+     */
+    public static List<Integer> toList(int packed) {
+        List<Integer> diceValues = new ArrayList<>();
+        for (int face = 1; face <= 6; face++) {
+            for (int i = count(packed, face); i > 0; i--) {
+                diceValues.add(face);
+            }
+        }
+        return diceValues;
+    }
+
+    /**
+     * Computes the score of any packed histogram in a category without using the table.
+     * Used to build the table and to score hands that do not hold exactly five dice.
+     *
+     * @param category The category ordinal.
+     * @param packed   The packed face-count histogram.
+     * @return The points the dice would score in the category.
+     */
+    public static int scoreOf(int category, int packed) {
+        return Category.fromOrdinal(category).scoreOf(packed);
+    }
+
+    /**
+     * Recursively fills the hand array with every histogram of the remaining dice over faces [face, 6].
+     *
+     * @param face      The lowest face still to be assigned a count.
+     * @param remaining The number of dice left to distribute.
+     * @param packed    The histogram built so far.
+     * @param next      Single-element cursor into the hand array.
+     */
+    private static void enumerateHands(int face, int remaining, int packed, int[] next) {
+        if (face == 6) {
+            HANDS[next[0]++] = packed + (remaining << ((face - 1) * BITS_PER_FACE));
+            return;
+        }
+        for (int count = 0; count <= remaining; count++) {
+            enumerateHands(face + 1, remaining - count, packed + (count << ((face - 1) * BITS_PER_FACE)), next);
+        }
+    }
+}
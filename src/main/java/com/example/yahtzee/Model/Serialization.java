@@ -3,102 +3,670 @@ package com.example.yahtzee.Model;
 import android.content.Context;
 
 import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.zip.CRC32;
 
+/**
+ * Saves and loads games in internal storage.
+ * <p>
+ * A game is saved in a versioned binary file ({@value #SAVE_EXTENSION}). The file is a 16-byte header (magic,
+ * version, payload length and CRC-32 of the payload) and a payload that holds the whole engine: the two seats,
+ * the scorecard, the round and turn order, the phase, the dice on the table and the dice generator's seed and
+ * draw count. A game saved in the middle of a turn is therefore resumed exactly where it stopped. The file is
+ * read with a single read into a buffer and decoded without any text parsing; a truncated or corrupted file is
+ * rejected with an {@link IllegalArgumentException} rather than loaded partially.
+ * </p>
+ * <p>
+ * Text saves ({@value #LEGACY_EXTENSION}) written by earlier versions, which only hold the round and the
+ * scorecard, can still be loaded with {@link #loadGame(Context, GameState, String)}.
+ * </p>
+ * <p>
+ * Every save also updates an index of save metadata ({@value #INDEX_FILE_NAME}: name, time, round, both totals
+ * and size, most recent first), so {@link #listSaves(Context)} lists any number of saves with one small read
+ * instead of opening each of them. The index is rebuilt from the saves if it is missing or damaged.
+ * </p>
+ */
 public class Serialization {
 
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Extension of binary save files.
+     */
+    public static final String SAVE_EXTENSION = ".yzs";
+
+    /**
+     * Extension of text save files written by earlier versions.
+     */
+    public static final String LEGACY_EXTENSION = ".txt";
+
+    /**
+     * Magic number at the start of a save file ("YZSV").
+     */
+    static final int MAGIC = 0x595A5356;
+
+    /**
+     * Version of the save layout.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of the header: magic, version, reserved flags, payload length and checksum.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Seat flags telling which seats are played by the computer.
+     */
+    private static final int COMPUTER_SEAT = 1;
+
+    /**
+     * Name of the index of save metadata, kept next to the saves.
+     */
+    public static final String INDEX_FILE_NAME = "saves.idx";
+
     /**
-     * Save the current game state to internal storage in the specified file.
+     * Magic number at the start of the save index ("YZSI").
+     */
+    static final int INDEX_MAGIC = 0x595A5349;
+
+    /**
+     * Version of the save index layout.
+     */
+    static final int INDEX_VERSION = 1;
+
+    /**
+     * Flag of an index entry for a text save.
+     */
+    private static final int LEGACY_SAVE = 1;
+
+    /**
+     * Lock guarding the save index, which may be updated from a background thread.
+     */
+    private static final Object INDEX_LOCK = new Object();
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Save a game to internal storage in the specified file.
      *
      * @param context  The Android context for file operations.
+     * @param engine   The engine of the game to save, in any phase.
      * @param fileName The name of the file to save the game data to (without extension).
+     * @throws IOException If the file cannot be written.
+     */
+    public void saveGame(Context context, GameEngine engine, String fileName) throws IOException {
+        byte[] data = encode(engine);
+        try (FileOutputStream fos = context.openFileOutput(fileName + SAVE_EXTENSION, Context.MODE_PRIVATE)) {
+            fos.write(data);
+        }
+        ScoreCardState state = engine.getScoreCard().getState();
+        updateIndex(context, new SaveInfo(fileName, false, System.currentTimeMillis(), engine.getRoundNumber(),
+                state.getTotalScore(0), state.getTotalScore(1), data.length));
+        Logger.log("Game saved successfully!");
+    }
+
+    /**
+     * Load a game from internal storage from the specified binary file.
+     *
+     * @param context  The Android context for file operations.
+     * @param fileName The name of the file to load the game data from (without extension).
+     * @return An engine in the state the game was saved in.
+     * @throws IOException              If the file cannot be read; if it no longer exists, e.g. deleted outside the
+     *                                  app, its entry is also dropped from the save index.
+     * @throws IllegalArgumentException If the file is not a valid save.
+     */
+    public GameEngine loadGame(Context context, String fileName) throws IOException {
+        GameEngine engine;
+        try {
+            engine = decode(readFile(new File(context.getFilesDir(), fileName + SAVE_EXTENSION)));
+        } catch (FileNotFoundException e) {
+            removeFromIndex(context, fileName + SAVE_EXTENSION);
+            throw e;
+        }
+        Logger.log("Game loaded successfully!");
+        return engine;
+    }
+
+    /**
+     * Lists the saved games from the save index, most recent first, without opening the save files.
+     * The index is rebuilt from the save files if it is missing or damaged. An entry whose save file no longer
+     * exists stays listed until loading it fails.
+     *
+     * @param context The Android context for file operations.
+     * @return The metadata of every save.
      */
-    public void saveGame(Context context, String fileName) {
-        try (FileOutputStream fos = context.openFileOutput(fileName + ".txt", Context.MODE_PRIVATE)) {
-            // Prepare game data for saving
-            ScoreCard scoreCard = new ScoreCard();
-            List<String> categoryList = scoreCard.getAllCategories();
-            Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scores = scoreCard.getScoreBoard();
-
-            StringBuilder data = new StringBuilder();
-            data.append("Round: ").append(Round.getRoundNumber()).append("\n\n");
-            data.append("Scorecard:\n");
-
-            for (int i = 0; i < 12; ++i) {
-                String category = categoryList.get(i);
-                Map.Entry<String, Map.Entry<Integer, Integer>> scoreData = scores.get(category);
-
-                if (scoreData != null && scoreData.getKey() != null && !scoreData.getKey().isEmpty()) {
-                    int points = scoreData.getValue().getKey();
-                    String winner = scoreData.getKey();
-                    int roundScored = scoreData.getValue().getValue();
-                    data.append(points).append(" ").append(winner).append(" ").append(roundScored).append("\n");
-                } else {
-                    data.append("0\n");
+    public List<SaveInfo> listSaves(Context context) {
+        synchronized (INDEX_LOCK) {
+            File file = new File(context.getFilesDir(), INDEX_FILE_NAME);
+            List<SaveInfo> indexed = null;
+            try {
+                if (file.exists()) {
+                    indexed = decodeIndex(readFile(file));
                 }
+            } catch (IOException | IllegalArgumentException e) {
+                Logger.log("Save index is damaged, rebuilding it.");
+            }
+            if (indexed != null) {
+                return indexed;
+            }
+            List<SaveInfo> saves = scanSaves(context);
+            saves.sort(SaveInfo.NEWEST_FIRST);
+            try {
+                writeIndex(file, saves);
+            } catch (IOException e) {
+                Logger.log("Failed to write the save index.");
+            }
+            return saves;
+        }
+    }
+
+    /**
+     * Lists a range of the saved games, most recent first.
+     *
+     * @param context The Android context for file operations.
+     * @param offset  The number of saves to skip, e.g. the page index times the page size.
+     * @param limit   The most saves to return; ask for one more than a page to know whether a next page exists.
+     * @return The metadata of the saves of the range, empty past the last save.
+     */
+    public List<SaveInfo> listSaves(Context context, int offset, int limit) {
+        List<SaveInfo> saves = listSaves(context);
+        int from = Math.min(offset, saves.size());
+        return new ArrayList<>(saves.subList(from, Math.min(from + limit, saves.size())));
+    }
+
+    /**
+     * Encodes a game into the binary save format.
+     *
+     * @param engine The engine of the game.
+     * @return The content of a save file.
+     */
+    public static byte[] encode(GameEngine engine) {
+        ScoreCard scoreCard = engine.getScoreCard();
+        ScoreCardState state = scoreCard.getState();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            // Header, with the length and checksum filled in once the payload is written.
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(0);
+            out.writeInt(0);
+            out.writeInt(0);
+
+            // Seats: name and whether the computer plays it.
+            int firstSeat = scoreCard.seatOf(engine.getFirstPlayer().getName());
+            Player[] seatPlayers = new Player[2];
+            seatPlayers[firstSeat] = engine.getFirstPlayer();
+            seatPlayers[1 - firstSeat] = engine.getSecondPlayer();
+            for (int seat = 0; seat < 2; seat++) {
+                out.writeUTF(scoreCard.getPlayerName(seat));
+                out.writeByte(seatPlayers[seat] instanceof Computer ? COMPUTER_SEAT : 0);
+            }
+
+            // Scorecard: filled and owner masks, then the points and round of each filled category.
+            out.writeShort(state.getFilledMask());
+            out.writeShort(state.getOwnerMask());
+            for (int mask = state.getFilledMask(); mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                out.writeByte(state.getPoints(category));
+                out.writeByte(state.getRound(category));
+            }
+
+            // Round, turn order and turn.
+            out.writeShort(engine.getRoundNumber());
+            out.writeByte(firstSeat);
+            out.writeByte(engine.getCurrentPlayer() == engine.getFirstPlayer() ? 0 : 1);
+            out.writeByte(engine.getPhase().ordinal());
+            out.writeByte(engine.getRollCount());
+            List<Integer> kept = engine.getKeptDice();
+            List<Integer> rolled = engine.getRolledDice();
+            out.writeByte(kept.size());
+            out.writeByte(rolled.size());
+            for (int i = 0; i < GameEngine.DICE_COUNT; i++) {
+                int index = i - kept.size();
+                out.writeByte(i < kept.size() ? kept.get(i) : index < rolled.size() ? rolled.get(index) : 0);
             }
 
-            // Write data to the file
-            fos.write(data.toString().getBytes());
-            Logger.log("Game saved successfully!");
+            // Dice generator.
+            out.writeLong(engine.getDice().getSeed());
+            out.writeLong(engine.getDice().getDrawCount());
         } catch (IOException e) {
-            e.printStackTrace();
-            Logger.log("Failed to save game.");
+            // A ByteArrayOutputStream does not throw.
+            throw new UncheckedIOException(e);
         }
+
+        byte[] data = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        ByteBuffer header = ByteBuffer.wrap(data);
+        header.putInt(8, data.length - HEADER_SIZE);
+        header.putInt(12, (int) crc.getValue());
+        return data;
     }
 
     /**
-     * Load the game state from internal storage from the specified file.
+     * Decodes a game from the binary save format.
+     *
+     * @param buffer A buffer holding a save file between its position and its limit.
+     * @return An engine in the state the game was saved in.
+     * @throws IllegalArgumentException If the buffer does not hold a valid save.
+     */
+    public static GameEngine decode(ByteBuffer buffer) {
+        ByteBuffer in = buffer.slice();
+        if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a save file.");
+        }
+        int version = in.getShort() & 0xFFFF;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported save version " + version + ".");
+        }
+        in.getShort();
+        int length = in.getInt();
+        int checksum = in.getInt();
+        if (length != in.remaining()) {
+            throw new IllegalArgumentException("Save file is truncated.");
+        }
+        CRC32 crc = new CRC32();
+        if (in.hasArray()) {
+            crc.update(in.array(), in.arrayOffset() + in.position(), length);
+        } else {
+            byte[] payload = new byte[length];
+            in.duplicate().get(payload);
+            crc.update(payload, 0, length);
+        }
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalArgumentException("Save file is corrupted: checksum mismatch.");
+        }
+
+        try {
+            String[] names = new String[2];
+            boolean[] computers = new boolean[2];
+            for (int seat = 0; seat < 2; seat++) {
+                names[seat] = readName(in);
+                computers[seat] = (in.get() & COMPUTER_SEAT) != 0;
+            }
+
+            ScoreCard scoreCard = new ScoreCard(names[0], names[1]);
+            ScoreCardState state = new ScoreCardState();
+            int filledMask = in.getShort() & ScoreCardState.ALL_CATEGORIES;
+            int ownerMask = in.getShort();
+            for (int mask = filledMask; mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                state.fill(category, (ownerMask >>> category) & 1, in.get(), in.get() & 0xFF);
+            }
+            scoreCard.setState(state);
+
+            GameState game = new GameState(scoreCard);
+            game.setRoundNumber(in.getShort() & 0xFFFF);
+            int firstSeat = in.get() & 1;
+            boolean secondToPlay = in.get() != 0;
+            GameEngine.Phase[] phases = GameEngine.Phase.values();
+            int phase = in.get();
+            int rollCount = in.get();
+            int keptCount = in.get();
+            int rolledCount = in.get();
+            int[] tableDice = new int[GameEngine.DICE_COUNT];
+            for (int i = 0; i < GameEngine.DICE_COUNT; i++) {
+                tableDice[i] = in.get();
+                if (i < keptCount + rolledCount && (tableDice[i] < 1 || tableDice[i] > 6)) {
+                    throw new IllegalArgumentException("Save file has an invalid die " + tableDice[i] + ".");
+                }
+            }
+            if (phase < 0 || phase >= phases.length || rollCount < 0 || rollCount > GameEngine.MAX_ROLLS
+                    || keptCount < 0 || rolledCount < 0 || keptCount + rolledCount > GameEngine.DICE_COUNT) {
+                throw new IllegalArgumentException("Save file has an invalid turn.");
+            }
+            Dice dice = new Dice(in.getLong(), in.getLong());
+
+            Player first = newPlayer(names[firstSeat], computers[firstSeat]);
+            Player second = newPlayer(names[1 - firstSeat], computers[1 - firstSeat]);
+            return new GameEngine(game, first, second, secondToPlay ? second : first, phases[phase],
+                    rollCount, tableDice, keptCount, rolledCount, dice);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Save file is truncated.", e);
+        }
+    }
+
+    /**
+     * Load the game state from a text save file written by earlier versions of the app.
      *
      * @param context  The Android context for file operations.
+     * @param game     The game to load the saved state into; left unchanged if the file is not a valid save.
      * @param fileName The name of the file to load the game data from (without extension).
+     * @throws IOException              If the file cannot be read; if it no longer exists, its entry is also
+     *                                  dropped from the save index.
+     * @throws IllegalArgumentException If the file is not a valid text save.
      */
-    public void loadGame(Context context, String fileName) {
-        try (FileInputStream fis = context.openFileInput(fileName + ".txt");
+    public void loadGame(Context context, GameState game, String fileName) throws IOException {
+        try (FileInputStream fis = context.openFileInput(fileName + LEGACY_EXTENSION);
              BufferedReader reader = new BufferedReader(new InputStreamReader(fis))) {
+            decodeLegacy(reader, game);
+        } catch (FileNotFoundException e) {
+            removeFromIndex(context, fileName + LEGACY_EXTENSION);
+            throw e;
+        }
+        Logger.log("Game loaded successfully!");
+    }
+
+    /**
+     * Decodes a text save: a "Round: N" line, an empty line, a "Scorecard:" line, then one line per category
+     * holding either "0" or the points, the player and the round it was scored in.
+     *
+     * @param reader The content of the save.
+     * @param game   The game to load the saved state into; left unchanged if the save is not valid.
+     * @throws IOException              If the content cannot be read.
+     * @throws IllegalArgumentException If the content is not a valid text save.
+     */
+    static void decodeLegacy(BufferedReader reader, GameState game) throws IOException {
+        List<String> categoryList = ScoreCard.getAllCategories();
+        Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scores = new HashMap<>();
+
+        // Read the round number
+        String[] roundParts = splitLine(reader.readLine(), 2);
+        if (!"Round:".equals(roundParts[0])) {
+            throw new IllegalArgumentException("Save file is missing the 'Round:' header.");
+        }
+        int roundNumber = parseNumber(roundParts[1]);
 
-            ScoreCard scoreCard = new ScoreCard();
-            List<String> categoryList = scoreCard.getAllCategories();
-            Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scores = new HashMap<>();
+        reader.readLine(); // Skip the empty line
+        if (!"Scorecard:".equals(reader.readLine())) {
+            throw new IllegalArgumentException("Save file is missing the 'Scorecard:' header.");
+        }
 
-            // Read the round number
+        // Read the scores for each category
+        for (int i = 0; i < categoryList.size(); ++i) {
             String line = reader.readLine();
-            if (line != null && line.startsWith("Round:")) {
-                String[] parts = line.split(" ");
-                int roundNumber = Integer.parseInt(parts[1]);
-                Round.setRoundNumber(roundNumber);
+            if ("0".equals(line)) {
+                scores.put(categoryList.get(i), Map.entry("", Map.entry(0, 0)));
             } else {
-                Logger.log("Invalid save file format: Missing 'Round:' header.");
-                return;
-            }
-
-            reader.readLine(); // Skip the empty line
-            line = reader.readLine();
-            if (!"Scorecard:".equals(line)) {
-                Logger.log("Invalid save file format: Missing 'Scorecard:' header.");
-                return;
-            }
-
-            // Read the scores for each category
-            for (int i = 0; i < 12; ++i) {
-                line = reader.readLine();
-                if ("0".equals(line)) {
-                    scores.put(categoryList.get(i), Map.entry("", Map.entry(0, 0)));
-                } else {
-                    String[] scoreParts = line.split(" ");
-                    int points = Integer.parseInt(scoreParts[0]);
-                    String winner = scoreParts[1];
-                    int roundScored = Integer.parseInt(scoreParts[2]);
-                    scores.put(categoryList.get(i), Map.entry(winner, Map.entry(points, roundScored)));
-                }
+                String[] scoreParts = splitLine(line, 3);
+                scores.put(categoryList.get(i), Map.entry(scoreParts[1],
+                        Map.entry(parseNumber(scoreParts[0]), parseNumber(scoreParts[2]))));
             }
+        }
 
-            // Set the loaded scores into the ScoreCard
+        // Set the loaded scores into the ScoreCard, restoring it if a score does not fit
+        ScoreCard scoreCard = game.getScoreCard();
+        ScoreCardState previous = scoreCard.getState();
+        try {
             scoreCard.setScoreBoard(scores);
-            Logger.log("Game loaded successfully!");
-        } catch (IOException | NumberFormatException e) {
-            e.printStackTrace();
-            Logger.log("Failed to load game.");
+        } catch (IllegalArgumentException e) {
+            scoreCard.setState(previous);
+            throw e;
+        }
+        game.setRoundNumber(roundNumber);
+    }
+
+    /**
+     * Encodes the save index: a header (magic, version, entry count and CRC-32 of the entries), then for every
+     * save its name, flags, timestamp, round, both totals and size.
+     *
+     * @param saves The metadata of the saves, in the order they are listed.
+     * @return The content of the index file.
+     */
+    static byte[] encodeIndex(List<SaveInfo> saves) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + saves.size() * 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeShort(INDEX_VERSION);
+            out.writeShort(0);
+            out.writeInt(saves.size());
+            out.writeInt(0);
+            for (SaveInfo save : saves) {
+                out.writeUTF(save.getName());
+                out.writeByte(save.isLegacy() ? LEGACY_SAVE : 0);
+                out.writeLong(save.getTimestamp());
+                out.writeShort(save.getRound());
+                out.writeShort(save.getFirstTotal());
+                out.writeShort(save.getSecondTotal());
+                out.writeInt(save.getSize());
+            }
+        } catch (IOException e) {
+            // A ByteArrayOutputStream does not throw.
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] data = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        ByteBuffer.wrap(data).putInt(12, (int) crc.getValue());
+        return data;
+    }
+
+    /**
+     * Decodes the save index.
+     *
+     * @param buffer A buffer holding the index file between its position and its limit.
+     * @return The metadata of the saves, in the order they were written.
+     * @throws IllegalArgumentException If the buffer does not hold a valid index.
+     */
+    static List<SaveInfo> decodeIndex(ByteBuffer buffer) {
+        ByteBuffer in = buffer.slice();
+        if (in.remaining() < HEADER_SIZE || in.getInt() != INDEX_MAGIC || (in.getShort() & 0xFFFF) != INDEX_VERSION) {
+            throw new IllegalArgumentException("Not a save index.");
+        }
+        in.getShort();
+        int count = in.getInt();
+        int checksum = in.getInt();
+        CRC32 crc = new CRC32();
+        crc.update(in.array(), in.arrayOffset() + in.position(), in.remaining());
+        if ((int) crc.getValue() != checksum || count < 0) {
+            throw new IllegalArgumentException("Save index is corrupted: checksum mismatch.");
+        }
+        try {
+            List<SaveInfo> saves = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = readName(in);
+                boolean legacy = (in.get() & LEGACY_SAVE) != 0;
+                long timestamp = in.getLong();
+                int round = in.getShort() & 0xFFFF;
+                int firstTotal = in.getShort();
+                int secondTotal = in.getShort();
+                saves.add(new SaveInfo(name, legacy, timestamp, round, firstTotal, secondTotal, in.getInt()));
+            }
+            return saves;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Save index is truncated.", e);
+        }
+    }
+
+    /**
+     * Adds or replaces the entry of a save in the index, keeping the index sorted most recent first.
+     *
+     * @param context The Android context for file operations.
+     * @param save    The metadata of the save just written.
+     */
+    private void updateIndex(Context context, SaveInfo save) {
+        rewriteIndex(context, save.getFileName(), save);
+    }
+
+    /**
+     * Drops the entry of a save from the index, e.g. when its file turns out to be missing.
+     *
+     * @param context  The Android context for file operations.
+     * @param fileName The name of the save file, with extension.
+     */
+    private void removeFromIndex(Context context, String fileName) {
+        Logger.log("Dropping the index entry of missing save %s.", fileName);
+        rewriteIndex(context, fileName, null);
+    }
+
+    /**
+     * Replaces the entry of a save file in the index, keeping the index sorted most recent first.
+     *
+     * @param context  The Android context for file operations.
+     * @param fileName The name of the save file, with extension.
+     * @param save     The new entry, or null to drop the entry.
+     */
+    private void rewriteIndex(Context context, String fileName, SaveInfo save) {
+        synchronized (INDEX_LOCK) {
+            List<SaveInfo> saves = new ArrayList<>(listSaves(context));
+            for (Iterator<SaveInfo> it = saves.iterator(); it.hasNext(); ) {
+                if (it.next().getFileName().equals(fileName)) {
+                    it.remove();
+                }
+            }
+            if (save != null) {
+                saves.add(save);
+            }
+            try {
+                writeIndex(new File(context.getFilesDir(), INDEX_FILE_NAME), saves);
+            } catch (IOException e) {
+                // The index is only a cache of the saves; it is rebuilt when it cannot be read.
+                new File(context.getFilesDir(), INDEX_FILE_NAME).delete();
+                Logger.log("Failed to update the save index.");
+            }
+        }
+    }
+
+    /**
+     * Builds the metadata of every save by opening the save files, when there is no usable index.
+     *
+     * @param context The Android context for file operations.
+     * @return The metadata of the readable saves.
+     */
+    private List<SaveInfo> scanSaves(Context context) {
+        List<SaveInfo> saves = new ArrayList<>();
+        File[] files = context.getFilesDir().listFiles();
+        if (files == null) {
+            return saves;
+        }
+        for (File file : files) {
+            String fileName = file.getName();
+            if (fileName.endsWith(SAVE_EXTENSION)) {
+                try {
+                    GameEngine engine = decode(readFile(file));
+                    ScoreCardState state = engine.getScoreCard().getState();
+                    saves.add(new SaveInfo(fileName.substring(0, fileName.length() - SAVE_EXTENSION.length()), false,
+                            file.lastModified(), engine.getRoundNumber(), state.getTotalScore(0), state.getTotalScore(1),
+                            (int) file.length()));
+                } catch (IOException | IllegalArgumentException e) {
+                    Logger.log("Skipping unreadable save %s.", fileName);
+                }
+            } else if (fileName.endsWith(LEGACY_EXTENSION)) {
+                String name = fileName.substring(0, fileName.length() - LEGACY_EXTENSION.length());
+                try {
+                    GameState game = new GameState();
+                    loadGame(context, game, name);
+                    ScoreCardState state = game.getScoreCard().getState();
+                    saves.add(new SaveInfo(name, true, file.lastModified(), game.getRoundNumber(),
+                            state.getTotalScore(0), state.getTotalScore(1), (int) file.length()));
+                } catch (IOException | IllegalArgumentException e) {
+                    Logger.log("Skipping unreadable save %s.", fileName);
+                }
+            }
+        }
+        return saves;
+    }
+
+    /**
+     * Writes the save index sorted most recent first, replacing the previous index atomically.
+     *
+     * @param file  The index file.
+     * @param saves The metadata of the saves.
+     * @throws IOException If the index cannot be written.
+     */
+    private static void writeIndex(File file, List<SaveInfo> saves) throws IOException {
+        List<SaveInfo> sorted = new ArrayList<>(saves);
+        sorted.sort(SaveInfo.NEWEST_FIRST);
+        File temporary = new File(file.getPath() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(temporary)) {
+            // Not synced: the index is only a cache of the saves, and one torn by a crash fails its checksum
+            // and is rebuilt from the save files.
+            fos.write(encodeIndex(sorted));
+        }
+        if (!temporary.renameTo(file)) {
+            throw new IOException("Cannot replace " + file + ".");
+        }
+    }
+
+    /**
+     * Reads a whole file with a single read into a heap buffer.
+     *
+     * @param file The file.
+     * @return A buffer holding the content of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private static ByteBuffer readFile(File file) throws IOException {
+        try (FileInputStream fis = new FileInputStream(file)) {
+            FileChannel channel = fis.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read the whole file into the buffer.
+            }
+            buffer.flip();
+            return buffer;
         }
     }
+
+    /**
+     * Splits a line of a text save into its space-separated fields.
+     *
+     * @param line   The line, or null past the end of the file.
+     * @param fields The number of fields the line must have.
+     * @return The fields.
+     * @throws IllegalArgumentException If the line is missing or has another number of fields.
+     */
+    private static String[] splitLine(String line, int fields) {
+        if (line == null) {
+            throw new IllegalArgumentException("Save file is truncated.");
+        }
+        String[] parts = line.split(" ");
+        if (parts.length != fields) {
+            throw new IllegalArgumentException("Save file has a malformed line: " + line);
+        }
+        return parts;
+    }
+
+    /**
+     * Parses a non-negative number of a text save.
+     *
+     * @param text The text of the number.
+     * @return The number.
+     * @throws IllegalArgumentException If the text is not a non-negative number.
+     */
+    private static int parseNumber(String text) {
+        int number;
+        try {
+            number = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Save file has an invalid number: " + text, e);
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("Save file has an invalid number: " + text);
+        }
+        return number;
+    }
+
+    /**
+     * Reads a name written with {@link DataOutputStream#writeUTF(String)}.
+     *
+     * @param in The buffer, positioned at the name.
+     * @return The name.
+     */
+    private static String readName(ByteBuffer in) {
+        byte[] name = new byte[in.getShort() & 0xFFFF];
+        in.get(name);
+        // Player names are plain text, for which modified UTF-8 and UTF-8 agree.
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the player of a seat.
+     *
+     * @param name       The name of the player.
+     * @param isComputer True if the computer plays the seat; it plays with the built-in heuristics.
+     * @return The player.
+     */
+    private static Player newPlayer(String name, boolean isComputer) {
+        return isComputer ? new Computer(name, null) : new Human(name);
+    }
 }
@@ -0,0 +1,252 @@
+package com.example.yahtzee.Model;
+
+import java.util.Locale;
+
+/**
+ * Statistics of a batch of simulated games between two seats.
+ * <p>
+ * Totals are kept as histograms rather than lists, so a result has a fixed size however many games it covers,
+ * and results of batches played on different threads are combined with {@link #merge(SimulationResult)}.
+ * </p>
+ */
+public class SimulationResult {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Highest total a seat can reach: the best score of every category.
+     */
+    public static final int MAX_SCORE = 310;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // Number of games played.
+    private long games;
+
+    // Number of games won by each seat.
+    private final long[] wins = new long[2];
+
+    // Number of tied games.
+    private long ties;
+
+    // Number of games ending with each total, per seat.
+    private final long[][] scoreCounts = new long[2][MAX_SCORE + 1];
+
+    // Number of games in which each seat filled each category.
+    private final long[][] fillCounts = new long[2][ScoreTable.CATEGORY_COUNT];
+
+    // Points scored in each category, per seat, over all games.
+    private final long[][] categoryPoints = new long[2][ScoreTable.CATEGORY_COUNT];
+
+    // Number of rounds played over all games.
+    private long rounds;
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the number of games recorded.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Retrieves the number of games won by a seat.
+     *
+     * @param seat 0 for the first seat, 1 for the second seat.
+     * @return The number of wins.
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Retrieves the number of tied games.
+     *
+     * @return The number of ties.
+     */
+    public long getTies() {
+        return ties;
+    }
+
+    /**
+     * Computes the mean total of a seat.
+     *
+     * @param seat 0 for the first seat, 1 for the second seat.
+     * @return The mean total, or 0 if no game was recorded.
+     */
+    public double getMeanScore(int seat) {
+        if (games == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            sum += score * scoreCounts[seat][score];
+        }
+        return (double) sum / games;
+    }
+
+    /**
+     * Computes the standard deviation of the totals of a seat.
+     *
+     * @param seat 0 for the first seat, 1 for the second seat.
+     * @return The standard deviation, or 0 if no game was recorded.
+     */
+    public double getScoreDeviation(int seat) {
+        if (games == 0) {
+            return 0;
+        }
+        double mean = getMeanScore(seat);
+        double sum = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            sum += (score - mean) * (score - mean) * scoreCounts[seat][score];
+        }
+        return Math.sqrt(sum / games);
+    }
+
+    /**
+     * Finds a percentile of the totals of a seat.
+     *
+     * @param seat       0 for the first seat, 1 for the second seat.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The smallest total such that at least the given share of games ended at or below it, or 0 if no game
+     *         was recorded.
+     */
+    public int getScorePercentile(int seat, double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(games * percentile / 100.0);
+        long seen = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            seen += scoreCounts[seat][score];
+            if (seen >= target && seen > 0) {
+                return score;
+            }
+        }
+        return MAX_SCORE;
+    }
+
+    /**
+     * Computes how often a seat filled a category.
+     *
+     * @param seat     0 for the first seat, 1 for the second seat.
+     * @param category The category.
+     * @return The share of games, from 0 to 1, in which the seat filled the category.
+     */
+    public double getFillRate(int seat, Category category) {
+        return games == 0 ? 0 : (double) fillCounts[seat][category.ordinal()] / games;
+    }
+
+    /**
+     * Computes the mean points a seat scored in a category, over the games in which it filled it.
+     *
+     * @param seat     0 for the first seat, 1 for the second seat.
+     * @param category The category.
+     * @return The mean points, or 0 if the seat never filled the category.
+     */
+    public double getMeanCategoryPoints(int seat, Category category) {
+        long filled = fillCounts[seat][category.ordinal()];
+        return filled == 0 ? 0 : (double) categoryPoints[seat][category.ordinal()] / filled;
+    }
+
+    /**
+     * Computes the mean number of rounds of a game.
+     *
+     * @return The mean number of rounds, or 0 if no game was recorded.
+     */
+    public double getMeanRounds() {
+        return games == 0 ? 0 : (double) rounds / games;
+    }
+
+    // *******************************
+    // Mutators
+    // *******************************
+
+    /**
+     * Records a finished game.
+     *
+     * @param state       The final scorecard state, with seat 0 and seat 1 as in this result.
+     * @param roundNumber The round in which the game ended.
+     */
+    public void record(ScoreCardState state, int roundNumber) {
+        games++;
+        rounds += roundNumber;
+        int firstScore = state.getTotalScore(0);
+        int secondScore = state.getTotalScore(1);
+        scoreCounts[0][firstScore]++;
+        scoreCounts[1][secondScore]++;
+        if (firstScore == secondScore) {
+            ties++;
+        } else {
+            wins[firstScore > secondScore ? 0 : 1]++;
+        }
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            int seat = state.getOwner(category);
+            if (seat != ScoreCardState.NO_OWNER) {
+                fillCounts[seat][category]++;
+                categoryPoints[seat][category] += state.getPoints(category);
+            }
+        }
+    }
+
+    /**
+     * Adds the games of another result to this one.
+     *
+     * @param other The result to add.
+     */
+    public void merge(SimulationResult other) {
+        games += other.games;
+        ties += other.ties;
+        rounds += other.rounds;
+        for (int seat = 0; seat < 2; seat++) {
+            wins[seat] += other.wins[seat];
+            for (int score = 0; score <= MAX_SCORE; score++) {
+                scoreCounts[seat][score] += other.scoreCounts[seat][score];
+            }
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                fillCounts[seat][category] += other.fillCounts[seat][category];
+                categoryPoints[seat][category] += other.categoryPoints[seat][category];
+            }
+        }
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Formats the result as a report.
+     *
+     * @param firstName  The label of the first seat.
+     * @param secondName The label of the second seat.
+     * @return A multi-line report of win rates, score distributions and category fill frequencies.
+     */
+    public String toReport(String firstName, String secondName) {
+        String[] names = { firstName, secondName };
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Games: %d, mean rounds: %.2f%n", games, getMeanRounds()));
+        for (int seat = 0; seat < 2; seat++) {
+            report.append(String.format(Locale.ROOT,
+                    "%-12s wins %6.2f%%  mean %6.2f  sd %5.2f  p5 %3d  p50 %3d  p95 %3d%n",
+                    names[seat], games == 0 ? 0 : 100.0 * wins[seat] / games, getMeanScore(seat), getScoreDeviation(seat),
+                    getScorePercentile(seat, 5), getScorePercentile(seat, 50), getScorePercentile(seat, 95)));
+        }
+        report.append(String.format(Locale.ROOT, "%-12s       %6.2f%%%n", "Ties", games == 0 ? 0 : 100.0 * ties / games));
+        report.append(String.format(Locale.ROOT, "%n%-16s %20s %20s%n", "Category", firstName + " fill / pts", secondName + " fill / pts"));
+        for (Category category : Category.values()) {
+            report.append(String.format(Locale.ROOT, "%-16s %12.1f%% %6.2f %12.1f%% %6.2f%n", category.getDisplayName(),
+                    100 * getFillRate(0, category), getMeanCategoryPoints(0, category),
+                    100 * getFillRate(1, category), getMeanCategoryPoints(1, category)));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.yahtzee.Model;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Command-line simulator that plays complete games between two computer players off-device.
+ * <p>
+ * Every game is played by a {@link GameEngine}, so it follows exactly the rules of the app. The games are split
+ * into one batch per worker thread; each worker owns its players and strategies and records into its own
+ * {@link SimulationResult}, and the results are merged at the end, so the workers share nothing while playing.
+ * The seats alternate who starts the first round, and logging is turned off for the run.
+ * </p>
+ * <p>
+ * Game i of a run rolls dice seeded with {@link Dice#seedFor(long, long)} of the run's seed and i, so every game
+ * is reproducible on its own: {@link #newGame(long, long, Computer, Computer)} sets it up again.
+ * </p>
+ * <p>
+ * Usage: {@code Simulator [--games=N] [--threads=T] [--seed=L] [--first=S] [--second=S] [--table=FILE]}, where a strategy
+ * S is {@code heuristic} (the built-in Computer play), {@code expected} ({@link ExpectedValueStrategy}),
+ * {@code optimal} ({@link OptimalStrategy}, which needs the table file written by {@link StrategyTableGenerator}) or
+ * {@code expectimax} ({@link ExpectimaxStrategy} with its default time budget).
+ * </p>
+ */
+public final class Simulator {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Names given to the two seats on the scorecard.
+     */
+    private static final String FIRST_SEAT = "First";
+    private static final String SECOND_SEAT = "Second";
+
+    // Command line printed when the options are not valid.
+    private static final String USAGE = "Usage: Simulator [--games=N] [--threads=T] [--seed=L] [--first=S] [--second=S] [--table=FILE]\n"
+            + "  where N and T are at least 1 and S is heuristic, expected, optimal or expectimax.";
+
+    private Simulator() {
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Runs a simulation from command-line options and prints its throughput and report.
+     *
+     * The options, and the strategy table if a seat plays {@code optimal}, are checked before any game starts; if
+     * they are not valid, the problem and the usage are printed and the process exits with status 1.
+     *
+     * @param args The options described in the class documentation.
+     * @throws InterruptedException If the run is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long games = 100_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        String first = "heuristic";
+        String second = "heuristic";
+        String table = StrategyTableGenerator.DEFAULT_FILE_NAME;
+        Supplier<ComputerStrategy> firstStrategy;
+        Supplier<ComputerStrategy> secondStrategy;
+        try {
+            for (String arg : args) {
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (arg.startsWith("--games=")) {
+                    games = Long.parseLong(value);
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(value);
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(value);
+                } else if (arg.startsWith("--first=")) {
+                    first = value;
+                } else if (arg.startsWith("--second=")) {
+                    second = value;
+                } else if (arg.startsWith("--table=")) {
+                    table = value;
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (games < 1) {
+                throw new IllegalArgumentException("Games must be at least 1.");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("Threads must be at least 1.");
+            }
+            StrategyTable strategyTable = new StrategyTable(new File(table));
+            firstStrategy = strategy(first, strategyTable);
+            secondStrategy = strategy(second, strategyTable);
+        } catch (IllegalArgumentException e) {
+            exitWithUsage(e.getMessage());
+            return;
+        } catch (UncheckedIOException e) {
+            exitWithUsage("Cannot read the strategy table: " + e.getCause().getMessage());
+            return;
+        }
+
+        long start = System.nanoTime();
+        SimulationResult result = run(games, threads, seed, firstStrategy, secondStrategy);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "Played %d games with seed %d on %d thread%s in %.2f s: %.0f games/sec.%n%n",
+                result.getGames(), seed, threads, threads == 1 ? "" : "s", seconds, result.getGames() / seconds);
+        System.out.print(result.toReport(first, second));
+        DecisionCache cache = DecisionEngine.getCache();
+        System.out.printf(Locale.ROOT, "%nDecision cache: %d hits, %d misses.%n", cache.getHits(), cache.getMisses());
+    }
+
+    /**
+     * Plays games between two strategies.
+     *
+     * @param games          The number of games to play.
+     * @param threads        The number of worker threads.
+     * @param seed           The seed of the run; the same seed and strategies give the same result.
+     * @param firstStrategy  Creates the strategy of the first seat; called once per worker, may return null for
+     *                       the built-in heuristics.
+     * @param secondStrategy Creates the strategy of the second seat, in the same way.
+     * @return The statistics of all games, with the first strategy as seat 0.
+     * @throws InterruptedException If the run is interrupted.
+     */
+    public static SimulationResult run(long games, int threads, long seed, Supplier<ComputerStrategy> firstStrategy,
+                                       Supplier<ComputerStrategy> secondStrategy) throws InterruptedException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least 1.");
+        }
+        boolean wasLogging = Logger.isEnabled();
+        Logger.setEnabled(false);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SimulationResult>> batches = new ArrayList<>();
+            long offset = 0;
+            for (int worker = 0; worker < threads; worker++) {
+                long batchGames = games / threads + (worker < games % threads ? 1 : 0);
+                long batchOffset = offset;
+                batches.add(executor.submit(() -> playBatch(seed, batchOffset, batchGames, firstStrategy.get(), secondStrategy.get())));
+                offset += batchGames;
+            }
+            SimulationResult result = new SimulationResult();
+            for (Future<SimulationResult> batch : batches) {
+                result.merge(batch.get());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            Logger.setEnabled(wasLogging);
+        }
+    }
+
+    /**
+     * Plays a batch of games on the calling thread.
+     *
+     * @param seed           The seed of the run.
+     * @param firstGame      The index of the first game of the batch, deciding which seat starts each game.
+     * @param games          The number of games to play.
+     * @param firstStrategy  The strategy of the first seat, or null for the built-in heuristics.
+     * @param secondStrategy The strategy of the second seat, or null for the built-in heuristics.
+     * @return The statistics of the batch.
+     */
+    static SimulationResult playBatch(long seed, long firstGame, long games, ComputerStrategy firstStrategy, ComputerStrategy secondStrategy) {
+        SimulationResult result = new SimulationResult();
+        Computer first = new Computer(FIRST_SEAT, firstStrategy);
+        Computer second = new Computer(SECOND_SEAT, secondStrategy);
+        for (long game = firstGame; game < firstGame + games; game++) {
+            GameEngine engine = newGame(seed, game, first, second);
+            playGame(engine);
+            result.record(engine.getScoreCard().getState(), engine.getRoundNumber());
+        }
+        return result;
+    }
+
+    /**
+     * Sets up a game of a run, with the same turn order and dice as when the run played it.
+     *
+     * @param seed   The seed of the run.
+     * @param game   The index of the game in the run.
+     * @param first  The player of the first seat.
+     * @param second The player of the second seat.
+     * @return An engine at the start of the game.
+     */
+    public static GameEngine newGame(long seed, long game, Computer first, Computer second) {
+        GameState state = new GameState(new ScoreCard(first.getName(), second.getName()));
+        Dice dice = new Dice(Dice.seedFor(seed, game));
+        return game % 2 == 0 ? new GameEngine(state, first, second, dice) : new GameEngine(state, second, first, dice);
+    }
+
+    /**
+     * Plays a game between two computer players to the end.
+     *
+     * @param engine An engine whose players are both {@link Computer} players.
+     */
+    public static void playGame(GameEngine engine) {
+        while (!engine.isGameOver()) {
+            if (engine.getPhase() == GameEngine.Phase.ROUND_OVER) {
+                engine.startNextRound();
+            } else {
+                engine.playComputerTurn();
+            }
+        }
+    }
+
+    /**
+     * Prints why the options are not valid and the usage, then exits with status 1.
+     *
+     * @param problem The problem with the options.
+     */
+    private static void exitWithUsage(String problem) {
+        System.err.println(problem);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+
+    /**
+     * Creates the strategy factory for a strategy name.
+     *
+     * @param name  {@code heuristic}, {@code expected}, {@code optimal} or {@code expectimax}.
+     * @param table The strategy table used by {@code optimal}; mapped and checked here if it is used.
+     * @return A factory creating a new strategy for each worker. The tables {@code expectimax} shares are computed
+     *         here, so that they do not count in the time of the first game.
+     * @throws IllegalArgumentException If the name is not a strategy.
+     * @throws UncheckedIOException     If the strategy is {@code optimal} and the table cannot be read.
+     */
+    private static Supplier<ComputerStrategy> strategy(String name, StrategyTable table) {
+        switch (name) {
+            case "heuristic":
+                return () -> null;
+            case "expected":
+                return ExpectedValueStrategy::new;
+            case "optimal":
+                table.check();
+                return () -> new OptimalStrategy(table);
+            case "expectimax":
+                ExpectimaxStrategy.warmUp();
+                return ExpectimaxStrategy::new;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.yahtzee.Model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a strategy table file written by {@link StrategyTableGenerator}.
+ * <p>
+ * The table holds, for each of the 4096 sets of open categories, the expected margin of the player about to
+ * move over the rest of the game: the points that player still scores minus the points the opponent still scores,
+ * when both take turns on the shared scorecard, each playing every turn for the most expected points, and each
+ * category goes to whoever fills it first.
+ * The file is a 16-byte header (magic, version, category count, entry count) followed by one big-endian float
+ * per open-category mask, indexed by the mask.
+ * </p>
+ * <p>
+ * The file is mapped with {@link FileChannel#map} the first time a value is looked up, so opening a table
+ * costs nothing and the values never live on the Java heap. Lookups are absolute reads from the mapping,
+ * which makes a table safe to share between threads.
+ * </p>
+ */
+public final class StrategyTable implements Serializable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of open-category masks, one entry each.
+     */
+    public static final int MASK_COUNT = 1 << ScoreTable.CATEGORY_COUNT;
+
+    /**
+     * Magic number at the start of a table file ("YZST").
+     */
+    static final int MAGIC = 0x595A5354;
+
+    /**
+     * Version of the file layout.
+     */
+    static final int VERSION = 3;
+
+    /**
+     * Size of the header in bytes.
+     */
+    static final int HEADER_BYTES = 16;
+
+    /**
+     * Size of a whole table file in bytes.
+     */
+    static final int FILE_BYTES = HEADER_BYTES + MASK_COUNT * Float.BYTES;
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The table file.
+    private final File file;
+
+    // Read-only mapping of the file; created on the first lookup and again after deserialization.
+    private transient volatile ByteBuffer buffer;
+
+    // *******************************
+    // Constructor
+    // *******************************
+
+    /**
+     * Creates a table backed by a file. The file is not read until the first lookup.
+     *
+     * @param file The table file.
+     */
+    public StrategyTable(File file) {
+        this.file = file;
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the table file.
+     *
+     * @return The file backing the table.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Retrieves the expected margin of the player about to move over the rest of the game.
+     *
+     * @param openMask Bitmask of open categories, bit c for {@link Category#ordinal()} c.
+     * @return The mover's expected points minus the opponent's under the table's model of play; 0 when no category is
+     *         open.
+     * @throws UncheckedIOException If the table file cannot be mapped or is not a strategy table.
+     */
+    public float getValue(int openMask) {
+        return buffer().getFloat(HEADER_BYTES + openMask * Float.BYTES);
+    }
+
+    /**
+     * Retrieves the expected margin of the next mover after one more category is filled.
+     * The next mover is the opponent of the player filling the category.
+     *
+     * @param openMask Bitmask of open categories.
+     * @param category The category ordinal being filled.
+     * @return The opponent's expected margin over the remaining open categories.
+     */
+    public float getValueAfter(int openMask, int category) {
+        return getValue(openMask & ~(1 << category));
+    }
+
+    /**
+     * Maps the table file now, instead of at the first lookup, and checks its header.
+     *
+     * @throws UncheckedIOException If the table file cannot be mapped or is not a strategy table.
+     */
+    public void check() {
+        buffer();
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Maps the table file on first use and checks its header.
+     *
+     * @return The read-only mapping of the file.
+     */
+    private ByteBuffer buffer() {
+        ByteBuffer mapped = buffer;
+        if (mapped == null) {
+            synchronized (this) {
+                mapped = buffer;
+                if (mapped == null) {
+                    mapped = map(file);
+                    buffer = mapped;
+                }
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Maps a table file read-only and checks its header.
+     *
+     * @param file The table file.
+     * @return The mapping of the whole file.
+     */
+    private static ByteBuffer map(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() != FILE_BYTES) {
+                throw new IOException("Strategy table " + file + " has " + channel.size() + " bytes, expected " + FILE_BYTES + ".");
+            }
+            // The mapping stays valid after the channel is closed.
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_BYTES);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || mapped.getInt(8) != ScoreTable.CATEGORY_COUNT || mapped.getInt(12) != MASK_COUNT) {
+                throw new IOException("Strategy table " + file + " has an unsupported header.");
+            }
+            return mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.yahtzee.Model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Offline generator of the {@link StrategyTable}.
+ * <p>
+ * For every set of open categories it computes the expected margin of the player about to move: the points
+ * that player still scores minus the points the opponent still scores, when the two take turns on the shared
+ * scorecard and each plays every turn with the {@link ExpectedValueSolver}. A final hand is worth its score in
+ * the chosen category minus the margin of the opponent, who moves next with one category fewer. A hand that
+ * scores in no open category passes, leaving the same categories to the opponent, and is worth minus the value
+ * being computed. The value of a set of open categories thus depends on itself; since the value of a turn can
+ * only fall as that value rises, the fixed point is unique, and it is bracketed and found by regula falsi.
+ * </p>
+ * <p>
+ * A mask only depends on masks with one category fewer, so the masks are solved in layers by the number of open categories
+ * and the masks of a layer are solved in parallel. Run {@link #main(String[])} to write a table file.
+ * </p>
+ */
+public final class StrategyTableGenerator {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Default name of the generated file.
+     */
+    public static final String DEFAULT_FILE_NAME = "strategy_table.bin";
+
+    /**
+     * Largest accepted difference between the value of a mask and the value of a turn played from it.
+     */
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Upper bound on the fixed-point iterations for a single mask.
+     */
+    private static final int MAX_ITERATIONS = 100;
+
+    private StrategyTableGenerator() {
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Generates a strategy table and writes it to a file, printing the progress of each layer.
+     *
+     * @param args Optional path of the output file, defaulting to {@link #DEFAULT_FILE_NAME},
+     *             and optional parallelism, defaulting to the number of available processors.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        File file = new File(args.length > 0 ? args[0] : DEFAULT_FILE_NAME);
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        double[] values = generate(parallelism, (layer, masksSolved, elapsedNanos) ->
+                System.out.printf("Layer %2d/%d solved: %4d/%d masks, %d ms.%n",
+                        layer, ScoreTable.CATEGORY_COUNT, masksSolved, StrategyTable.MASK_COUNT - 1, elapsedNanos / 1_000_000));
+        write(file, values);
+        System.out.printf("Wrote %s in %d ms with parallelism %d; expected margin of the first player is %.4f.%n",
+                file, (System.nanoTime() - start) / 1_000_000, parallelism, values[StrategyTable.MASK_COUNT - 1]);
+    }
+
+    /**
+     * Computes the expected margin of the mover from every set of open categories on a single thread.
+     *
+     * @return The values indexed by open-category mask.
+     */
+    public static double[] generate() {
+        return generate(1, null);
+    }
+
+    /**
+     * Computes the expected margin of the mover from every set of open categories.
+     * <p>
+     * The masks are solved layer by layer, where layer n holds the masks with n open categories. A mask only
+     * depends on masks of the layer below, so the masks of a layer are solved in parallel on a
+     * {@link ForkJoinPool}, and the pool is joined before the next layer starts.
+     * </p>
+     *
+     * @param parallelism The number of worker threads; 1 solves every mask on the calling thread.
+     * @param listener    Notified after each layer, or null.
+     * @return The values indexed by open-category mask.
+     */
+    public static double[] generate(int parallelism, ProgressListener listener) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        double[] values = new double[StrategyTable.MASK_COUNT];
+        int[][] layers = layers();
+        long start = System.nanoTime();
+        int masksSolved = 0;
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        try {
+            for (int layer = 1; layer < layers.length; layer++) {
+                LayerTask task = new LayerTask(layers[layer], 0, layers[layer].length, values);
+                if (pool != null) {
+                    pool.invoke(task);
+                } else {
+                    task.compute();
+                }
+                masksSolved += layers[layer].length;
+                if (listener != null) {
+                    listener.onLayerSolved(layer, masksSolved, System.nanoTime() - start);
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Groups the open-category masks by the number of open categories.
+     *
+     * @return For each count of open categories from 0 to 12, the masks with that count in ascending order.
+     */
+    private static int[][] layers() {
+        int[][] layers = new int[ScoreTable.CATEGORY_COUNT + 1][];
+        int[] sizes = new int[layers.length];
+        for (int mask = 0; mask < StrategyTable.MASK_COUNT; mask++) {
+            sizes[Integer.bitCount(mask)]++;
+        }
+        for (int layer = 0; layer < layers.length; layer++) {
+            layers[layer] = new int[sizes[layer]];
+            sizes[layer] = 0;
+        }
+        for (int mask = 0; mask < StrategyTable.MASK_COUNT; mask++) {
+            int layer = Integer.bitCount(mask);
+            layers[layer][sizes[layer]++] = mask;
+        }
+        return layers;
+    }
+
+    /**
+     * Writes values to a strategy table file, replacing any existing file.
+     *
+     * @param file   The file to write.
+     * @param values The values indexed by open-category mask.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(File file, double[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(StrategyTable.FILE_BYTES);
+        buffer.putInt(StrategyTable.MAGIC)
+                .putInt(StrategyTable.VERSION)
+                .putInt(ScoreTable.CATEGORY_COUNT)
+                .putInt(StrategyTable.MASK_COUNT);
+        for (double value : values) {
+            buffer.putFloat((float) value);
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Computes the value of one set of open categories from the values of its subsets.
+     *
+     * @param openMask   The open-category mask to solve; must not be 0.
+     * @param values     The values of all smaller masks.
+     * @param solver     A solver owned by the caller.
+     * @param handValues Scratch array of 252 values.
+     * @param scores     Scratch array of 252 flags.
+     * @return The expected margin of the mover from the mask.
+     */
+    static double solveMask(int openMask, double[] values, ExpectedValueSolver solver, double[] handValues, boolean[] scores) {
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+            double best = 0;
+            boolean scored = false;
+            for (int mask = openMask; mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                int points = ScoreTable.score(category, hand);
+                if (points > 0) {
+                    double value = points - values[openMask & ~(1 << category)];
+                    if (!scored || value > best) {
+                        best = value;
+                        scored = true;
+                    }
+                }
+            }
+            handValues[hand] = best;
+            scores[hand] = scored;
+        }
+
+        // g(v) = turn(v) - v is strictly decreasing because turn(v) is nonincreasing, so the root lies between
+        // 0 and turn(0): g(0) = turn(0), and g(turn(0)) = turn(turn(0)) - turn(0) has the opposite sign.
+        double low = 0;
+        double lowGap = turnValue(low, solver, handValues, scores);
+        if (Math.abs(lowGap) <= TOLERANCE) {
+            return low;
+        }
+        double high = lowGap;
+        double highGap = turnValue(high, solver, handValues, scores) - high;
+        // Illinois variant of regula falsi: halving the gap of an end point that is kept twice in a row
+        // stops one end from sticking, so the bracket shrinks superlinearly.
+        int side = 0;
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            if (Math.abs(highGap) <= TOLERANCE) {
+                return high;
+            }
+            double next = high - highGap * (high - low) / (highGap - lowGap);
+            double gap = turnValue(next, solver, handValues, scores) - next;
+            if ((gap > 0) == (highGap > 0)) {
+                high = next;
+                highGap = gap;
+                if (side == -1) {
+                    lowGap /= 2;
+                }
+                side = -1;
+            } else {
+                low = high;
+                lowGap = highGap;
+                high = next;
+                highGap = gap;
+                side = 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Computes the value of a turn for a given value of its open categories.
+     *
+     * @param noScoreValue The margin of the mover from the open categories; a hand that scores nowhere hands it to the opponent.
+     * @param solver       A solver owned by the caller.
+     * @param handValues   The values of the hands that score, updated in place for the others.
+     * @param scores       Whether each hand scores in an open category.
+     * @return The expected value of the turn.
+     */
+    private static double turnValue(double noScoreValue, ExpectedValueSolver solver, double[] handValues, boolean[] scores) {
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+            if (!scores[hand]) {
+                handValues[hand] = -noScoreValue;
+            }
+        }
+        solver.prepare(handValues);
+        return solver.getTurnValue();
+    }
+
+    // *******************************
+    // Nested Types
+    // *******************************
+
+    /**
+     * Receives the progress of a table generation.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Called after all masks of a layer have been solved.
+         *
+         * @param layer        The number of open categories of the layer, from 1 to 12.
+         * @param masksSolved  The number of masks solved so far, out of 4095.
+         * @param elapsedNanos The time since the generation started.
+         */
+        void onLayerSolved(int layer, int masksSolved, long elapsedNanos);
+    }
+
+    /**
+     * Solves a range of the masks of one layer, splitting it in halves until it is small enough.
+     * Every leaf works with its own solver, so the workers share nothing but the values array,
+     * and each of them writes only the entries of its own masks.
+     */
+    private static final class LayerTask extends RecursiveAction {
+
+        // Masks per leaf; a mask takes well under a millisecond, so this keeps the splitting overhead low.
+        private static final int LEAF_SIZE = 16;
+
+        private final int[] masks;
+        private final int from;
+        private final int to;
+        private final double[] values;
+
+        LayerTask(int[] masks, int from, int to, double[] values) {
+            this.masks = masks;
+            this.from = from;
+            this.to = to;
+            this.values = values;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LayerTask(masks, from, middle, values), new LayerTask(masks, middle, to, values));
+                return;
+            }
+            ExpectedValueSolver solver = new ExpectedValueSolver();
+            double[] handValues = new double[ScoreTable.HAND_COUNT];
+            boolean[] scores = new boolean[ScoreTable.HAND_COUNT];
+            for (int i = from; i < to; i++) {
+                values[masks[i]] = solveMask(masks[i], values, solver, handValues, scores);
+            }
+        }
+    }
+}
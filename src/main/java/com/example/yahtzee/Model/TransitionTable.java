@@ -0,0 +1,275 @@
+package com.example.yahtzee.Model;
+
+import java.util.Arrays;
+
+/**
+ * Exact probabilities of the hands a reroll can produce from each keep.
+ * <p>
+ * There are 462 keep multisets of zero to five dice and 252 five-dice hands. Keeping a multiset and rolling the
+ * other dice reaches only the hands that contain it, so the keep-to-hand matrix is stored sparsely in CSR form:
+ * the transitions of keep k are the indices [{@link #start(int) start(k)}, {@link #end(int) end(k)}), each with
+ * the hand it reaches and its probability, sorted by hand index. All 4,368 transitions live in three primitive
+ * arrays, built once on first use of the class and shared read-only by every thread.
+ * </p>
+ * <p>
+ * The expected value of a keep under any valuation of the hands is then a tight loop:
+ * </p>
+ * <pre>
+ * for (int t = TransitionTable.start(keep); t &lt; TransitionTable.end(keep); t++) {
+ *     value += TransitionTable.probabilityOf(t) * handValues[TransitionTable.handOf(t)];
+ * }
+ * </pre>
+ */
+public final class TransitionTable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Number of distinct multisets of zero to five dice.
+     */
+    public static final int KEEP_COUNT = 462;
+
+    /**
+     * Number of dice in a full hand.
+     */
+    private static final int DICE_COUNT = 5;
+
+    /**
+     * Packed histograms of all keeps, sorted ascending so that the position in the array is the keep index.
+     */
+    private static final int[] KEEPS = new int[KEEP_COUNT];
+
+    /**
+     * For each keep, the offset of its first transition; the transitions of keep k are [start[k], start[k + 1]).
+     */
+    private static final int[] TRANSITION_START = new int[KEEP_COUNT + 1];
+
+    /**
+     * Hand index reached by each transition, sorted ascending within a keep.
+     */
+    private static final int[] TRANSITION_HAND;
+
+    /**
+     * Probability of each transition.
+     */
+    private static final double[] TRANSITION_PROBABILITY;
+
+    static {
+        int[] next = { 0 };
+        enumerateKeeps(1, DICE_COUNT, 0, next);
+        Arrays.sort(KEEPS);
+
+        int[] rollBuffer = new int[ScoreTable.HAND_COUNT];
+        long[] sortBuffer = new long[ScoreTable.HAND_COUNT];
+
+        int transitionCount = 0;
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            TRANSITION_START[keep] = transitionCount;
+            transitionCount += countRolls(DICE_COUNT - size(KEEPS[keep]));
+        }
+        TRANSITION_START[KEEP_COUNT] = transitionCount;
+        TRANSITION_HAND = new int[transitionCount];
+        TRANSITION_PROBABILITY = new double[transitionCount];
+
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            int rollSize = DICE_COUNT - size(KEEPS[keep]);
+            int rolls = 0;
+            for (int candidate : KEEPS) {
+                if (size(candidate) == rollSize) {
+                    rollBuffer[rolls++] = candidate;
+                }
+            }
+            // Order the outcomes by hand index so a hand can be found with a binary search.
+            for (int i = 0; i < rolls; i++) {
+                long hand = ScoreTable.indexOf(KEEPS[keep] + rollBuffer[i]);
+                sortBuffer[i] = (hand << 32) | rollBuffer[i];
+            }
+            Arrays.sort(sortBuffer, 0, rolls);
+            for (int i = 0; i < rolls; i++) {
+                int transition = TRANSITION_START[keep] + i;
+                TRANSITION_HAND[transition] = (int) (sortBuffer[i] >>> 32);
+                TRANSITION_PROBABILITY[transition] = probability((int) sortBuffer[i], rollSize);
+            }
+        }
+    }
+
+    private TransitionTable() {
+    }
+
+    // *******************************
+    // Selectors
+    // *******************************
+
+    /**
+     * Retrieves the index of a keep multiset.
+     *
+     * @param packedKeep The packed histogram of zero to five dice.
+     * @return The keep index in the range [0, 462), or a negative value if the histogram holds more than five dice.
+     */
+    public static int keepIndexOf(int packedKeep) {
+        return Arrays.binarySearch(KEEPS, packedKeep);
+    }
+
+    /**
+     * Retrieves the packed histogram of a keep.
+     *
+     * @param keep The keep index.
+     * @return The packed histogram of the keep.
+     */
+    public static int keepAt(int keep) {
+        return KEEPS[keep];
+    }
+
+    /**
+     * Retrieves the number of transitions of all keeps.
+     *
+     * @return The number of transitions.
+     */
+    public static int getTransitionCount() {
+        return TRANSITION_START[KEEP_COUNT];
+    }
+
+    /**
+     * Retrieves the first transition of a keep.
+     *
+     * @param keep The keep index.
+     * @return The index of the first transition of the keep.
+     */
+    public static int start(int keep) {
+        return TRANSITION_START[keep];
+    }
+
+    /**
+     * Retrieves the end of the transitions of a keep.
+     *
+     * @param keep The keep index.
+     * @return The index one past the last transition of the keep.
+     */
+    public static int end(int keep) {
+        return TRANSITION_START[keep + 1];
+    }
+
+    /**
+     * Retrieves the hand reached by a transition.
+     *
+     * @param transition The transition index.
+     * @return The hand index.
+     */
+    public static int handOf(int transition) {
+        return TRANSITION_HAND[transition];
+    }
+
+    /**
+     * Retrieves the probability of a transition.
+     *
+     * @param transition The transition index.
+     * @return The probability that rerolling the dice not kept gives the hand of the transition.
+     */
+    public static double probabilityOf(int transition) {
+        return TRANSITION_PROBABILITY[transition];
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Finds the transition from a keep to a hand.
+     *
+     * @param keep The keep index.
+     * @param hand The hand index.
+     * @return The transition index, or a negative value if the hand does not contain the keep.
+     */
+    public static int find(int keep, int hand) {
+        int transition = Arrays.binarySearch(TRANSITION_HAND, TRANSITION_START[keep], TRANSITION_START[keep + 1], hand);
+        return transition < 0 ? -1 : transition;
+    }
+
+    /**
+     * Computes the expected value of keeping a multiset and rolling the other dice once.
+     *
+     * @param keep       The keep index.
+     * @param handValues The value of each of the 252 hands.
+     * @return The expected value of the hand after the roll.
+     */
+    public static double expectedValue(int keep, double[] handValues) {
+        double value = 0;
+        for (int transition = TRANSITION_START[keep]; transition < TRANSITION_START[keep + 1]; transition++) {
+            value += TRANSITION_PROBABILITY[transition] * handValues[TRANSITION_HAND[transition]];
+        }
+        return value;
+    }
+
+    /**
+     * Counts the dice held by a packed histogram.
+     *
+     * @param packed The packed face-count histogram.
+     * @return The number of dice.
+     */
+    public static int size(int packed) {
+        int size = 0;
+        for (int face = 1; face <= 6; face++) {
+            size += ScoreTable.count(packed, face);
+        }
+        return size;
+    }
+
+    /**
+     * Computes the probability of rolling a multiset with a number of fair dice.
+     *
+     * @param packedRoll The packed histogram of the roll.
+     * @param diceCount  The number of dice rolled.
+     * @return The multinomial probability of the roll.
+     */
+    private static double probability(int packedRoll, int diceCount) {
+        double permutations = factorial(diceCount);
+        for (int face = 1; face <= 6; face++) {
+            permutations /= factorial(ScoreTable.count(packedRoll, face));
+        }
+        return permutations / Math.pow(6, diceCount);
+    }
+
+    private static int factorial(int n) {
+        int result = 1;
+        for (int i = 2; i <= n; i++) {
+            result *= i;
+        }
+        return result;
+    }
+
+    /**
+     * Counts the multisets of a number of dice, i.e. the distinct outcomes of rolling them.
+     *
+     * @param diceCount The number of dice.
+     * @return The number of multisets.
+     */
+    private static int countRolls(int diceCount) {
+        int count = 0;
+        for (int keep : KEEPS) {
+            if (size(keep) == diceCount) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Recursively fills the keep array with every histogram of at most the remaining dice over faces [face, 6].
+     *
+     * @param face      The lowest face still to be assigned a count.
+     * @param remaining The number of dice left to distribute.
+     * @param packed    The histogram built so far.
+     * @param next      Single-element cursor into the keep array.
+     */
+    private static void enumerateKeeps(int face, int remaining, int packed, int[] next) {
+        if (face > 6) {
+            KEEPS[next[0]++] = packed;
+            return;
+        }
+        for (int count = 0; count <= remaining; count++) {
+            enumerateKeeps(face + 1, remaining - count, packed + (count << ((face - 1) * ScoreTable.BITS_PER_FACE)), next);
+        }
+    }
+}
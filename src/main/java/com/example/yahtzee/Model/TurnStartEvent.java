@@ -0,0 +1,27 @@
+package com.example.yahtzee.Model;
+
+/**
+ * A player has started their turn.
+ */
+public final class TurnStartEvent extends GameEvent {
+
+    /**
+     * Creates the event.
+     *
+     * @param round  The round of the turn.
+     * @param player The name of the player whose turn it is.
+     */
+    public TurnStartEvent(int round, String player) {
+        super(round, player);
+    }
+
+    @Override
+    public void dispatch(GameEventSink sink) {
+        sink.onTurnStart(this);
+    }
+
+    @Override
+    public String toString() {
+        return getPlayer() + " has started their turn";
+    }
+}
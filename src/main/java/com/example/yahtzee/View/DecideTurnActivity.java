@@ -8,9 +8,9 @@ import android.widget.Button;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.yahtzee.Model.GameSessions;
 import com.example.yahtzee.Model.Logger;
 import com.example.yahtzee.Model.Player;
-import com.example.yahtzee.Model.Round;
 import com.example.yahtzee.Model.Tournament;
 import com.example.yahtzee.R;
 
@@ -18,6 +18,13 @@ import java.util.List;
 
 
 public class DecideTurnActivity extends AppCompatActivity {
+
+    // The ID of the session whose turn order is being decided.
+    private long sessionId;
+
+    // Whether the session was passed on to the next screen, which then forgets it when done.
+    private boolean isSessionHandedOff;
+
     /**
      * Initializes the layout, sets up event handlers for buttons to determine player turn, and logs the action.
      *
@@ -29,6 +36,12 @@ public class DecideTurnActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_tournament);
 
+        sessionId = SessionSnapshot.resolve(getIntent(), savedInstanceState);
+        if (sessionId == GameSessions.NO_SESSION) {
+            finish();
+            return;
+        }
+
         // Reference the "Roll" button
         Button rollButton = findViewById(R.id.rollToChooseTurn);
 
@@ -39,6 +52,8 @@ public class DecideTurnActivity extends AppCompatActivity {
         rollButton.setOnClickListener(v -> {
             Logger.log("Rolling to choose turn");
             Intent intent = new Intent(DecideTurnActivity.this, RollToChooseActivity.class);
+            intent.putExtra(SessionSnapshot.EXTRA_SESSION, sessionId);
+            isSessionHandedOff = true;
             startActivity(intent);
             finish();
         });
@@ -66,11 +81,12 @@ public class DecideTurnActivity extends AppCompatActivity {
             Player humanPlayer = players.get(0);
             Player computerPlayer = players.get(1);
 
-            Round round = new Round(humanPlayer, computerPlayer);
+            GameSessions.get(sessionId).startRound(humanPlayer, computerPlayer);
             Logger.log("Round started with human player starting first.");
-            // Start RoundActivity and pass the Round object as an extra
+            // Start RoundActivity and pass the session ID as an extra
             Intent intent = new Intent(DecideTurnActivity.this, RoundActivity.class);
-            intent.putExtra("round", round); // Pass the round object
+            intent.putExtra(SessionSnapshot.EXTRA_SESSION, sessionId);
+            isSessionHandedOff = true;
             startActivity(intent);
             finish();
         });
@@ -86,11 +102,12 @@ public class DecideTurnActivity extends AppCompatActivity {
             Player humanPlayer = players.get(0);
             Player computerPlayer = players.get(1);
 
-            Round round = new Round(computerPlayer, humanPlayer);
+            GameSessions.get(sessionId).startRound(computerPlayer, humanPlayer);
             Logger.log("Round started with computer player starting first.");
-            // Start RoundActivity and pass the Round object as an extra
+            // Start RoundActivity and pass the session ID as an extra
             Intent intent = new Intent(DecideTurnActivity.this, RoundActivity.class);
-            intent.putExtra("round", round); // Pass the round object
+            intent.putExtra(SessionSnapshot.EXTRA_SESSION, sessionId);
+            isSessionHandedOff = true;
             startActivity(intent);
             finish();
         });
@@ -100,6 +117,27 @@ public class DecideTurnActivity extends AppCompatActivity {
         dialog.show();
     }
 
+    /**
+     * Saves the session of the screen, so that it can be restored if the process is killed.
+     *
+     * @param outState The state of the screen being saved.
+     */
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        SessionSnapshot.save(outState, sessionId);
+    }
+
+    /**
+     * Forgets the session once the screen is closed for good, unless the next screen plays on with it.
+     */
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (isFinishing() && !isSessionHandedOff) {
+            GameSessions.remove(sessionId);
+        }
+    }
 
 
 }
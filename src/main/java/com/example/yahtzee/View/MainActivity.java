@@ -12,18 +12,29 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
+import com.example.yahtzee.Model.AutosaveJournal;
 import com.example.yahtzee.Model.Computer;
+import com.example.yahtzee.Model.GameEngine;
+import com.example.yahtzee.Model.GameSession;
+import com.example.yahtzee.Model.GameSessions;
+import com.example.yahtzee.Model.GameState;
 import com.example.yahtzee.Model.Human;
 import com.example.yahtzee.Model.Logger;
-import com.example.yahtzee.Model.Round;
-import com.example.yahtzee.Model.ScoreCard;
+import com.example.yahtzee.Model.Player;
+import com.example.yahtzee.Model.SaveInfo;
 import com.example.yahtzee.Model.Serialization;
 import com.example.yahtzee.R;
 
-import java.io.File;
+import java.io.IOException;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.List;
 
 public class MainActivity extends AppCompatActivity {
 
+    // Number of saved games shown on each page of the load dialog.
+    private static final int SAVES_PER_PAGE = 20;
+
     /**
      * Sets up the main activity layout, initializes UI components, and configures event handlers for game actions.
      *
@@ -48,20 +59,57 @@ public class MainActivity extends AppCompatActivity {
             Logger.log("Starting new game");
             // Start DecideTurnActivity
             Intent intent = new Intent(MainActivity.this, DecideTurnActivity.class);
+            intent.putExtra(SessionSnapshot.EXTRA_SESSION, GameSessions.register(new GameSession(new GameState())));
             startActivity(intent);
         });
 
         loadGameButton.setOnClickListener(view -> showLoadGameDialog());
+
+        if (AutosaveJournal.exists(getFilesDir())) {
+            showResumeDialog();
+        }
+    }
+
+    /**
+     * Offers to resume the game that was autosaved when the app last stopped.
+     */
+    private void showResumeDialog() {
+        new AlertDialog.Builder(this)
+                .setTitle("Unfinished Game")
+                .setMessage("Do you want to resume the game you were playing?")
+                .setPositiveButton("Resume", (dialog, which) -> {
+                    try {
+                        startGame(AutosaveJournal.recover(getFilesDir()));
+                    } catch (IOException | IllegalArgumentException e) {
+                        Logger.log("Failed to recover game: %s", String.valueOf(e.getMessage()));
+                        AutosaveJournal.getInstance(getFilesDir()).discard();
+                        new AlertDialog.Builder(this)
+                                .setTitle("Error")
+                                .setMessage("The unfinished game could not be recovered.")
+                                .setPositiveButton("OK", (innerDialog, innerWhich) -> innerDialog.dismiss())
+                                .show();
+                    }
+                })
+                .setNegativeButton("Discard", (dialog, which) -> AutosaveJournal.getInstance(getFilesDir()).discard())
+                .show();
     }
 
     /**
      * Displays a dialog for the user to select a saved game file to load.
      */
     private void showLoadGameDialog() {
-        File directory = getFilesDir(); // Internal storage directory for the app
-        String[] fileList = directory.list((dir, name) -> name.endsWith(".txt")); // Filter for .txt files
+        showLoadGameDialog(0);
+    }
 
-        if (fileList == null || fileList.length == 0) {
+    /**
+     * Displays one page of the saved games, most recent first, with their round and scores.
+     *
+     * @param page The index of the page, from 0.
+     */
+    private void showLoadGameDialog(int page) {
+        List<SaveInfo> saves = new Serialization().listSaves(this, page * SAVES_PER_PAGE, SAVES_PER_PAGE + 1); // One more to know if a next page exists
+
+        if (saves.isEmpty() && page == 0) {
             // Show a dialog if no files are available
             new AlertDialog.Builder(this)
                     .setTitle("No Saved Games")
@@ -71,43 +119,132 @@ public class MainActivity extends AppCompatActivity {
             return;
         }
 
+        boolean hasNextPage = saves.size() > SAVES_PER_PAGE;
+        List<SaveInfo> pageSaves = hasNextPage ? saves.subList(0, SAVES_PER_PAGE) : saves;
+        DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT);
+        String[] items = new String[pageSaves.size()];
+        for (int i = 0; i < items.length; i++) {
+            SaveInfo save = pageSaves.get(i);
+            items[i] = save.getName() + "\nRound " + save.getRound() + " \u2022 " + save.getFirstTotal() + " - "
+                    + save.getSecondTotal() + " \u2022 " + dateFormat.format(new Date(save.getTimestamp()));
+        }
+
         // Create an AlertDialog to show the list of files
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
         builder.setTitle("Select a File to Load");
         Logger.log("Displaying list of saved game files.");
 
-        builder.setItems(fileList, (dialog, which) -> {
-            String selectedFile = fileList[which]; // Get the selected file name
-            Serialization serialization = new Serialization();
-            serialization.loadGame(this, selectedFile.replace(".txt", "")); // Load the game without .txt extension
-
-            int humanScore = ScoreCard.getTotalScore("Human");
-            int computerScore = ScoreCard.getTotalScore("Computer");
-
-            if (humanScore == computerScore) {
-                Intent intent = new Intent(this, DecideTurnActivity.class);
-                startActivity(intent);
-                Logger.log("Starting DecideTurnActivity because scores are equal.");
+        builder.setItems(items, (dialog, which) -> {
+            SaveInfo selected = pageSaves.get(which); // Get the selected save
+            if (selected.isLegacy()) {
+                loadLegacyGame(selected.getName());
             } else {
-                Round newRound;
-                if (humanScore > computerScore) {
-                    newRound = new Round(new Computer(), new Human());
-                } else {
-                    newRound = new Round(new Human(), new Computer());
-                }
-                Intent intent = new Intent(this, RoundActivity.class);
-                intent.putExtra("round", newRound);
-                startActivity(intent);
-                Logger.log("Starting RoundActivity.");
-                finish();
+                loadGame(selected.getName());
             }
         });
 
         builder.setNegativeButton("Cancel", (dialog, which) -> dialog.dismiss());
+        if (hasNextPage) {
+            builder.setPositiveButton("More", (dialog, which) -> showLoadGameDialog(page + 1));
+        }
+        if (page > 0) {
+            builder.setNeutralButton("Back", (dialog, which) -> showLoadGameDialog(page - 1));
+        }
 
         // Show the dialog
         builder.show();
     }
 
-}
+    /**
+     * Loads a binary save and resumes the game where it was saved.
+     *
+     * @param fileName The name of the save file, without extension.
+     */
+    private void loadGame(String fileName) {
+        GameEngine engine;
+        try {
+            engine = new Serialization().loadGame(this, fileName);
+        } catch (IOException | IllegalArgumentException e) {
+            showLoadError(e);
+            return;
+        }
+        startGame(engine);
+    }
 
+    /**
+     * Tells the player that a saved game could not be loaded.
+     *
+     * @param e The reason the save could not be loaded.
+     */
+    private void showLoadError(Exception e) {
+        Logger.log("Failed to load game: %s", String.valueOf(e.getMessage()));
+        new AlertDialog.Builder(this)
+                .setTitle("Error")
+                .setMessage("The saved game could not be loaded.")
+                .setPositiveButton("OK", (dialog, which) -> dialog.dismiss())
+                .show();
+    }
+
+    /**
+     * Resumes a loaded game where it stopped.
+     *
+     * @param engine The engine of the game.
+     */
+    private void startGame(GameEngine engine) {
+        if (engine.getPhase() == GameEngine.Phase.ROUND_OVER) {
+            // Saved between rounds: the player with the lower total goes first, or a dice roll decides on a tie
+            Player first = engine.getNextRoundFirstPlayer();
+            if (first == null) {
+                Intent intent = new Intent(this, DecideTurnActivity.class);
+                intent.putExtra(SessionSnapshot.EXTRA_SESSION, GameSessions.register(new GameSession(engine)));
+                startActivity(intent);
+                Logger.log("Starting DecideTurnActivity because scores are equal.");
+                return;
+            }
+            engine.startNextRound(first, first == engine.getFirstPlayer() ? engine.getSecondPlayer() : engine.getFirstPlayer());
+        }
+        Intent intent = new Intent(this, RoundActivity.class);
+        intent.putExtra(SessionSnapshot.EXTRA_SESSION, GameSessions.register(new GameSession(engine)));
+        startActivity(intent);
+        Logger.log("Starting RoundActivity.");
+        finish();
+    }
+
+    /**
+     * Loads a text save written by an earlier version, which holds the next round and the scorecard.
+     *
+     * @param fileName The name of the save file, without extension.
+     */
+    private void loadLegacyGame(String fileName) {
+        GameState game = new GameState();
+        try {
+            new Serialization().loadGame(this, game, fileName);
+        } catch (IOException | IllegalArgumentException e) {
+            showLoadError(e);
+            return;
+        }
+
+        int humanScore = game.getScoreCard().getTotalScore("Human");
+        int computerScore = game.getScoreCard().getTotalScore("Computer");
+
+        GameSession session = new GameSession(game);
+        if (humanScore == computerScore) {
+            Intent intent = new Intent(this, DecideTurnActivity.class);
+            intent.putExtra(SessionSnapshot.EXTRA_SESSION, GameSessions.register(session));
+            startActivity(intent);
+            Logger.log("Starting DecideTurnActivity because scores are equal.");
+        } else {
+            if (humanScore > computerScore) {
+                session.startRound(new Computer(), new Human());
+            } else {
+                session.startRound(new Human(), new Computer());
+            }
+            Intent intent = new Intent(this, RoundActivity.class);
+            intent.putExtra(SessionSnapshot.EXTRA_SESSION, GameSessions.register(session));
+            startActivity(intent);
+            Logger.log("Starting RoundActivity.");
+            finish();
+        }
+    }
+
+}
@@ -11,9 +11,9 @@ import android.widget.TextView;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.yahtzee.Model.GameSessions;
 import com.example.yahtzee.Model.Logger;
 import com.example.yahtzee.Model.Player;
-import com.example.yahtzee.Model.Round;
 import com.example.yahtzee.Model.Tournament;
 import com.example.yahtzee.R;
 
@@ -24,6 +24,12 @@ public class RollToChooseActivity extends AppCompatActivity {
     private Player humanPlayer;
     private Player computerPlayer;
 
+    // The ID of the session whose turn order is being decided.
+    private long sessionId;
+
+    // Whether the session was passed on to the next screen, which then forgets it when done.
+    private boolean isSessionHandedOff;
+
     /**
      * Initializes the activity, sets the content view, initializes players, and initiates the dice roll to determine the turn.
      *
@@ -35,6 +41,12 @@ public class RollToChooseActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_choose_turn);
 
+        sessionId = SessionSnapshot.resolve(getIntent(), savedInstanceState);
+        if (sessionId == GameSessions.NO_SESSION) {
+            finish();
+            return;
+        }
+
         Tournament tournament;
 
         // Initialize the tournament and players
@@ -53,9 +65,9 @@ public class RollToChooseActivity extends AppCompatActivity {
 
     private void showRoll() {
         int humanRoll = humanPlayer.turnChooseRoll();
-        Logger.log("Human Rolled: " + humanRoll);
+        Logger.log("Human Rolled: %d", humanRoll);
         int computerRoll = computerPlayer.turnChooseRoll();
-        Logger.log("Computer Rolled: " + computerRoll);
+        Logger.log("Computer Rolled: %d", computerRoll);
 
         ImageView humanDiceImage = findViewById(R.id.humanDiceImageView);
         ImageView computerDiceImage = findViewById(R.id.computerDiceImageView);
@@ -89,6 +101,28 @@ public class RollToChooseActivity extends AppCompatActivity {
 
     }
 
+    /**
+     * Saves the session of the screen, so that it can be restored if the process is killed.
+     *
+     * @param outState The state of the screen being saved.
+     */
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        SessionSnapshot.save(outState, sessionId);
+    }
+
+    /**
+     * Forgets the session once the screen is closed for good, unless the next screen plays on with it.
+     */
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (isFinishing() && !isSessionHandedOff) {
+            GameSessions.remove(sessionId);
+        }
+    }
+
     /**
      * Displays a dialog prompting the user to roll the dice again in the event of a tie.
      */
@@ -148,9 +182,10 @@ public class RollToChooseActivity extends AppCompatActivity {
             @Override
             public void onClick(View v) {
                 Logger.log("Starting round...");
-                Round round = new Round(firstPlayer, secondPlayer);
+                GameSessions.get(sessionId).startRound(firstPlayer, secondPlayer);
                 Intent intent = new Intent(RollToChooseActivity.this, RoundActivity.class);
-                intent.putExtra("round", round);
+                intent.putExtra(SessionSnapshot.EXTRA_SESSION, sessionId);
+                isSessionHandedOff = true;
                 startActivity(intent);
                 finish();
             }
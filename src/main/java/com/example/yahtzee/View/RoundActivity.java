@@ -15,18 +15,25 @@ import android.widget.TextView;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
-import com.example.yahtzee.Model.Computer;
-import com.example.yahtzee.Model.Dice;
+import com.example.yahtzee.Model.AutosaveJournal;
+import com.example.yahtzee.Model.Category;
+import com.example.yahtzee.Model.CompletionOdds;
+import com.example.yahtzee.Model.GameEngine;
+import com.example.yahtzee.Model.GameSession;
+import com.example.yahtzee.Model.GameSessions;
+import com.example.yahtzee.Model.GameState;
 import com.example.yahtzee.Model.Human;
 import com.example.yahtzee.Model.Logger;
 import com.example.yahtzee.Model.Pair;
 import com.example.yahtzee.Model.Player;
-import com.example.yahtzee.Model.Round;
 import com.example.yahtzee.Model.ScoreCard;
+import com.example.yahtzee.Model.ScoreTable;
 import com.example.yahtzee.Model.Serialization;
 import com.example.yahtzee.R;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,24 +100,21 @@ public class RoundActivity extends AppCompatActivity {
     // Displays the total score for the Computer player.
     private TextView computerScore;
 
-    // The current player whose turn it is.
-    private Player currentPlayer;
+    // The ID of the session being played.
+    private long sessionId;
 
-    // The current round instance, containing information about players and round state.
-    private Round round;
+    // The engine playing the game; this screen only renders it and forwards the player's moves.
+    private GameEngine engine;
 
-    // Stores the dice values rolled during the current turn.
-    private List<Integer> rolledDice = new ArrayList<>();
+    // The game being played, owning the scorecard and the round number.
+    private GameState game;
 
-    // Stores the dice values the player has chosen to keep across rolls.
-    private List<Integer> finalDice = new ArrayList<>();
+    // The scorecard of the game being played.
+    private ScoreCard scoreCard;
 
     // Stores the ImageButtons corresponding to the dice the player has chosen to keep.
     private List<ImageButton> finalDiceButtons = new ArrayList<>();
 
-    // Counter for tracking the number of rolls in the current turn (1 to 3).
-    private int rollNumberCounter = 1;
-
 
     /**
      * Initializes the RoundActivity, setting up UI elements, event listeners, and game logic based on the current round or player state.
@@ -123,7 +127,16 @@ public class RoundActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_roll_dice);
 
-        round = (Round) getIntent().getSerializableExtra("round");
+        sessionId = SessionSnapshot.resolve(getIntent(), savedInstanceState);
+        GameSession session = GameSessions.get(sessionId);
+        if (session == null || session.getEngine() == null) {
+            finish();
+            return;
+        }
+        engine = session.getEngine();
+        game = engine.getGame();
+        scoreCard = engine.getScoreCard();
+        AutosaveJournal.getInstance(getFilesDir()).attach(engine); // Autosave every turn in the background
 
         pointsTextViews.put("Aces", (TextView) findViewById(R.id.acesPoints));
         winnerTextViews.put("Aces", (TextView) findViewById(R.id.acesWinner));
@@ -206,9 +219,6 @@ public class RoundActivity extends AppCompatActivity {
         humanScore = findViewById(R.id.humanScore);
         computerScore = findViewById(R.id.computerScore);
 
-        humanScore.setText("👨🏻: " + ScoreCard.getTotalScore("Human"));
-        computerScore.setText("🤖: " + ScoreCard.getTotalScore("Computer"));
-
         logButton.setOnClickListener(v -> {
             // Inflate the custom layout for the logs dialog
             View dialogView = getLayoutInflater().inflate(R.layout.dialog_logs, null);
@@ -228,38 +238,88 @@ public class RoundActivity extends AppCompatActivity {
                     .show();
         });
 
-        if (round != null) {
-            currentPlayer = round.getFirstPlayer();
-            roundNumber.setText("Round: " + Round.getRoundNumber());
-            Logger.log("Round " + Round.getRoundNumber() + " has started");
-            turnText.setText(currentPlayer.getName() + "'s turn");
-            Logger.log(currentPlayer.getName() + " has started their turn");
-            rollNumber.setText("Roll: " + rollNumberCounter);
-
-            rollAgainButton.setVisibility(View.GONE);
-            standButton.setVisibility(View.GONE);
-            hintButton.setVisibility(View.GONE);
-            selectDice.setVisibility(View.GONE);
+        showPhase();
+    }
 
-            rollDiceButton.setOnClickListener(v -> rollDice());
-            setManuallyButton.setOnClickListener(v -> setManually());
-        } else {
-            currentPlayer = (Player) getIntent().getSerializableExtra("player");
-            Logger.log(currentPlayer.getName() + " has started their turn.");
-            roundNumber.setText("Round: " + Round.getRoundNumber());
-            assert currentPlayer != null;
-            turnText.setText(currentPlayer.getName() + "'s turn");
-            rollNumber.setText("Roll: " + rollNumberCounter);
-
-            rollAgainButton.setVisibility(View.GONE);
-            standButton.setVisibility(View.GONE);
-            hintButton.setVisibility(View.GONE);
-            selectDice.setVisibility(View.GONE);
+    /**
+     * Shows the game in the phase the engine is in, so that the screen can be recreated at any point of a turn, e.g.
+     * after a rotation or once a game killed with the process is restored.
+     */
+    private void showPhase() {
+        showTurn();
+        switch (engine.getPhase()) {
+            case ROLL:
+                showKeptDice();
+                break;
+            case KEEP:
+            case SCORE:
+                showKeptDice();
+                postRoll(false);
+                break;
+            default:
+                // The turn has ended; only the dialogs of the end of the round or game can move on
+                rollDiceButton.setVisibility(View.GONE);
+                setManuallyButton.setVisibility(View.GONE);
+                handleGameOrRoundEnd();
+                break;
+        }
+    }
 
-            rollDiceButton.setOnClickListener(v -> rollDice());
-            setManuallyButton.setOnClickListener(v -> setManually());
+    /**
+     * Shows the dice kept earlier in the turn on the first dice buttons, dimmed and locked like dice kept on this screen.
+     */
+    private void showKeptDice() {
+        List<Integer> keptDice = engine.getKeptDice();
+        List<ImageButton> dice = List.of(dice1, dice2, dice3, dice4, dice5);
+        for (int i = 0; i < keptDice.size(); i++) {
+            ImageButton diceButton = dice.get(i);
+            diceButton.setImageResource(drawableOf(keptDice.get(i)));
+            diceButton.setAlpha(0.5f);
+            finalDiceButtons.add(diceButton);
+        }
+    }
 
+    /**
+     * Shows the start of the current player's turn, resetting the dice, buttons and highlights of the previous turn,
+     * so that every turn and round of the game is played on this screen.
+     */
+    @SuppressLint("SetTextI18n")
+    private void showTurn() {
+        finalDiceButtons.clear();
+        for (ImageButton diceButton : List.of(dice1, dice2, dice3, dice4, dice5)) {
+            diceButton.setAlpha(1.0f);
+            diceButton.setOnClickListener(null);
         }
+        for (Button button : scoreButtons.values()) {
+            button.setVisibility(View.GONE);
+        }
+        resetCategoryHighlights();
+        updateScoreCard();
+
+        humanScore.setText("👨🏻: " + scoreCard.getTotalScore("Human"));
+        computerScore.setText("🤖: " + scoreCard.getTotalScore("Computer"));
+        roundNumber.setText("Round: " + game.getRoundNumber());
+        turnText.setText(engine.getCurrentPlayer().getName() + "'s turn");
+        showRollNumber();
+
+        rollDiceButton.setVisibility(View.VISIBLE);
+        setManuallyButton.setVisibility(View.VISIBLE);
+        rollAgainButton.setVisibility(View.GONE);
+        standButton.setVisibility(View.GONE);
+        hintButton.setVisibility(View.GONE);
+        selectDice.setVisibility(View.GONE);
+
+        rollDiceButton.setOnClickListener(v -> rollDice());
+        setManuallyButton.setOnClickListener(v -> setManually());
+    }
+
+    /**
+     * Shows the number of the roll being played: the latest roll while deciding, the next roll while rolling.
+     */
+    @SuppressLint("SetTextI18n")
+    private void showRollNumber() {
+        int rollCount = engine.getRollCount();
+        rollNumber.setText("Roll: " + (engine.getPhase() == GameEngine.Phase.ROLL ? rollCount + 1 : rollCount));
     }
 
     /**
@@ -267,7 +327,7 @@ public class RoundActivity extends AppCompatActivity {
      */
     private void updateScoreCard() {
         // Retrieve the score map from ScoreCard
-        Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scoreBoard = ScoreCard.getScoreBoard();
+        Map<String, Map.Entry<String, Map.Entry<Integer, Integer>>> scoreBoard = scoreCard.getScoreBoard();
 
         // Iterate over each entry in the scoreBoard map
         for (Map.Entry<String, Map.Entry<String, Map.Entry<Integer, Integer>>> entry : scoreBoard.entrySet()) {
@@ -309,10 +369,10 @@ public class RoundActivity extends AppCompatActivity {
      * @param dice The list of ImageButtons representing dice available for selection.
      */
     private void enableDiceSelection(List<ImageButton> dice) {
-        // If finalDice already contains 4 values, skip selection and directly update the roll counter
-        if (finalDice.size() == 4) {
-            rollNumberCounter++;
-            rollNumber.setText("Roll: " + rollNumberCounter);
+        // If 4 dice are already kept, skip selection and directly roll the last one
+        if (engine.getKeptDice().size() == 4) {
+            engine.keep(Collections.emptyList());
+            showRollNumber();
 
             rollDiceButton.setVisibility(View.VISIBLE);
             setManuallyButton.setVisibility(View.VISIBLE);
@@ -334,6 +394,7 @@ public class RoundActivity extends AppCompatActivity {
             }
         }
 
+        List<Integer> rolledDice = engine.getRolledDice();
         for (int i = 0; i < selectableDice.size(); i++) {
             ImageButton diceButton = selectableDice.get(i);
             int dieValue = rolledDice.get(i); // Use the index to get the corresponding dice value
@@ -357,22 +418,23 @@ public class RoundActivity extends AppCompatActivity {
                     tempDiceButtons.add(diceButton);
                     diceButton.setAlpha(0.5f); // Make it slightly transparent
                 }
+                showCompletionOdds(tempDice);
             });
         }
 
         selectDice.setOnClickListener(v -> {
             // Confirm the selection by adding the temp selections to final lists
             selectDice.setVisibility(View.GONE);
-            finalDice.addAll(tempDice);
+            engine.keep(tempDice);
             finalDiceButtons.addAll(tempDiceButtons);
 
-            Logger.log("You kept: " + finalDice.toString());
+            List<Integer> finalDice = engine.getCurrentDice();
 
-            if(finalDice.size() == 5) {
+            if(engine.getPhase() == GameEngine.Phase.SCORE) {
                 boolean hasCategoryToScore = false; // Flag to track if at least one category is available
 
                 hintButton.setOnClickListener(v1 ->{
-                    Pair<String, Integer> bestHand = ScoreCard.getBestHands(finalDice);
+                    Pair<String, Integer> bestHand = scoreCard.getBestHands(finalDice);
                     if(!bestHand.getKey().isEmpty()){
                         new AlertDialog.Builder(this)
                                 .setTitle("Hint")
@@ -395,15 +457,13 @@ public class RoundActivity extends AppCompatActivity {
                     Button scoreButton = entry.getValue();
                     int points = ScoreCard.calculatePoints(category, finalDice);
 
-                    if (points > 0 && ScoreCard.isCategoryAvailable(category)) {
+                    if (points > 0 && scoreCard.isCategoryAvailable(category)) {
                         hasCategoryToScore = true; // Set the flag to true if a category is available
                         scoreButton.setVisibility(View.VISIBLE);
 
                         scoreButton.setOnClickListener(scoreView -> {
                             // Update the scorecard when this button is clicked
-                            String winner = "Human";
-                            int roundNumber = Round.getRoundNumber();
-                            ScoreCard.chooseCategory(category, finalDice, winner, roundNumber);
+                            engine.score(Category.fromName(category));
 
                             // Hide all score buttons after one is clicked
                             for (Button button : scoreButtons.values()) {
@@ -421,13 +481,9 @@ public class RoundActivity extends AppCompatActivity {
                     }
                 }
 
-                // If no category is available, show an alert dialog
+                // If no category is available, show an alert dialog and end the turn
                 if (!hasCategoryToScore) {
-                    new AlertDialog.Builder(this)
-                            .setTitle("No Category Available")
-                            .setMessage("There are no available categories to score. Please check your options.")
-                            .setPositiveButton("OK", (dialog, which) -> dialog.dismiss())
-                            .show();
+                    showNoCategoryDialog();
                 }
             } else {
                 resetCategoryHighlights();
@@ -443,8 +499,7 @@ public class RoundActivity extends AppCompatActivity {
                 tempDiceButtons.clear();
 
                 // Update the roll number
-                rollNumberCounter++;
-                rollNumber.setText("Roll: " + rollNumberCounter);
+                showRollNumber();
 
                 // Adjust button visibility for the second roll
                 rollDiceButton.setVisibility(View.VISIBLE);
@@ -529,10 +584,9 @@ public class RoundActivity extends AppCompatActivity {
             }
 
             if (allSelected) {
-                rolledDice.clear();
-                rolledDice.addAll(selectedValues);
+                engine.setDice(selectedValues);
 
-                postRoll();
+                postRoll(true);
 
                 dialog.dismiss();
             } else {
@@ -565,7 +619,7 @@ public class RoundActivity extends AppCompatActivity {
      */
     private void highlightCategoriesWithPoints(List<Integer> currentDice) {
         // Get the list of categories to pursue based on the current dice values
-        List<String> categoriesToPursue = ScoreCard.getCategoriesToPursue(currentDice);
+        List<String> categoriesToPursue = scoreCard.getCategoriesToPursue(currentDice);
 
         // Iterate over each category to check potential points or pursuit status
         for (String category : pointsTextViews.keySet()) {
@@ -573,7 +627,7 @@ public class RoundActivity extends AppCompatActivity {
             TextView winnerTextView = winnerTextViews.get(category);
 
             // Check if the category is already filled in the ScoreCard
-            boolean isCategoryScored = !ScoreCard.isCategoryAvailable(category);
+            boolean isCategoryScored = !scoreCard.isCategoryAvailable(category);
 
             // Reset the background and text color for unscored categories
             if (!isCategoryScored) {
@@ -589,7 +643,7 @@ public class RoundActivity extends AppCompatActivity {
             }
 
             // Only proceed if the category is available (not already scored)
-            if (ScoreCard.isCategoryAvailable(category)) {
+            if (scoreCard.isCategoryAvailable(category)) {
                 int points = ScoreCard.calculatePoints(category, currentDice);
 
                 if (points > 0) {
@@ -601,7 +655,7 @@ public class RoundActivity extends AppCompatActivity {
                     if (winnerTextView != null) {
                         winnerTextView.setBackgroundResource(R.drawable.cell_border_highlighted); // Green highlight
                     }
-                } else if (categoriesToPursue.contains(category) && rollNumberCounter != 3) {
+                } else if (categoriesToPursue.contains(category) && engine.getRollCount() != GameEngine.MAX_ROLLS) {
                     // Highlight with yellow if the category is in the pursuit list
                     if (pointsTextView != null) {
                         pointsTextView.setBackgroundResource(R.drawable.cell_border_yellow); // Yellow highlight
@@ -614,6 +668,27 @@ public class RoundActivity extends AppCompatActivity {
         }
     }
 
+    /**
+     * Shows, in the points cell of every open category the current dice do not score, the chance of scoring it
+     * if the selected dice are kept and the others rolled again.
+     *
+     * @param selectedDice The dice selected in this roll, kept along with the dice kept earlier.
+     */
+    private void showCompletionOdds(List<Integer> selectedDice) {
+        List<Integer> keptDice = new ArrayList<>(engine.getKeptDice());
+        keptDice.addAll(selectedDice);
+        List<Integer> currentDice = engine.getCurrentDice();
+        CompletionOdds odds = scoreCard.getCompletionOdds(ScoreTable.pack(keptDice), GameEngine.MAX_ROLLS - engine.getRollCount());
+
+        for (Map.Entry<String, TextView> entry : pointsTextViews.entrySet()) {
+            Category category = Category.fromName(entry.getKey());
+            if (odds.isOpen(category) && ScoreCard.calculatePoints(category, currentDice) == 0) {
+                long percent = Math.round(odds.getProbability(category) * 100);
+                entry.getValue().setText(percent > 0 ? percent + "%" : "");
+            }
+        }
+    }
+
     /**
      * Resets visual highlights for all scoring categories to their default styles, ensuring a clean UI state.
      * Reference: Help from ChatGPT
@@ -643,22 +718,43 @@ public class RoundActivity extends AppCompatActivity {
         resetCategoryHighlights();
         updateScoreCard();
 
-        Dice dice = new Dice();
-        // Clear the rolledDice list and roll only the unselected dice
-        rolledDice.clear();
-        List<Integer> newRolls = dice.rollDice(5-finalDice.size());
-        rolledDice.addAll(newRolls); // Add new rolls to rolledDice
+        // Roll only the unselected dice
+        engine.roll();
 
-        postRoll();
+        postRoll(true);
     }
 
     /**
-     * Handles post-roll actions, updating the dice images, highlighting scoring categories, and managing player actions or Computer decisions.
+     * Maps a die value to the image showing it.
+     *
+     * @param value The die value, from 1 to 6.
+     * @return The ID of the drawable of the die.
      */
-    private void postRoll() {
-        Logger.log("Rolling roll number: " + rollNumberCounter);
-        Logger.log("Rolled dice: " + rolledDice.toString());
+    private static int drawableOf(int value) {
+        switch (value) {
+            case 2:
+                return R.drawable.two;
+            case 3:
+                return R.drawable.three;
+            case 4:
+                return R.drawable.four;
+            case 5:
+                return R.drawable.five;
+            case 6:
+                return R.drawable.six;
+            default:
+                return R.drawable.one;
+        }
+    }
 
+    /**
+     * Handles post-roll actions, updating the dice images, highlighting scoring categories, and managing player actions or Computer decisions.
+     *
+     * @param animate True to spin the rolled dice, false to show them at once, e.g. when the screen is recreated.
+     */
+    private void postRoll(boolean animate) {
+        // Copy the roll, since a Computer decision below moves the kept dice out of it
+        List<Integer> rolledDice = new ArrayList<>(engine.getRolledDice());
         List<ImageButton> dice = List.of(dice1, dice2, dice3, dice4, dice5);
         List<ImageButton> remainingDiceButtons = new ArrayList<>();
 
@@ -671,73 +767,53 @@ public class RoundActivity extends AppCompatActivity {
 
         // Update the dice images for the newly rolled dice
         for (int i = 0; i < rolledDice.size(); i++) {
-            int newDieValue = rolledDice.get(i);
-            int drawableId;
-
             // Map the new dice value to the correct drawable
-            switch (newDieValue) {
-                case 1:
-                    drawableId = R.drawable.one;
-                    break;
-                case 2:
-                    drawableId = R.drawable.two;
-                    break;
-                case 3:
-                    drawableId = R.drawable.three;
-                    break;
-                case 4:
-                    drawableId = R.drawable.four;
-                    break;
-                case 5:
-                    drawableId = R.drawable.five;
-                    break;
-                case 6:
-                    drawableId = R.drawable.six;
-                    break;
-                default:
-                    drawableId = R.drawable.one;
-            }
+            int drawableId = drawableOf(rolledDice.get(i));
 
             // Update the dice image for the rolled dice
             ImageButton diceButton = remainingDiceButtons.get(i);
-            int finalDrawableId = drawableId;
+            if (!animate) {
+                diceButton.setImageResource(drawableId);
+                continue;
+            }
 
             // Apply rotation animation
             diceButton.animate()
                     .rotationBy(360)
                     .setDuration(500)
-                    .withEndAction(() -> diceButton.setImageResource(finalDrawableId))
+                    .withEndAction(() -> diceButton.setImageResource(drawableId))
                     .start();
         }
 
         rollDiceButton.setVisibility(View.GONE);
         setManuallyButton.setVisibility(View.GONE);
 
-        // Combine finalDice and rolledDice to get the current state of all dice
-        List<Integer> currentDice = new ArrayList<>(finalDice);
-        currentDice.addAll(rolledDice);
+        // Combine the kept and rolled dice to get the current state of all dice
+        List<Integer> currentDice = engine.getCurrentDice();
 
 
         // Highlight categories with potential points based on current dice state
         highlightCategoriesWithPoints(currentDice);
 
+        Player currentPlayer = engine.getCurrentPlayer();
         if (currentPlayer instanceof Human) {
             hintButton.setVisibility(View.VISIBLE);
 
             // Set up hint button if currentPlayer is Human
             Human human = (Human) currentPlayer;
-            if(rollNumberCounter == 1){
+            if(engine.getRollCount() == 1){
                 hintButton.setOnClickListener(v -> {
-                    String advice = human.firstRollHelp(currentDice);
+                    String advice = human.firstRollHelp(scoreCard, currentDice);
                     new AlertDialog.Builder(this)
                             .setTitle("Hint")
                             .setMessage(advice)
                             .setPositiveButton("OK", (dialog, which) -> dialog.dismiss())
                             .show();
                 });
-            } else if(rollNumberCounter == 2) {
+            } else if(engine.getRollCount() == 2) {
+                List<Integer> keptDice = new ArrayList<>(engine.getKeptDice());
                 hintButton.setOnClickListener(v -> {
-                    String advice = human.secondRollHelp(rolledDice, finalDice);
+                    String advice = human.secondRollHelp(scoreCard, rolledDice, keptDice);
                     new AlertDialog.Builder(this)
                             .setTitle("Hint")
                             .setMessage(advice)
@@ -746,7 +822,7 @@ public class RoundActivity extends AppCompatActivity {
                 });
             } else {
                 hintButton.setOnClickListener(v1 ->{
-                    Pair<String, Integer> bestHand = ScoreCard.getBestHands(currentDice);
+                    Pair<String, Integer> bestHand = scoreCard.getBestHands(currentDice);
                     if(!bestHand.getKey().isEmpty()){
                         new AlertDialog.Builder(this)
                                 .setTitle("Hint")
@@ -765,7 +841,7 @@ public class RoundActivity extends AppCompatActivity {
             }
 
 
-            if(rollNumberCounter < 3) {
+            if(engine.getPhase() == GameEngine.Phase.KEEP) {
                 standButton.setVisibility(View.VISIBLE);
                 rollAgainButton.setVisibility(View.VISIBLE);
             }
@@ -775,7 +851,7 @@ public class RoundActivity extends AppCompatActivity {
                 }
 
                 hintButton.setOnClickListener(v1 ->{
-                    Pair<String, Integer> bestHand = ScoreCard.getBestHands(currentDice);
+                    Pair<String, Integer> bestHand = scoreCard.getBestHands(currentDice);
                     if(!bestHand.getKey().isEmpty()){
                         new AlertDialog.Builder(this)
                                 .setTitle("Hint")
@@ -800,15 +876,13 @@ public class RoundActivity extends AppCompatActivity {
                     Button scoreButton = entry.getValue();
                     int points = ScoreCard.calculatePoints(category, currentDice);
 
-                    if (points > 0 && ScoreCard.isCategoryAvailable(category)) {
+                    if (points > 0 && scoreCard.isCategoryAvailable(category)) {
                         hasCategoryToScore = true; // Set the flag to true if a category is available
                         scoreButton.setVisibility(View.VISIBLE);
 
                         scoreButton.setOnClickListener(scoreView -> {
                             // Update the scorecard when this button is clicked
-                            String winner = "Human";
-                            int roundNumber = Round.getRoundNumber();
-                            ScoreCard.chooseCategory(category, currentDice, winner, roundNumber);
+                            engine.score(Category.fromName(category));
 
                             // Hide all score buttons after one is clicked
                             for (Button button : scoreButtons.values()) {
@@ -826,17 +900,9 @@ public class RoundActivity extends AppCompatActivity {
                     }
                 }
 
-                // If no category is available, show an alert dialog
+                // If no category is available, show an alert dialog and end the turn
                 if (!hasCategoryToScore) {
-                    new AlertDialog.Builder(this)
-                            .setTitle("No Category Available")
-                            .setMessage("There are no available categories to score. Please check your options.")
-                            .setPositiveButton("OK", (dialog, which) -> {
-                                handleGameOrRoundEnd();
-                                dialog.dismiss();
-                            })
-                            .show();
-
+                    showNoCategoryDialog();
                 }
             }
 
@@ -844,9 +910,10 @@ public class RoundActivity extends AppCompatActivity {
                 // Hide the stand button after it is pressed
                 standButton.setVisibility(View.GONE);
                 rollAgainButton.setVisibility(View.GONE);
+                engine.stand();
 
                 hintButton.setOnClickListener(v1 ->{
-                    Pair<String, Integer> bestHand = ScoreCard.getBestHands(currentDice);
+                    Pair<String, Integer> bestHand = scoreCard.getBestHands(currentDice);
                     if(!bestHand.getKey().isEmpty()){
                         new AlertDialog.Builder(this)
                                 .setTitle("Hint")
@@ -875,15 +942,13 @@ public class RoundActivity extends AppCompatActivity {
                     Button scoreButton = entry.getValue();
                     int points = ScoreCard.calculatePoints(category, currentDice);
 
-                    if (points > 0 && ScoreCard.isCategoryAvailable(category)) {
+                    if (points > 0 && scoreCard.isCategoryAvailable(category)) {
                         hasCategoryToScore = true; // Set the flag to true if a category is available
                         scoreButton.setVisibility(View.VISIBLE);
 
                         scoreButton.setOnClickListener(scoreView -> {
                             // Update the scorecard when this button is clicked
-                            String winner = "Human";
-                            int roundNumber = Round.getRoundNumber();
-                            ScoreCard.chooseCategory(category, currentDice, winner, roundNumber);
+                            engine.score(Category.fromName(category));
 
                             // Hide all score buttons after one is clicked
                             for (Button button : scoreButtons.values()) {
@@ -901,18 +966,9 @@ public class RoundActivity extends AppCompatActivity {
                     }
                 }
 
-                // If no category is available, show an alert dialog
+                // If no category is available, show an alert dialog and end the turn
                 if (!hasCategoryToScore) {
-                    new AlertDialog.Builder(this)
-                            .setTitle("No Category Available")
-                            .setMessage("There are no available categories to score. Please check your options.")
-                            .setPositiveButton("OK", (dialog, which) -> {
-                                handleGameOrRoundEnd();
-                                dialog.dismiss();
-                            })
-                            .show();
-
-                    handleGameOrRoundEnd();
+                    showNoCategoryDialog();
                 }
             });
 
@@ -925,39 +981,20 @@ public class RoundActivity extends AppCompatActivity {
             });
         }
         else {
-            Computer computer = (Computer) currentPlayer;
-
-            if (rollNumberCounter == 1) {
-                Pair<List<Integer>, List<Integer>> pair = computer.firstRollMove(currentDice);
-                List<Integer> computerKeptDice = pair.getKey(); // Dice the computer chooses to keep
-                Logger.log("Computer kept: " + computerKeptDice.toString());
+            if (engine.getPhase() == GameEngine.Phase.KEEP) {
+                List<Integer> keptBefore = new ArrayList<>(engine.getKeptDice());
+                engine.playComputerKeep();
 
-                if (computerKeptDice.size() == 5) {
-                    Pair<String, Integer> bestHand = ScoreCard.getBestHands(currentDice);
-                    if(!bestHand.getKey().isEmpty())
-                        Logger.log("Computer chooses to score " + bestHand.getKey() + " with " + bestHand.getValue() + " points.");
-                    else
-                        Logger.log("Computer has no category to score.");
-
-                    rollDiceButton.postDelayed(() -> {
-                        int roundNumber = Round.getRoundNumber();
-                        String winner = "Computer";
-                        String category = ScoreCard.getBestHands(computerKeptDice).getKey();
-                        ScoreCard.chooseCategory(category, currentDice, winner, roundNumber);
-                        updateScoreCard();
-                        resetCategoryHighlights();
-
-                        handleGameOrRoundEnd();
-                    }, 1000);
+                if (engine.getPhase() == GameEngine.Phase.SCORE) {
+                    scoreComputerTurn();
                 } else {
-                    Logger.log("Computer is reerolling: " + pair.getValue());
-                    // Track which dice values the computer chose to keep
-                    List<Integer> remainingKeptDice = new ArrayList<>(computerKeptDice);
+                    // Track which dice values the computer chose to keep from this roll
+                    List<Integer> remainingKeptDice = ScoreCard.subtractList(engine.getKeptDice(), keptBefore);
 
                     // Iterate through rolled dice to match and highlight the corresponding buttons
                     for (int i = 0; i < rolledDice.size(); i++) {
                         int diceValue = rolledDice.get(i);
-                        ImageButton diceButton = dice.get(i); // Get the button corresponding to this dice
+                        ImageButton diceButton = remainingDiceButtons.get(i); // Get the button corresponding to this dice
 
                         if (!remainingKeptDice.isEmpty() && remainingKeptDice.contains(diceValue)) {
                             // Match dice value to the first occurrence in remainingKeptDice
@@ -967,7 +1004,6 @@ public class RoundActivity extends AppCompatActivity {
                                 if (!finalDiceButtons.contains(diceButton)) {
                                     finalDiceButtons.add(diceButton); // Add button to finalDiceButtons
                                 }
-                                finalDice.add(diceValue);
                             }, 1000);
                         } else {
                             diceButton.postDelayed(() -> diceButton.setAlpha(1.0f), 1000);
@@ -975,136 +1011,79 @@ public class RoundActivity extends AppCompatActivity {
                     }
 
                     rollDiceButton.postDelayed(() -> {
-                        rollNumberCounter++;
                         rollDiceButton.setVisibility(View.VISIBLE);
                         setManuallyButton.setVisibility(View.VISIBLE);
 
-                        rollNumber.setText("Roll: " + rollNumberCounter);
-                    }, 1000);
-                }
-            } else if (rollNumberCounter == 2) {
-                Pair<List<Integer>, List<Integer>> pair = computer.secondRollMove(rolledDice, finalDice);
-                List<Integer> computerKeptDice = pair.getKey(); // Updated list of dice the computer chooses to keep
-                Logger.log("Computer kept: " + computerKeptDice.toString());
-
-                if (computerKeptDice.size() == 5) {
-                    Pair<String, Integer> bestHand = ScoreCard.getBestHands(currentDice);
-                    if(!bestHand.getKey().isEmpty())
-                        Logger.log("Computer chooses to score " + bestHand.getKey() + " with " + bestHand.getValue() + " points.");
-                    else
-                        Logger.log("Computer has no category to score.");
-
-                    rollDiceButton.postDelayed(() -> {
-                        int roundNumber = Round.getRoundNumber();
-                        String winner = "Computer";
-                        String category = ScoreCard.getBestHands(computerKeptDice).getKey();
-                        ScoreCard.chooseCategory(category, currentDice, winner, roundNumber);
-                        updateScoreCard();
-                        resetCategoryHighlights();
-
-                        handleGameOrRoundEnd();
-                    }, 1000);
-                } else {
-                    Logger.log("Computer is reerolling: " + pair.getValue());
-
-                    // Track which dice values the computer chose to keep
-                    List<Integer> remainingKeptDice = new ArrayList<>(computerKeptDice);
-
-                    for(int die : finalDice) {
-                        remainingKeptDice.remove((Integer) die);
-                    }
-
-                    // Iterate through rolled dice to match and highlight the corresponding buttons
-                    for (int i = 0; i < rolledDice.size(); i++) {
-                        int diceValue = rolledDice.get(i);
-                        ImageButton diceButton = remainingDiceButtons.get(i); // Get the button corresponding to this dice
-
-                        if (!remainingKeptDice.isEmpty() && remainingKeptDice.contains(diceValue)) {
-                            // Match dice value to the first occurrence in remainingKeptDice
-                            remainingKeptDice.remove((Integer) diceValue); // Remove matched value
-                            diceButton.postDelayed(() -> {
-                                diceButton.setAlpha(0.5f);
-                                if (!finalDiceButtons.contains(diceButton)) {
-                                    finalDiceButtons.add(diceButton); // Add button to finalDiceButtons
-                                }
-                                finalDice.add(diceValue);
-                            }, 1000);
-                        }
-                    }
-
-                    rollDiceButton.postDelayed(() -> {
-                        rollNumberCounter++;
-                        rollDiceButton.setVisibility(View.VISIBLE);
-                        setManuallyButton.setVisibility(View.VISIBLE);
-
-                        rollNumber.setText("Roll: " + rollNumberCounter);
+                        showRollNumber();
                     }, 1000);
                 }
             } else {
-                Pair<String, Integer> bestHand = ScoreCard.getBestHands(currentDice);
-                if(!bestHand.getKey().isEmpty())
-                    Logger.log("Computer chooses to score " + bestHand.getKey() + " with " + bestHand.getValue() + " points.");
-                else
-                    Logger.log("Computer has no category to score.");
+                scoreComputerTurn();
+            }
+        }
+    }
 
-                rollDiceButton.setVisibility(View.GONE);
-                setManuallyButton.setVisibility(View.GONE);
+    /**
+     * Lets the Computer score its final dice after a short delay, then moves on to the next turn.
+     */
+    private void scoreComputerTurn() {
+        rollDiceButton.setVisibility(View.GONE);
+        setManuallyButton.setVisibility(View.GONE);
 
-                finalDice.addAll(rolledDice);
-                rollDiceButton.postDelayed(() -> {
-                    int roundNumber = Round.getRoundNumber();
-                    String winner = "Computer";
-                    String category = ScoreCard.getBestHands(finalDice).getKey();
-                    if(!category.isEmpty())
-                        ScoreCard.chooseCategory(category, currentDice, winner, roundNumber);
-                    updateScoreCard();
-                    resetCategoryHighlights();
+        rollDiceButton.postDelayed(() -> {
+            engine.playComputerScore();
+            updateScoreCard();
+            resetCategoryHighlights();
 
-                    handleGameOrRoundEnd();
-                }, 1000);
-            }
+            handleGameOrRoundEnd();
+        }, 1000);
+    }
 
-        }
+    /**
+     * Tells the player that no category can be scored, and ends the turn without a score once acknowledged.
+     */
+    private void showNoCategoryDialog() {
+        new AlertDialog.Builder(this)
+                .setTitle("No Category Available")
+                .setMessage("There are no available categories to score. Please check your options.")
+                .setPositiveButton("OK", (dialog, which) -> {
+                    engine.pass();
+                    handleGameOrRoundEnd();
+                    dialog.dismiss();
+                })
+                .show();
     }
 
     /**
      * Determines whether to end the game, proceed to the next round, or transition to the next player based on the current game state.
      */
     private void handleGameOrRoundEnd() {
-        if (round != null) {
-            if (!ScoreCard.isAllCategoriesFilled()) {
-                proceedToNextPlayer(round);
-            } else {
+        switch (engine.getPhase()) {
+            case GAME_OVER:
                 showGameOverDialog();
-            }
-        } else {
-            if (!ScoreCard.isAllCategoriesFilled()) {
+                break;
+            case ROUND_OVER:
                 showRoundOverDialog();
-            } else {
-                showGameOverDialog();
-            }
+                break;
+            default:
+                proceedToNextPlayer();
+                break;
         }
     }
 
     /**
-     * Advances to the next player's turn in the current round and starts a new RoundActivity with the next player.
-     *
-     * @param round The current round instance used to determine the next player.
+     * Advances to the next player's turn in the current round on this screen.
      */
-    private void proceedToNextPlayer(Round round) {
-        Intent intent = new Intent(this, RoundActivity.class);
-        intent.putExtra("player", round.getSecondPlayer());
-        startActivity(intent);
-        overridePendingTransition(0, 0);
-        finish();
+    private void proceedToNextPlayer() {
+        showTurn();
     }
 
     /**
      * Displays a dialog summarizing the game results, including final scores and the winner, and resets the game upon dismissal.
      */
     private void showGameOverDialog() {
-        int humanScore = ScoreCard.getTotalScore("Human");
-        int computerScore = ScoreCard.getTotalScore("Computer");
+        int humanScore = scoreCard.getTotalScore("Human");
+        int computerScore = scoreCard.getTotalScore("Computer");
 
         String winnerMessage = determineWinnerMessage(humanScore, computerScore);
 
@@ -1122,8 +1101,8 @@ public class RoundActivity extends AppCompatActivity {
      * Displays a dialog summarizing the round results, including scores and the next round's first player, and prompts to save the game.
      */
     private void showRoundOverDialog() {
-        int humanScore = ScoreCard.getTotalScore("Human");
-        int computerScore = ScoreCard.getTotalScore("Computer");
+        int humanScore = scoreCard.getTotalScore("Human");
+        int computerScore = scoreCard.getTotalScore("Computer");
 
         String winnerMessage;
         if (humanScore > computerScore) {
@@ -1137,7 +1116,7 @@ public class RoundActivity extends AppCompatActivity {
         // Show the Round Over dialog
         new AlertDialog.Builder(this)
                 .setTitle("Round Over")
-                .setMessage("Round " + Round.getRoundNumber() + " is over!\n" +
+                .setMessage("Round " + game.getRoundNumber() + " is over!\n" +
                         "Human Score: " + humanScore + "\n" +
                         "Computer Score: " + computerScore + "\n" +
                         winnerMessage)
@@ -1187,9 +1166,18 @@ public class RoundActivity extends AppCompatActivity {
             String fileName = input.getText().toString().trim();
 
             if (!fileName.isEmpty()) {
-                Round.incrementRound();
                 Serialization serialization = new Serialization();
-                serialization.saveGame(this, fileName); // Save game
+                try {
+                    serialization.saveGame(this, engine, fileName); // Save game
+                } catch (IOException e) {
+                    Logger.log("Failed to save game.");
+                    new AlertDialog.Builder(this)
+                            .setTitle("Error")
+                            .setMessage("The game could not be saved.")
+                            .setPositiveButton("OK", (innerDialog, innerWhich) -> proceedToNextRound(humanScore, computerScore))
+                            .show();
+                    return;
+                }
 
                 // Show confirmation dialog for successful save
                 new AlertDialog.Builder(this)
@@ -1228,26 +1216,46 @@ public class RoundActivity extends AppCompatActivity {
      * @param computerScore The Computer player's total score.
      */
     private void proceedToNextRound(int humanScore, int computerScore) {
-        Round.incrementRound(); // Increment the round number
+        Player first = engine.getNextRoundFirstPlayer();
 
-        if(humanScore == computerScore) {
-            Intent intent = new Intent(this, DecideTurnActivity.class);
-            startActivity(intent);
+        if(first == null) {
+            showTieDialog();
         } else {
-            Round newRound;
-            if (humanScore > computerScore) {
-                newRound = new Round(new Computer(), new Human());
-            } else {
-                newRound = new Round(new Human(), new Computer());
-            }
-            Intent intent = new Intent(this, RoundActivity.class);
-            intent.putExtra("round", newRound);
-            startActivity(intent);
-            overridePendingTransition(0, 0);
-            finish();
+            // The player with the lower total goes first
+            Player second = first == engine.getFirstPlayer() ? engine.getSecondPlayer() : engine.getFirstPlayer();
+            engine.startNextRound(first, second);
+            showTurn();
         }
     }
 
+    /**
+     * Lets the player decide who starts the next round when the totals are tied: by a dice roll, or by choosing a player.
+     */
+    private void showTieDialog() {
+        Player human = engine.getFirstPlayer() instanceof Human ? engine.getFirstPlayer() : engine.getSecondPlayer();
+        Player computer = human == engine.getFirstPlayer() ? engine.getSecondPlayer() : engine.getFirstPlayer();
+
+        new AlertDialog.Builder(this)
+                .setTitle("Tie")
+                .setMessage("The scores are tied. Who goes first in the next round?")
+                .setCancelable(false)
+                .setPositiveButton("Roll", (dialog, which) -> {
+                    // Each player rolls a die until one rolls higher
+                    engine.startNextRound();
+                    Logger.log("%s Goes First!", engine.getCurrentPlayer().getName());
+                    showTurn();
+                })
+                .setNeutralButton(human.getName(), (dialog, which) -> {
+                    engine.startNextRound(human, computer);
+                    showTurn();
+                })
+                .setNegativeButton(computer.getName(), (dialog, which) -> {
+                    engine.startNextRound(computer, human);
+                    showTurn();
+                })
+                .show();
+    }
+
     /**
      * Determines the winner message based on the final scores, declaring a winner or tie.
      *
@@ -1273,11 +1281,34 @@ public class RoundActivity extends AppCompatActivity {
      * - Navigates back to the MainActivity to start a new game.
      */
     private void resetGame() {
-        Round.setRoundNumber(1);
-        ScoreCard.clearScoreBoard();
+        AutosaveJournal.getInstance(getFilesDir()).discard(); // The game is over or was saved
+        GameSessions.remove(sessionId);
+        game.reset();
         Intent intent = new Intent(this, MainActivity.class);
         startActivity(intent);
         finish();
     }
 
+    /**
+     * Saves the session of the screen, so that the game can be restored if the process is killed.
+     *
+     * @param outState The state of the screen being saved.
+     */
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        SessionSnapshot.save(outState, sessionId);
+    }
+
+    /**
+     * Forgets the session once the screen is closed for good, e.g. with the back button; no other screen plays on with it.
+     */
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (isFinishing()) {
+            GameSessions.remove(sessionId);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.example.yahtzee.View;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import com.example.yahtzee.Model.GameSession;
+import com.example.yahtzee.Model.GameSessions;
+import com.example.yahtzee.Model.Logger;
+
+/**
+ * Parcelable copy of a {@link GameSession}, saved with a screen's state only to restore the session if the process
+ * is killed while the screen is in the background.
+ * <p>
+ * Screens pass each other the session ID in the {@value #EXTRA_SESSION} extra and look the session up with
+ * {@link #resolve(Intent, Bundle)}; the game itself never goes through an Intent.
+ * </p>
+ */
+public final class SessionSnapshot implements Parcelable {
+
+    // *******************************
+    // Class Constants
+    // *******************************
+
+    /**
+     * Intent extra and saved-state key holding the session ID.
+     */
+    public static final String EXTRA_SESSION = "session";
+
+    /**
+     * Saved-state key holding the snapshot.
+     */
+    private static final String KEY_SNAPSHOT = "sessionSnapshot";
+
+    public static final Creator<SessionSnapshot> CREATOR = new Creator<SessionSnapshot>() {
+        @Override
+        public SessionSnapshot createFromParcel(Parcel source) {
+            return new SessionSnapshot(source.createByteArray());
+        }
+
+        @Override
+        public SessionSnapshot[] newArray(int size) {
+            return new SessionSnapshot[size];
+        }
+    };
+
+    // *******************************
+    // Instance Variables
+    // *******************************
+
+    // The session in the binary save format.
+    private final byte[] bytes;
+
+    // *******************************
+    // Constructors
+    // *******************************
+
+    private SessionSnapshot(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    // *******************************
+    // Utility Methods
+    // *******************************
+
+    /**
+     * Finds the session of a screen: the one of its saved state or Intent if it is still registered, otherwise the
+     * one restored from its saved snapshot, registered again.
+     *
+     * @param intent             The Intent that started the screen.
+     * @param savedInstanceState The saved state of the screen, or null.
+     * @return The ID of the session, or {@link GameSessions#NO_SESSION} if there is none.
+     */
+    public static long resolve(Intent intent, Bundle savedInstanceState) {
+        long id = savedInstanceState != null ? savedInstanceState.getLong(EXTRA_SESSION, GameSessions.NO_SESSION)
+                : intent.getLongExtra(EXTRA_SESSION, GameSessions.NO_SESSION);
+        if (GameSessions.get(id) != null) {
+            return id;
+        }
+        if (savedInstanceState == null) {
+            return GameSessions.NO_SESSION;
+        }
+
+        SessionSnapshot snapshot = savedInstanceState.getParcelable(KEY_SNAPSHOT);
+        if (snapshot == null) {
+            return GameSessions.NO_SESSION;
+        }
+        try {
+            return GameSessions.register(GameSession.fromBytes(snapshot.bytes));
+        } catch (IllegalArgumentException e) {
+            Logger.log("Failed to restore game: %s", String.valueOf(e.getMessage()));
+            return GameSessions.NO_SESSION;
+        }
+    }
+
+    /**
+     * Saves the session ID of a screen and a snapshot of its session.
+     *
+     * @param outState The state of the screen being saved.
+     * @param id       The ID of the session.
+     */
+    public static void save(Bundle outState, long id) {
+        GameSession session = GameSessions.get(id);
+        if (session != null) {
+            outState.putLong(EXTRA_SESSION, id);
+            outState.putParcelable(KEY_SNAPSHOT, new SessionSnapshot(session.toBytes()));
+        }
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeByteArray(bytes);
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.yahtzee.Model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests of the autosave snapshot and journal of {@link AutosaveJournal}.
+ */
+public class AutosaveJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recover_ignoresPartialLastRecord() throws Exception {
+        File directory = folder.getRoot();
+        GameEngine engine = TestGames.newGame(7);
+        try (AutosaveJournal journal = new AutosaveJournal(directory)) {
+            journal.attach(engine);
+            engine.playComputerTurn();
+            journal.flush();
+        }
+        File journalFile = new File(directory, AutosaveJournal.JOURNAL_FILE_NAME);
+        byte[] records = Files.readAllBytes(journalFile.toPath());
+        assertEquals(AutosaveJournal.RECORD_SIZE, records.length);
+
+        // A crash in the middle of appending the next record leaves part of it behind.
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(Arrays.copyOf(records, AutosaveJournal.RECORD_SIZE / 2));
+        }
+
+        GameEngine recovered = AutosaveJournal.recover(directory);
+        assertEquals(engine.getScoreCard().getState(), recovered.getScoreCard().getState());
+        assertEquals(engine.getRoundNumber(), recovered.getRoundNumber());
+        assertEquals(engine.getCurrentPlayer().getName(), recovered.getCurrentPlayer().getName());
+        assertEquals(GameEngine.Phase.ROLL, recovered.getPhase());
+        assertEquals(engine.getDice().getDrawCount(), recovered.getDice().getDrawCount());
+    }
+
+    @Test
+    public void attach_sameEngineTwiceJournalsOnce() throws IOException, InterruptedException {
+        File directory = folder.getRoot();
+        GameEngine engine = TestGames.newGame(7);
+        try (AutosaveJournal journal = new AutosaveJournal(directory)) {
+            journal.attach(engine);
+            journal.attach(engine);
+            engine.playComputerTurn();
+            journal.flush();
+        }
+        assertEquals(AutosaveJournal.RECORD_SIZE, new File(directory, AutosaveJournal.JOURNAL_FILE_NAME).length());
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.yahtzee.Model;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Equivalence tests of {@link DecisionEngine} against the keeps of the heuristics it replaced.
+ */
+public class DecisionEngineTest {
+
+    /**
+     * Seed of the sampled positions.
+     */
+    private static final long SEED = 2021;
+
+    /**
+     * Keeps after the first roll, recorded from the former {@code Computer.firstRollMove} over the sampled
+     * positions. Each keep is a packed histogram written in octal, so digit i from the right is the count of face i.
+     */
+    private static final int[] FIRST_KEEPS = {
+            0020000, 0110110, 0000022, 0001111, 0001110, 0200000, 0002000, 0030002, 0010000, 0000100,
+            0111110, 0200000, 0111000, 0111010, 0111000, 0111010, 0030000, 0002000, 0002000, 0002020,
+            0000200, 0200000, 0030002, 0000020, 0000020, 0111100, 0002200, 0100000, 0200000, 0000111,
+            0111110, 0010111, 0000002, 0001111, 0200020, 0020000, 0011110, 0200000, 0000200, 0020002,
+            0220000, 0110110, 0002000, 0111100, 0011111, 0111000, 0000200, 0000020, 0001110, 0011011,
+            0011110, 0000002, 0030000, 0000022, 0000003, 0000020, 0030000, 0200000, 0000020, 0200000,
+            0002000, 0011101, 0111100, 0200020, 0111010, 0001111, 0020200, 0300000, 0111010, 0200000,
+            0200002, 0000022, 0000002, 0000002, 0010111, 0200200, 0121100, 0111010, 0020000, 0000300,
+            0000200, 0000200, 0000300, 0010111, 0040000, 0011100, 0020000, 0000030, 0200000, 0000200,
+            0002200, 0111100, 0000002, 0400000, 0030000, 0011120, 0000400, 0020000, 0230000, 0200000,
+            0200000, 0000003, 0111000, 0110110, 0200000, 0000002, 0011120, 0000020, 0022000, 0000200,
+            0002000, 0200000, 0000200, 0200000, 0010111, 0003000, 0030000, 0111110, 0003000, 0300000,
+            0101111, 0300000, 0001300, 0200000, 0020000, 0020000, 0000200, 0220000, 0001000, 0200030,
+            0220000, 0111010, 0112100, 0200020, 0300000, 0200000, 0200000, 0000200, 0200000, 0020020,
+            0020000, 0101110, 0020300, 0011111, 0300000, 0000022, 0111100, 0030000, 0020002, 0111010,
+            0011011, 0000002, 0002000, 0000200, 0022000, 0021110, 0000002, 0110110, 0000200, 0111110,
+            0002000, 0200000, 0000002, 0300000, 0000020, 0110110, 0030000, 0200020, 0000002, 0000000,
+            0020000, 0200000, 0002000, 0011011, 0111000, 0400000, 0200000, 0111000, 0000220, 0110110,
+            0003020, 0020000, 0000002, 0200000, 0111010, 0111100, 0111100, 0001112, 0010111, 0030000,
+            0011100, 0030000, 0000040, 0003000, 0000020, 0100000, 0000111, 0000030, 0000003, 0001111
+    };
+
+    /**
+     * Keeps after the second roll, recorded from the former {@code Computer.secondRollMove} over the same positions,
+     * the dice kept after the first roll being those of {@link #FIRST_KEEPS}.
+     */
+    private static final int[] SECOND_KEEPS = {
+            0020000, 0110110, 0000022, 0001111, 0001120, 0300000, 0002002, 0030002, 0210000, 0000200,
+            0111110, 0310000, 0211100, 0111110, 0111000, 0111010, 0030000, 0022000, 0002000, 0002020,
+            0000300, 0301000, 0030002, 0000020, 0000030, 0111100, 0002300, 0200000, 0300000, 0000111,
+            0111110, 0010111, 0000002, 0001111, 0200020, 0020000, 0011110, 0200000, 0000300, 0020003,
+            0230000, 0110110, 0004000, 0111100, 0011111, 0111100, 0200300, 0000020, 0003110, 0011011,
+            0011110, 0000002, 0030000, 0000022, 0001004, 0000020, 0040000, 0200020, 0002020, 0200000,
+            0103000, 0011101, 0111110, 0200030, 0111010, 0011111, 0020200, 0301000, 0111010, 0200000,
+            0200002, 0000022, 0000003, 0002002, 0010111, 0200200, 0121100, 0111010, 0020000, 0000300,
+            0000200, 0200200, 0000300, 0010111, 0040000, 0011100, 0040000, 0000030, 0202000, 0100200,
+            0002200, 0111100, 0000002, 0500000, 0030000, 0011120, 0001400, 0020002, 0230000, 0200000,
+            0200020, 0000003, 0111010, 0110110, 0202000, 0000004, 0011120, 0100030, 0022000, 0000200,
+            0003000, 0200000, 0000220, 0200200, 0011111, 0003000, 0040000, 0111110, 0003020, 0300000,
+            0101111, 0300000, 0001300, 0200000, 0020000, 0020000, 0000300, 0220000, 0002000, 0200030,
+            0220000, 0111010, 0112100, 0200020, 0301000, 0300000, 0300000, 0000200, 0300000, 0020030,
+            0020000, 0101110, 0020300, 0011111, 0300000, 0000032, 0111100, 0040000, 0020002, 0111010,
+            0011011, 0000002, 0112100, 0002300, 0032000, 0021110, 0000003, 0110110, 0000200, 0111110,
+            0003000, 0200000, 0000003, 0300000, 0000040, 0110110, 0131000, 0200030, 0000002, 0030000,
+            0020000, 0300200, 0001110, 0011011, 0112100, 0400000, 0200000, 0211100, 0000320, 0110110,
+            0003020, 0020000, 0200003, 0200000, 0111010, 0111100, 0111100, 0001112, 0010111, 0130000,
+            0111200, 0030000, 0000040, 0003000, 0000020, 0200002, 0000112, 0000050, 0000003, 0001111
+    };
+
+    /**
+     * Creates a scorecard in which only some categories are open.
+     *
+     * @param openMask Bitmask of the open categories.
+     * @return The scorecard.
+     */
+    private static ScoreCard scoreCardWithOpen(int openMask) {
+        ScoreCardState state = new ScoreCardState();
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            if ((openMask & (1 << category)) == 0) {
+                state.fill(category, 0, 0, 1);
+            }
+        }
+        ScoreCard scoreCard = new ScoreCard("Computer", "Human");
+        scoreCard.setState(state);
+        return scoreCard;
+    }
+
+    /**
+     * Checks that a move targets an open category with positive expected points, or nothing at all.
+     *
+     * @param position Description of the position, for the failure message.
+     * @param openMask Bitmask of the open categories.
+     * @param move     The move.
+     */
+    private static void assertTargetsOpenCategory(String position, int openMask, Move move) {
+        if (move.getTarget() == null) {
+            assertEquals(position, 0, move.getExpectedValue(), 0);
+        } else {
+            assertTrue(position, (openMask & (1 << move.getTarget().ordinal())) != 0);
+            assertTrue(position, move.getExpectedValue() > 0);
+        }
+    }
+
+    @Test
+    public void decide_matchesRecordedKeeps() {
+        Random random = new Random(SEED);
+        int[] dice = new int[5];
+        for (int sample = 0; sample < FIRST_KEEPS.length; sample++) {
+            int openMask = 1 + random.nextInt(ScoreCardState.ALL_CATEGORIES);
+            for (int i = 0; i < dice.length; i++) {
+                dice[i] = 1 + random.nextInt(6);
+            }
+            ScoreCard scoreCard = scoreCardWithOpen(openMask);
+            int packedDice = ScoreTable.pack(dice, 0, dice.length);
+            String position = "Sample " + sample + ", open mask " + Integer.toBinaryString(openMask);
+
+            Move first = DecisionEngine.decide(scoreCard, 0, packedDice, 2);
+            assertEquals(position + ", first roll " + ScoreTable.toList(packedDice), FIRST_KEEPS[sample], first.getKeep());
+            assertTargetsOpenCategory(position, openMask, first);
+
+            int rerolled = dice.length - ScoreTable.toList(FIRST_KEEPS[sample]).size();
+            for (int i = 0; i < rerolled; i++) {
+                dice[i] = 1 + random.nextInt(6);
+            }
+            int packedRolled = ScoreTable.pack(dice, 0, rerolled);
+            Move second = DecisionEngine.decide(scoreCard, FIRST_KEEPS[sample], FIRST_KEEPS[sample] + packedRolled, 1);
+            assertEquals(position + ", second roll " + ScoreTable.toList(packedRolled) + " after keeping "
+                    + ScoreTable.toList(FIRST_KEEPS[sample]), SECOND_KEEPS[sample], second.getKeep());
+            assertTargetsOpenCategory(position, openMask, second);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.yahtzee.Model;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round-trip tests of the binary replay written by {@link ReplayRecorder} and read by {@link Replay}.
+ */
+public class ReplayTest {
+
+    /**
+     * Sink keeping the events of a game and the scorecard at the start of every round.
+     */
+    private static final class Recording implements GameEventSink {
+
+        private final GameEngine engine;
+        private final List<GameEvent> events = new ArrayList<>();
+        private final Map<Integer, ScoreCardState> statesAtRound = new HashMap<>();
+
+        private Recording(GameEngine engine) {
+            this.engine = engine;
+            statesAtRound.put(engine.getRoundNumber(), engine.getScoreCard().getState());
+        }
+
+        @Override
+        public void onTurnStart(TurnStartEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onRoll(RollEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onKeep(KeepEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onScore(ScoreEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onRoundEnd(RoundEndEvent event) {
+            events.add(event);
+            statesAtRound.put(event.getRound() + 1, engine.getScoreCard().getState());
+        }
+
+        private List<GameEvent> eventsOfRound(int round) {
+            List<GameEvent> roundEvents = new ArrayList<>();
+            for (GameEvent event : events) {
+                if (event.getRound() == round) {
+                    roundEvents.add(event);
+                }
+            }
+            return roundEvents;
+        }
+    }
+
+    /**
+     * Describes events by their type, round, player and log message, which together hold all their fields.
+     *
+     * @param events The events.
+     * @return One description per event.
+     */
+    private static List<String> describe(List<GameEvent> events) {
+        List<String> descriptions = new ArrayList<>();
+        for (GameEvent event : events) {
+            descriptions.add(event.getClass().getSimpleName() + " " + event.getRound() + " " + event.getPlayer() + ": " + event);
+        }
+        return descriptions;
+    }
+
+    @Test
+    public void replay_restoresRecordedGame() throws IOException {
+        GameEngine engine = TestGames.newGame(11);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Recording recording = new Recording(engine);
+        ReplayRecorder recorder = new ReplayRecorder(engine, out, 3);
+        engine.addSink(recording);
+        engine.addSink(recorder);
+        Simulator.playGame(engine);
+        recorder.close();
+
+        Replay replay = new Replay(ByteBuffer.wrap(out.toByteArray()));
+
+        assertEquals(11, replay.getSeed());
+        assertEquals("First", replay.getPlayerName(0));
+        assertEquals("Second", replay.getPlayerName(1));
+        assertEquals(describe(recording.events), describe(replay.getEvents()));
+        assertEquals(engine.getRoundNumber(), replay.getLastRound());
+        for (int round = replay.getFirstRound(); round <= replay.getLastRound(); round++) {
+            assertEquals("Round " + round, recording.statesAtRound.get(round), replay.getStateAtRound(round));
+            assertEquals("Round " + round, describe(recording.eventsOfRound(round)), describe(replay.getEvents(round)));
+        }
+    }
+
+    @Test
+    public void replay_readsUnclosedRecording() {
+        GameEngine engine = TestGames.newGame(12);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Recording recording = new Recording(engine);
+        engine.addSink(recording);
+        engine.addSink(new ReplayRecorder(engine, out, 2));
+        while (engine.getRoundNumber() < 6) {
+            if (engine.getPhase() == GameEngine.Phase.ROUND_OVER) {
+                engine.startNextRound();
+            } else {
+                engine.playComputerTurn();
+            }
+        }
+
+        Replay replay = new Replay(ByteBuffer.wrap(out.toByteArray()));
+
+        assertEquals(describe(recording.events), describe(replay.getEvents()));
+        assertEquals(recording.statesAtRound.get(5), replay.getStateAtRound(5));
+        assertEquals(describe(recording.eventsOfRound(4)), describe(replay.getEvents(4)));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.yahtzee.Model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests of {@link ScoreTable} and {@link Category} against the scoring rules of the scorecard.
+ */
+public class ScoreTableTest {
+
+    /**
+     * Scores dice by the rules of the scorecard, one category at a time, without the table.
+     *
+     * @param category   The category.
+     * @param diceValues The dice, in any order.
+     * @return The points the dice score in the category.
+     */
+    private static int rulePoints(Category category, List<Integer> diceValues) {
+        int[] counts = new int[7];
+        int sum = 0;
+        for (int value : diceValues) {
+            counts[value]++;
+            sum += value;
+        }
+        int maxCount = 0;
+        boolean hasTwo = false;
+        boolean hasThree = false;
+        for (int face = 1; face <= 6; face++) {
+            maxCount = Math.max(maxCount, counts[face]);
+            hasTwo |= counts[face] == 2;
+            hasThree |= counts[face] == 3;
+        }
+        switch (category) {
+            case THREE_OF_A_KIND:
+                return maxCount >= 3 ? sum : 0;
+            case FOUR_OF_A_KIND:
+                return maxCount >= 4 ? sum : 0;
+            case FULL_HOUSE:
+                return hasThree && hasTwo ? 25 : 0;
+            case FOUR_STRAIGHT:
+                for (int low = 1; low <= 3; low++) {
+                    if (counts[low] > 0 && counts[low + 1] > 0 && counts[low + 2] > 0 && counts[low + 3] > 0) {
+                        return 30;
+                    }
+                }
+                return 0;
+            case FIVE_STRAIGHT:
+                List<Integer> sorted = new ArrayList<>(diceValues);
+                Collections.sort(sorted);
+                return sorted.equals(Arrays.asList(1, 2, 3, 4, 5)) || sorted.equals(Arrays.asList(2, 3, 4, 5, 6)) ? 40 : 0;
+            case YAHTZEE:
+                return maxCount >= 5 ? 50 : 0;
+            default:
+                int face = category.getFace();
+                return counts[face] * face;
+        }
+    }
+
+    @Test
+    public void score_matchesRulesForEveryRoll() {
+        for (int roll = 0; roll < 7776; roll++) {
+            List<Integer> diceValues = new ArrayList<>();
+            for (int die = 0, rest = roll; die < 5; die++, rest /= 6) {
+                diceValues.add(rest % 6 + 1);
+            }
+            int hand = ScoreTable.indexOf(ScoreTable.pack(diceValues));
+            assertTrue("No hand for " + diceValues, hand >= 0);
+            for (Category category : Category.values()) {
+                int expected = rulePoints(category, diceValues);
+                String message = category + " of " + diceValues;
+                assertEquals(message, expected, ScoreTable.score(category.ordinal(), hand));
+                assertEquals(message, expected, category.points(diceValues));
+                assertEquals(message, expected, ScoreCard.calculatePoints(category.getDisplayName(), diceValues));
+            }
+        }
+    }
+
+    @Test
+    public void scoreOf_matchesRulesForFewerDice() {
+        for (int size = 0; size < 5; size++) {
+            int rolls = (int) Math.pow(6, size);
+            for (int roll = 0; roll < rolls; roll++) {
+                List<Integer> diceValues = new ArrayList<>();
+                for (int die = 0, rest = roll; die < size; die++, rest /= 6) {
+                    diceValues.add(rest % 6 + 1);
+                }
+                int packed = ScoreTable.pack(diceValues);
+                assertTrue(ScoreTable.indexOf(packed) < 0);
+                for (Category category : Category.values()) {
+                    assertEquals(category + " of " + diceValues, rulePoints(category, diceValues),
+                            ScoreTable.scoreOf(category.ordinal(), packed));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void handAt_enumeratesEveryHandOnce() {
+        for (int hand = 0; hand < ScoreTable.HAND_COUNT; hand++) {
+            int packed = ScoreTable.handAt(hand);
+            assertEquals(hand, ScoreTable.indexOf(packed));
+            assertEquals(5, ScoreTable.toList(packed).size());
+            assertEquals(packed, ScoreTable.pack(ScoreTable.toList(packed)));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.yahtzee.Model;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests of the binary and legacy text save formats of {@link Serialization}.
+ */
+public class SerializationTest {
+
+    /**
+     * Plays a seeded game between two computers up to the middle of a turn in the second round.
+     *
+     * @return The engine, with one roll made in the current turn.
+     */
+    private static GameEngine gameInProgress() {
+        GameEngine engine = TestGames.newGame(42);
+        while (engine.getRoundNumber() < 2 || engine.getPhase() == GameEngine.Phase.ROUND_OVER) {
+            if (engine.getPhase() == GameEngine.Phase.ROUND_OVER) {
+                engine.startNextRound();
+            } else {
+                engine.playComputerTurn();
+            }
+        }
+        engine.playComputerTurn();
+        engine.roll();
+        return engine;
+    }
+
+    @Test
+    public void decode_restoresEncodedGame() {
+        GameEngine engine = gameInProgress();
+        byte[] data = Serialization.encode(engine);
+
+        GameEngine decoded = Serialization.decode(ByteBuffer.wrap(data));
+
+        assertEquals(engine.getScoreCard().getState(), decoded.getScoreCard().getState());
+        assertEquals(engine.getRoundNumber(), decoded.getRoundNumber());
+        assertEquals(engine.getFirstPlayer().getName(), decoded.getFirstPlayer().getName());
+        assertEquals(engine.getCurrentPlayer().getName(), decoded.getCurrentPlayer().getName());
+        assertEquals(engine.getPhase(), decoded.getPhase());
+        assertEquals(engine.getRollCount(), decoded.getRollCount());
+        assertEquals(engine.getCurrentDice(), decoded.getCurrentDice());
+        assertEquals(engine.getDice().getSeed(), decoded.getDice().getSeed());
+        assertEquals(engine.getDice().getDrawCount(), decoded.getDice().getDrawCount());
+        assertArrayEquals(data, Serialization.encode(decoded));
+    }
+
+    @Test
+    public void decode_rejectsEveryFlippedPayloadByte() {
+        byte[] data = Serialization.encode(gameInProgress());
+        for (int i = Serialization.HEADER_SIZE; i < data.length; i++) {
+            byte[] corrupted = data.clone();
+            corrupted[i] ^= 0x10;
+            try {
+                Serialization.decode(ByteBuffer.wrap(corrupted));
+                fail("Accepted a save with byte " + i + " flipped.");
+            } catch (IllegalArgumentException expected) {
+                // The checksum no longer matches.
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_rejectsTruncatedPayload() {
+        byte[] data = Serialization.encode(gameInProgress());
+        Serialization.decode(ByteBuffer.wrap(Arrays.copyOf(data, data.length - 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_rejectsTruncatedHeader() {
+        byte[] data = Serialization.encode(gameInProgress());
+        Serialization.decode(ByteBuffer.wrap(Arrays.copyOf(data, Serialization.HEADER_SIZE - 1)));
+    }
+
+    /**
+     * Builds a text save of round 3 in which the human scored 3 Aces in round 1 and the computer 40 points in
+     * Five Straight in round 2.
+     *
+     * @param categoryLines The number of category lines to write, 12 for a complete save.
+     * @return The content of the save.
+     */
+    private static BufferedReader legacySave(int categoryLines) {
+        StringBuilder text = new StringBuilder("Round: 3\n\nScorecard:\n");
+        for (int i = 0; i < categoryLines; i++) {
+            if (i == Category.ACES.ordinal()) {
+                text.append("3 Human 1\n");
+            } else if (i == Category.FIVE_STRAIGHT.ordinal()) {
+                text.append("40 Computer 2\n");
+            } else {
+                text.append("0\n");
+            }
+        }
+        return new BufferedReader(new StringReader(text.toString()));
+    }
+
+    @Test
+    public void decodeLegacy_readsTextSave() throws IOException {
+        GameState game = new GameState();
+
+        Serialization.decodeLegacy(legacySave(12), game);
+
+        assertEquals(3, game.getRoundNumber());
+        assertEquals(3, game.getScoreCard().getTotalScore("Human"));
+        assertEquals(40, game.getScoreCard().getTotalScore("Computer"));
+        assertFalse(game.getScoreCard().isCategoryAvailable(Category.FIVE_STRAIGHT));
+        assertTrue(game.getScoreCard().isCategoryAvailable(Category.YAHTZEE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeLegacy_rejectsTruncatedSave() throws IOException {
+        Serialization.decodeLegacy(legacySave(5), new GameState());
+    }
+
+    @Test
+    public void decodeLegacy_rejectsMalformedLineAndKeepsGame() throws IOException {
+        GameState game = new GameState();
+        BufferedReader reader = new BufferedReader(new StringReader("Round: 3\n\nScorecard:\n3 Human\n"));
+        try {
+            Serialization.decodeLegacy(reader, game);
+            fail("Accepted a score line without a round.");
+        } catch (IllegalArgumentException expected) {
+            // The first category line has two fields instead of three.
+        }
+        assertEquals(new ScoreCardState(), game.getScoreCard().getState());
+        assertEquals(1, game.getRoundNumber());
+    }
+}
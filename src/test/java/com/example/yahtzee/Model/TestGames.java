@@ -0,0 +1,22 @@
+package com.example.yahtzee.Model;
+
+/**
+ * Games shared by the unit tests.
+ */
+final class TestGames {
+
+    private TestGames() {
+    }
+
+    /**
+     * Creates a game between two computers playing the built-in heuristics, at the start of its first turn.
+     *
+     * @param seed The seed of the dice.
+     * @return The engine of the game.
+     */
+    static GameEngine newGame(long seed) {
+        Computer first = new Computer("First", null);
+        Computer second = new Computer("Second", null);
+        return new GameEngine(new GameState(new ScoreCard(first.getName(), second.getName())), first, second, new Dice(seed));
+    }
+}